@@ -24,10 +24,15 @@ import reactor.core.util.Exceptions;
 import reactor.io.netty.http.HttpException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 public final class CloudFoundryExceptionBuilder {
 
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private CloudFoundryExceptionBuilder() {
@@ -54,7 +59,7 @@ public final class CloudFoundryExceptionBuilder {
     }
 
     /**
-     * Build a {@link CloudFoundryException} from an {@link HttpException}
+     * Build a {@link CloudFoundryException} from an {@link HttpException}.  A {@code gzip} or {@code deflate} encoded response body is inflated before it is read.
      *
      * @param cause the cause
      * @param <T>   The type of the {@link Mono}
@@ -62,10 +67,12 @@ public final class CloudFoundryExceptionBuilder {
      */
     @SuppressWarnings("unchecked")
     public static <T> Mono<T> build(HttpException cause) {
+        String contentEncoding = cause.getChannel().responseHeaders().get(CONTENT_ENCODING);
+
         return cause.getChannel().receive().aggregate().toInputStream()
             .then(in -> {
                 try {
-                    Map<String, ?> response = OBJECT_MAPPER.readValue(in, Map.class);
+                    Map<String, ?> response = OBJECT_MAPPER.readValue(decode(in, contentEncoding), Map.class);
                     Integer code = (Integer) response.get("code");
                     String description = (String) response.get("description");
                     String errorCode = (String) response.get("error_code");
@@ -77,4 +84,21 @@ public final class CloudFoundryExceptionBuilder {
             });
     }
 
+    static InputStream decode(InputStream in, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return in;
+        }
+
+        switch (contentEncoding.trim().toLowerCase()) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(in);
+            case "deflate":
+            case "x-deflate":
+                return new InflaterInputStream(in);
+            default:
+                return in;
+        }
+    }
+
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client;
+
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+/**
+ * An accessor for the value of a no-argument method, resolved once to a {@link MethodHandle} so that repeated invocations avoid reflection
+ */
+public final class MethodAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final MethodHandle methodHandle;
+
+    /**
+     * Creates a new instance
+     *
+     * @param method the no-argument method to access
+     */
+    public MethodAccessor(Method method) {
+        ReflectionUtils.makeAccessible(method);
+
+        try {
+            this.methodHandle = LOOKUP.unreflect(method).asType(TYPE);
+        } catch (IllegalAccessException e) {
+            ReflectionUtils.handleReflectionException(e);
+            throw new IllegalStateException("Should never get here");
+        }
+    }
+
+    /**
+     * Returns the value of the method invoked on an instance.  Collections are rendered as a comma-delimited {@link String} of their non-empty elements, and empty collections are returned as
+     * {@code null}.
+     *
+     * @param instance the instance to invoke the method on
+     * @return the value of the method, or {@code null} if there is no value
+     */
+    public Object getValue(Object instance) {
+        Object value = invoke(instance);
+
+        if (!(value instanceof Collection)) {
+            return value;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (Object o : (Collection<?>) value) {
+            if (ObjectUtils.isEmpty(o)) {
+                continue;
+            }
+
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(o);
+        }
+
+        return sb.length() == 0 ? null : sb.toString();
+    }
+
+    private Object invoke(Object instance) {
+        try {
+            return (Object) this.methodHandle.invokeExact(instance);
+        } catch (Throwable t) {
+            ReflectionUtils.rethrowRuntimeException(t);
+            throw new IllegalStateException("Should never get here");
+        }
+    }
+
+}
@@ -22,13 +22,19 @@ import org.springframework.util.ReflectionUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A builder for Cloud Foundry queries
  */
 public final class QueryBuilder {
 
+    private static final ConcurrentMap<Class<?>, List<Parameter>> PARAMETERS = new ConcurrentHashMap<>();
+
     private QueryBuilder() {
     }
 
@@ -39,22 +45,43 @@ public final class QueryBuilder {
      * @param instance the instance to inspect and invoke
      */
     public static void augment(UriComponentsBuilder builder, Object instance) {
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
+        for (Parameter parameter : PARAMETERS.computeIfAbsent(instance.getClass(), QueryBuilder::getParameters)) {
+            Object value = parameter.accessor.getValue(instance);
+
+            if (value != null) {
+                builder.queryParam(parameter.name, value);
+            }
+        }
+    }
+
+    private static List<Parameter> getParameters(Class<?> type) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(type);
         Arrays.sort(methods, MethodNameComparator.INSTANCE);
 
+        List<Parameter> parameters = new ArrayList<>();
         for (Method method : methods) {
             QueryParameter queryParameter = AnnotationUtils.getAnnotation(method, QueryParameter.class);
             if (queryParameter == null) {
                 continue;
             }
 
-            ReflectionUtils.makeAccessible(method);
-            Object value = ReflectionUtils.invokeMethod(method, instance);
+            parameters.add(new Parameter(new MethodAccessor(method), queryParameter.value()));
+        }
+
+        return parameters;
+    }
 
-            if (value != null) {
-                builder.queryParam(queryParameter.value(), value);
-            }
+    private static final class Parameter {
+
+        private final MethodAccessor accessor;
+
+        private final String name;
+
+        private Parameter(MethodAccessor accessor, String name) {
+            this.accessor = accessor;
+            this.name = name;
         }
+
     }
 
 }
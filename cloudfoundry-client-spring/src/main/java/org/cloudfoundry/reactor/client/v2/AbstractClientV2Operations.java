@@ -18,13 +18,17 @@ package org.cloudfoundry.reactor.client.v2;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cloudfoundry.Validatable;
+import org.cloudfoundry.client.v2.PaginatedResponse;
+import org.cloudfoundry.client.v2.Resource;
 import org.cloudfoundry.reactor.client.CloudFoundryExceptionBuilder;
 import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
 import org.cloudfoundry.reactor.util.MultipartHttpOutbound;
+import org.cloudfoundry.reactor.util.ResponseCache;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.tuple.Tuple;
 import reactor.core.tuple.Tuple2;
@@ -42,6 +46,10 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    protected AbstractClientV2Operations(AuthorizationProvider authorizationProvider, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root, ResponseCache responseCache) {
+        super(authorizationProvider, httpClient, objectMapper, root, responseCache);
+    }
+
     protected final <REQ extends Validatable, RSP> Mono<RSP> delete(REQ request, Class<RSP> responseType, Function<Tuple2<UriComponentsBuilder, REQ>, UriComponentsBuilder> uriTransformer) {
         return doDelete(request, responseType, getUriAugmenter(uriTransformer), function((outbound, validRequest) -> outbound))
             .otherwise(ExceptionUtils.replace(HttpException.class, CloudFoundryExceptionBuilder::build));
@@ -57,6 +65,13 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
             .otherwise(ExceptionUtils.replace(HttpException.class, CloudFoundryExceptionBuilder::build));
     }
 
+    protected final <REQ extends Validatable, RSP extends PaginatedResponse<R>, R extends Resource<?>> Mono<Tuple2<RSP, Flux<R>>> getStreaming(
+        REQ request, Class<RSP> responseType, Class<R> resourceType, Function<Tuple2<UriComponentsBuilder, REQ>, UriComponentsBuilder> uriTransformer) {
+
+        return doGetStreaming(request, responseType, "resources", resourceType, getUriAugmenter(uriTransformer), function((outbound, validRequest) -> outbound))
+            .otherwise(ExceptionUtils.replace(HttpException.class, CloudFoundryExceptionBuilder::build));
+    }
+
     protected final <REQ extends Validatable, RSP> Mono<RSP> post(REQ request, Class<RSP> responseType, Function<Tuple2<UriComponentsBuilder, REQ>, UriComponentsBuilder> uriTransformer) {
         return doPost(request, responseType, getUriAugmenter(uriTransformer), function((outbound, validRequest) -> outbound))
             .otherwise(ExceptionUtils.replace(HttpException.class, CloudFoundryExceptionBuilder::build));
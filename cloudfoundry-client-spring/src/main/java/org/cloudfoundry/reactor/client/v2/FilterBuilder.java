@@ -17,25 +17,27 @@
 package org.cloudfoundry.reactor.client.v2;
 
 import org.cloudfoundry.client.v2.FilterParameter;
+import org.cloudfoundry.reactor.client.MethodAccessor;
 import org.cloudfoundry.reactor.client.MethodNameComparator;
 import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
-import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A builder for Cloud Foundry V2 filters
  */
 public final class FilterBuilder {  // TODO: reduce visibility once Spring is gone
 
+    private static final ConcurrentMap<Class<?>, List<Filter>> FILTERS = new ConcurrentHashMap<>();
+
     private FilterBuilder() {
     }
 
@@ -46,47 +48,48 @@ public final class FilterBuilder {  // TODO: reduce visibility once Spring is go
      * @param instance the instance to inspect and invoke
      */
     public static void augment(UriComponentsBuilder builder, Object instance) {
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
+        for (Filter filter : FILTERS.computeIfAbsent(instance.getClass(), FilterBuilder::getFilters)) {
+            Object value = filter.accessor.getValue(instance);
+
+            if (value != null) {
+                builder.queryParam("q", filter.prefix + value);
+            }
+        }
+    }
+
+    private static List<Filter> getFilters(Class<?> type) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(type);
         Arrays.sort(methods, MethodNameComparator.INSTANCE);
 
+        List<Filter> filters = new ArrayList<>();
         for (Method method : methods) {
             for (Annotation annotation : AnnotationUtils.getAnnotations(method)) {
                 if (AnnotationUtils.isAnnotationMetaPresent(annotation.getClass(), FilterParameter.class)) {
-                    Object value = getValue(method, instance);
-
-                    if (value != null) {
-                        FilterParameter filterParameter = AnnotationUtils.getAnnotation(annotation, FilterParameter.class);
-
-                        Object name = AnnotationUtils.getValue(annotation);
-                        String operation = filterParameter.operator();
+                    FilterParameter filterParameter = AnnotationUtils.getAnnotation(annotation, FilterParameter.class);
 
-                        builder.queryParam("q", String.format("%s%s%s", name, operation, value));
-                    }
+                    Object name = AnnotationUtils.getValue(annotation);
+                    String operation = filterParameter.operator();
 
+                    filters.add(new Filter(new MethodAccessor(method), String.format("%s%s", name, operation)));
                     break;
                 }
             }
         }
+
+        return filters;
     }
 
-    @SuppressWarnings("unchecked")
-    private static Object getValue(Method method, Object instance) {
-        ReflectionUtils.makeAccessible(method);
-        Object value = ReflectionUtils.invokeMethod(method, instance);
+    private static final class Filter {
 
-        if (!(value instanceof Collection)) {
-            return value;
-        }
+        private final MethodAccessor accessor;
 
-        List<?> collection = (List<?>) ((Collection) value).stream()
-            .filter(o -> !ObjectUtils.isEmpty(o))
-            .collect(Collectors.toList());
+        private final String prefix;
 
-        if (collection.isEmpty()) {
-            return null;
+        private Filter(MethodAccessor accessor, String prefix) {
+            this.accessor = accessor;
+            this.prefix = prefix;
         }
 
-        return StringUtils.collectionToCommaDelimitedString(collection);
     }
 
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client.v2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudfoundry.Validatable;
+import org.cloudfoundry.client.v2.PaginatedRequest;
+import org.cloudfoundry.client.v2.PaginatedResponse;
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.tuple.Tuple2;
+import reactor.io.netty.http.HttpClient;
+
+import static org.cloudfoundry.util.tuple.TupleUtils.function;
+
+/**
+ * Opt-in streaming access to Cloud Foundry V2 list endpoints.  Rather than materializing every resource in a page before emitting the page, the resources are decoded and emitted one at a time
+ * as they are requested, while the pagination metadata of the page is made available alongside them.
+ */
+public final class ReactorResourceStreams extends AbstractClientV2Operations {
+
+    /**
+     * Creates an instance
+     *
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     * @param httpClient            the {@link HttpClient} to use when communicating with the server
+     * @param objectMapper          the {@link ObjectMapper} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     */
+    public ReactorResourceStreams(AuthorizationProvider authorizationProvider, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root) {
+        super(authorizationProvider, httpClient, objectMapper, root);
+    }
+
+    /**
+     * Lists a page of resources as a stream.  The response emitted carries the pagination metadata of the page, with an empty list of resources.  The resources of the page are emitted by the accompanying
+     * {@link Flux}, which must be subscribed to exactly once so that the underlying response body is released.
+     *
+     * @param request      the list request
+     * @param responseType the type of the list response
+     * @param resourceType the type of the resources listed
+     * @param pathSegments the path segments of the list endpoint, e.g. {@code "v2", "routes"}
+     * @param <REQ>        the type of the list request
+     * @param <RSP>        the type of the list response
+     * @param <R>          the type of the resources listed
+     * @return the pagination metadata of the page and a stream of its resources
+     */
+    public <REQ extends PaginatedRequest & Validatable, RSP extends PaginatedResponse<R>, R extends Resource<?>> Mono<Tuple2<RSP, Flux<R>>> list(REQ request, Class<RSP> responseType,
+                                                                                                                                                 Class<R> resourceType, String... pathSegments) {
+        return getStreaming(request, responseType, resourceType, function((builder, validRequest) -> builder.pathSegment(pathSegments)));
+    }
+
+}
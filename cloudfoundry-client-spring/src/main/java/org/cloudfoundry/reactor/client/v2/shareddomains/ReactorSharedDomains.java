@@ -24,6 +24,7 @@ import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsResponse;
 import org.cloudfoundry.client.v2.shareddomains.SharedDomains;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ResponseCache;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -46,6 +47,19 @@ public final class ReactorSharedDomains extends AbstractClientV2Operations imple
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     * @param httpClient            the {@link HttpClient} to use when communicating with the server
+     * @param objectMapper          the {@link ObjectMapper} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param responseCache         the {@link ResponseCache} to serve and revalidate {@code GET} responses from, or {@code null} for no caching
+     */
+    public ReactorSharedDomains(AuthorizationProvider authorizationProvider, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root, ResponseCache responseCache) {
+        super(authorizationProvider, httpClient, objectMapper, root, responseCache);
+    }
+
     @Override
     public Mono<CreateSharedDomainResponse> create(CreateSharedDomainRequest request) {
         return post(request, CreateSharedDomainResponse.class, function((builder, validRequest) -> builder.pathSegment("v2", "shared_domains")));
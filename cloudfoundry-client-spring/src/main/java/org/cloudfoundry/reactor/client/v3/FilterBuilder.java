@@ -17,21 +17,24 @@
 package org.cloudfoundry.reactor.client.v3;
 
 import org.cloudfoundry.client.v3.FilterParameter;
+import org.cloudfoundry.reactor.client.MethodAccessor;
 import org.cloudfoundry.reactor.client.MethodNameComparator;
 import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public final class FilterBuilder {
 
+    private static final ConcurrentMap<Class<?>, List<Filter>> FILTERS = new ConcurrentHashMap<>();
+
     private FilterBuilder() {
     }
 
@@ -41,40 +44,44 @@ public final class FilterBuilder {
      * @param builder  the builder to augment
      * @param instance the instance to inspect and invoke
      */
-    @SuppressWarnings("unchecked")
     public static void augment(UriComponentsBuilder builder, Object instance) {
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
+        for (Filter filter : FILTERS.computeIfAbsent(instance.getClass(), FilterBuilder::getFilters)) {
+            Object value = filter.accessor.getValue(instance);
+
+            if (value != null && StringUtils.hasText(value.toString())) {
+                builder.queryParam(filter.name, value);
+            }
+        }
+    }
+
+    private static List<Filter> getFilters(Class<?> type) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(type);
         Arrays.sort(methods, MethodNameComparator.INSTANCE);
 
+        List<Filter> filters = new ArrayList<>();
         for (Method method : methods) {
             FilterParameter filterParameter = AnnotationUtils.getAnnotation(method, FilterParameter.class);
             if (filterParameter == null) {
                 continue;
             }
 
-            String value = getValue(method, instance);
-            if (StringUtils.hasText(value)) {
-                builder.queryParam(filterParameter.value(), value);
-            }
+            filters.add(new Filter(new MethodAccessor(method), filterParameter.value()));
         }
+
+        return filters;
     }
 
-    @SuppressWarnings("unchecked")
-    private static String getValue(Method method, Object instance) {
-        ReflectionUtils.makeAccessible(method);
-        Object value = ReflectionUtils.invokeMethod(method, instance);
-
-        if (value == null) {
-            return "";
-        } else if (value instanceof Collection) {
-            List<?> collection = (List<?>) ((Collection) value).stream()
-                .filter(o -> !ObjectUtils.isEmpty(o))
-                .collect(Collectors.toList());
-
-            return StringUtils.collectionToCommaDelimitedString(collection);
-        } else {
-            return value.toString();
+    private static final class Filter {
+
+        private final MethodAccessor accessor;
+
+        private final String name;
+
+        private Filter(MethodAccessor accessor, String name) {
+            this.accessor = accessor;
+            this.name = name;
         }
+
     }
 
 }
@@ -17,7 +17,9 @@
 package org.cloudfoundry.reactor.doppler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
 import lombok.Builder;
+import okio.Buffer;
 import org.cloudfoundry.doppler.ContainerMetric;
 import org.cloudfoundry.doppler.ContainerMetricsRequest;
 import org.cloudfoundry.doppler.CounterEvent;
@@ -72,7 +74,7 @@ public final class ReactorDopplerClient extends AbstractDopplerOperations implem
     @Override
     public Flux<Event> firehose(FirehoseRequest request) {
         return ws(request, function((builder, validRequest) -> builder.pathSegment("firehose", validRequest.getSubscriptionId())))
-            .flatMap(HttpInbound::receiveInputStream)
+            .flatMap(HttpInbound::receive)
             .map(ReactorDopplerClient::toEnvelope)
             .map(ReactorDopplerClient::toEvent);
     }
@@ -88,11 +90,28 @@ public final class ReactorDopplerClient extends AbstractDopplerOperations implem
     @Override
     public Flux<Event> stream(StreamRequest request) {
         return ws(request, function((builder, validRequest) -> builder.pathSegment("apps", validRequest.getApplicationId(), "stream")))
-            .flatMap(HttpInbound::receiveInputStream)
+            .flatMap(HttpInbound::receive)
             .map(ReactorDopplerClient::toEnvelope)
             .map(ReactorDopplerClient::toEvent);
     }
 
+    private static Envelope toEnvelope(ByteBuf buffer) {
+        try {
+            // Wire only decodes from okio sources, so each frame is copied once into recycled okio segments
+            Buffer source = new Buffer();
+
+            if (buffer.hasArray()) {
+                source.write(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes());
+            } else {
+                buffer.getBytes(buffer.readerIndex(), source.outputStream(), buffer.readableBytes());
+            }
+
+            return Envelope.ADAPTER.decode(source);
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
     private static Envelope toEnvelope(InputStream inputStream) {
         try (InputStream in = inputStream) {
             return Envelope.ADAPTER.decode(in);
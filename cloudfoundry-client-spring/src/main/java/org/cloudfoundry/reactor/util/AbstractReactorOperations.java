@@ -19,6 +19,7 @@ package org.cloudfoundry.reactor.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.util.AsciiString;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.util.ValidationUtils;
@@ -26,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.tuple.Tuple;
 import reactor.core.tuple.Tuple2;
@@ -35,34 +37,56 @@ import reactor.io.netty.http.HttpInbound;
 import reactor.io.netty.http.HttpOutbound;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 
 public abstract class AbstractReactorOperations {
 
+    protected static final AsciiString APPLICATION_JSON = new AsciiString("application/json");
+
     protected static final AsciiString APPLICATION_ZIP = new AsciiString("application/zip");
 
     protected static final AsciiString CONTENT_TYPE = new AsciiString("Content-Type");
 
+    private static final AsciiString ACCEPT_ENCODING = new AsciiString("Accept-Encoding");
+
     private static final String CF_WARNINGS = "X-Cf-Warnings";
 
+    private static final AsciiString COMPRESSION_ENCODINGS = new AsciiString("gzip, deflate");
+
+    private static final AsciiString ETAG = new AsciiString("ETag");
+
+    private static final AsciiString IF_MODIFIED_SINCE = new AsciiString("If-Modified-Since");
+
+    private static final AsciiString IF_NONE_MATCH = new AsciiString("If-None-Match");
+
+    private static final AsciiString LAST_MODIFIED = new AsciiString("Last-Modified");
+
     private final AuthorizationProvider authorizationProvider;
 
     private final HttpClient httpClient;
 
-    private final ObjectMapper objectMapper;
+    private final JsonCodec jsonCodec;
 
     private final Logger requestLogger = LoggerFactory.getLogger("cloudfoundry-client.request");
 
+    private final Optional<ResponseCache> responseCache;
+
     private final Logger responseLogger = LoggerFactory.getLogger("cloudfoundry-client.response");
 
     private final Mono<String> root;
 
     protected AbstractReactorOperations(AuthorizationProvider authorizationProvider, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root) {
+        this(authorizationProvider, httpClient, objectMapper, root, null);
+    }
+
+    protected AbstractReactorOperations(AuthorizationProvider authorizationProvider, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root, ResponseCache responseCache) {
         this.authorizationProvider = authorizationProvider;
         this.httpClient = httpClient;
-        this.objectMapper = objectMapper;
+        this.jsonCodec = new JsonCodec(objectMapper);
+        this.responseCache = Optional.ofNullable(responseCache);
         this.root = root;
     }
 
@@ -71,6 +95,7 @@ public abstract class AbstractReactorOperations {
         return prepareRequest(request, uriTransformer)
             .then(function((validRequest, uri) -> this.httpClient.delete(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
                 .map(o -> requestTransformer.apply(Tuple.of(o, validRequest)))
+                .map(this::addAcceptEncoding)
                 .then(o -> o.send(serializedRequest(o, validRequest))))
                 .doOnSubscribe(s -> this.requestLogger.debug("DELETE {}", uri))
                 .compose(logResponse(uri))))
@@ -79,7 +104,11 @@ public abstract class AbstractReactorOperations {
 
     protected final <REQ extends Validatable, RSP> Mono<RSP> doGet(REQ request, Class<RSP> responseType, Function<Tuple2<UriComponentsBuilder, REQ>, UriComponentsBuilder> uriTransformer,
                                                                    Function<Tuple2<HttpOutbound, REQ>, HttpOutbound> requestTransformer) {
-        return doGet(request, uriTransformer, requestTransformer)
+        if (this.responseCache.isPresent()) {
+            return doGetCached(request, responseType, uriTransformer, requestTransformer, this.responseCache.get());
+        }
+
+        return doGet(request, uriTransformer, requestTransformer.andThen(this::addAcceptEncoding))
             .compose(deserializedResponse(responseType));
     }
 
@@ -93,11 +122,20 @@ public abstract class AbstractReactorOperations {
                 .compose(logResponse(uri))));
     }
 
+    protected final <REQ extends Validatable, RSP, E> Mono<Tuple2<RSP, Flux<E>>> doGetStreaming(REQ request, Class<RSP> responseType, String field, Class<E> elementType,
+                                                                                                Function<Tuple2<UriComponentsBuilder, REQ>, UriComponentsBuilder> uriTransformer,
+                                                                                                Function<Tuple2<HttpOutbound, REQ>, HttpOutbound> requestTransformer) {
+        return doGet(request, uriTransformer, requestTransformer.andThen(this::addAcceptEncoding))
+            .then(JsonCodec::receive)
+            .map(this.jsonCodec.decodeStreaming(responseType, field, elementType));
+    }
+
     protected final <REQ extends Validatable, RSP> Mono<RSP> doPatch(REQ request, Class<RSP> responseType, Function<Tuple2<UriComponentsBuilder, REQ>, UriComponentsBuilder> uriTransformer,
                                                                      Function<Tuple2<HttpOutbound, REQ>, HttpOutbound> requestTransformer) {
         return prepareRequest(request, uriTransformer)
             .then(function((validRequest, uri) -> this.httpClient.patch(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
                 .map(o -> requestTransformer.apply(Tuple.of(o, validRequest)))
+                .map(this::addAcceptEncoding)
                 .then(o -> o.send(serializedRequest(o, validRequest))))
                 .doOnSubscribe(s -> this.requestLogger.debug("PATCH  {}", uri))
                 .compose(logResponse(uri))))
@@ -115,6 +153,7 @@ public abstract class AbstractReactorOperations {
                                                                             Function<Tuple2<HttpOutbound, REQ>, Mono<Void>> requestTransformer) {
         return prepareRequest(request, uriTransformer)
             .then(function((validRequest, uri) -> this.httpClient.post(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
+                .map(this::addAcceptEncoding)
                 .then(o -> requestTransformer.apply(Tuple.of(o, validRequest))))
                 .doOnSubscribe(s -> this.requestLogger.debug("POST   {}", uri))
                 .compose(logResponse(uri))))
@@ -126,6 +165,7 @@ public abstract class AbstractReactorOperations {
         return prepareRequest(request, uriTransformer)
             .then(function((validRequest, uri) -> this.httpClient.put(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
                 .map(o -> requestTransformer.apply(Tuple.of(o, validRequest)))
+                .map(this::addAcceptEncoding)
                 .then(o -> o.send(serializedRequest(o, validRequest))))
                 .doOnSubscribe(s -> this.requestLogger.debug("PUT    {}", uri))
                 .compose(logResponse(uri))))
@@ -136,6 +176,7 @@ public abstract class AbstractReactorOperations {
                                                                            Function<Tuple2<HttpOutbound, REQ>, Mono<Void>> requestTransformer) {
         return prepareRequest(request, uriTransformer)
             .then(function((validRequest, uri) -> this.httpClient.put(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
+                .map(this::addAcceptEncoding)
                 .then(o -> requestTransformer.apply(Tuple.of(o, validRequest))))
                 .doOnSubscribe(s -> this.requestLogger.debug("PUT    {}", uri))
                 .compose(logResponse(uri))))
@@ -152,6 +193,19 @@ public abstract class AbstractReactorOperations {
                 .compose(logResponse(uri))));
     }
 
+    private HttpOutbound addAcceptEncoding(HttpOutbound outbound) {
+        return this.authorizationProvider.isCompressionEnabled() ? outbound.addHeader(ACCEPT_ENCODING, COMPRESSION_ENCODINGS) : outbound;
+    }
+
+    private static HttpOutbound addValidators(HttpOutbound outbound, ResponseCache.Entry entry) {
+        if (entry != null) {
+            entry.getEtag().ifPresent(etag -> outbound.addHeader(IF_NONE_MATCH, etag));
+            entry.getLastModified().ifPresent(lastModified -> outbound.addHeader(IF_MODIFIED_SINCE, lastModified));
+        }
+
+        return outbound;
+    }
+
     private static <REQ extends Validatable> String buildUri(String root, REQ validRequest, Function<Tuple2<UriComponentsBuilder, REQ>, UriComponentsBuilder> uriTransformer) {
         return uriTransformer
             .apply(Tuple.of(UriComponentsBuilder.fromUriString(root), validRequest))
@@ -160,8 +214,58 @@ public abstract class AbstractReactorOperations {
 
     private <RSP> Function<Mono<HttpInbound>, Mono<RSP>> deserializedResponse(Class<RSP> responseType) {
         return inbound -> inbound
-            .then(i -> i.receive().aggregate().toInputStream())
-            .map(JsonCodec.decode(this.objectMapper, responseType));
+            .then(JsonCodec::receive)
+            .map(this.jsonCodec.decode(responseType));
+    }
+
+    private <REQ extends Validatable, RSP> Mono<RSP> doGetCached(REQ request, Class<RSP> responseType, Function<Tuple2<UriComponentsBuilder, REQ>, UriComponentsBuilder> uriTransformer,
+                                                                 Function<Tuple2<HttpOutbound, REQ>, HttpOutbound> requestTransformer, ResponseCache responseCache) {
+        return prepareRequest(request, uriTransformer)
+            .then(function((validRequest, uri) -> {
+                ResponseCache.Entry entry = responseCache.get(uri, responseType);
+
+                if (entry != null && entry.isFresh()) {
+                    responseCache.hit();
+                    return Mono.just(entry.<RSP>getValue());
+                }
+
+                ResponseCache.Entry revalidatable = entry != null && entry.isRevalidatable() ? entry : null;
+
+                return this.httpClient.get(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
+                    .map(o -> requestTransformer.apply(Tuple.of(o, validRequest)))
+                    .map(o -> addValidators(o, revalidatable))
+                    .map(this::addAcceptEncoding)
+                    .then(HttpOutbound::sendHeaders))
+                    .doOnSubscribe(s -> this.requestLogger.debug("GET    {}", uri))
+                    .compose(logResponse(uri))
+                    .then(inbound -> {
+                        if (revalidatable != null && HttpResponseStatus.NOT_MODIFIED.equals(inbound.status())) {
+                            responseCache.revalidated(uri, revalidatable);
+                            return Mono.just(revalidatable.<RSP>getValue());
+                        }
+
+                        String etag = inbound.responseHeaders().get(ETAG);
+                        String lastModified = inbound.responseHeaders().get(LAST_MODIFIED);
+
+                        return JsonCodec.receive(inbound)
+                            .map(this.jsonCodec.decode(responseType))
+                            .doOnSuccess(value -> {
+                                responseCache.miss();
+
+                                if (value != null) {
+                                    responseCache.put(uri, value, etag, lastModified);
+                                }
+                            });
+                    })
+                    .otherwise(t -> {
+                        if (revalidatable != null && t instanceof HttpException && HttpResponseStatus.NOT_MODIFIED.equals(((HttpException) t).getResponseStatus())) {
+                            responseCache.revalidated(uri, revalidatable);
+                            return Mono.just(revalidatable.<RSP>getValue());
+                        }
+
+                        return Mono.error(t);
+                    });
+            }));
     }
 
     private Function<Mono<HttpInbound>, Mono<HttpInbound>> logResponse(String uri) {
@@ -190,8 +294,8 @@ public abstract class AbstractReactorOperations {
 
     private <REQ extends Validatable> Mono<ByteBuf> serializedRequest(HttpOutbound outbound, REQ validRequest) {
         return Mono.just(validRequest)
-            .where(req -> this.objectMapper.canSerialize(req.getClass()))
-            .map(JsonCodec.encode(this.objectMapper, outbound));
+            .where(req -> this.jsonCodec.canEncode(req.getClass()))
+            .map(this.jsonCodec.encode(outbound));
     }
 
 }
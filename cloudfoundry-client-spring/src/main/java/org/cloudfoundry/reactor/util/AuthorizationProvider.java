@@ -32,4 +32,13 @@ public interface AuthorizationProvider {
      */
     Mono<HttpOutbound> addAuthorization(HttpOutbound outbound);
 
+    /**
+     * Returns whether requests whose responses are decoded as JSON should ask for a compressed response
+     *
+     * @return whether to ask for compressed JSON responses, {@code false} by default
+     */
+    default boolean isCompressionEnabled() {
+        return false;
+    }
+
 }
@@ -19,6 +19,7 @@ package org.cloudfoundry.reactor.util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 import reactor.core.tuple.Tuple2;
 import reactor.io.netty.config.ClientOptions;
 import reactor.io.netty.http.HttpClient;
@@ -34,8 +35,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
-import java.util.Collections;
-import java.util.Set;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -45,16 +45,22 @@ final class DefaultSslCertificateTruster implements SslCertificateTruster {
 
     private final Logger logger = LoggerFactory.getLogger("cloudfoundry-client.trust");
 
-    private final AtomicReference<X509TrustManager> delegate;
+    private final Connector connector;
 
-    private final ProxyContext proxyContext;
+    private final AtomicReference<X509TrustManager> delegate;
 
-    private final Set<Tuple2<String, Integer>> trustedHostsAndPorts;
+    private final Map<Tuple2<String, Integer>, Mono<Void>> probes;
 
     DefaultSslCertificateTruster(ProxyContext proxyContext) {
-        this.proxyContext = proxyContext;
+        this((host, port, collector) -> getHttpClient(proxyContext, collector)
+            .get(getUri(host, port))
+            .then());
+    }
+
+    DefaultSslCertificateTruster(Connector connector) {
+        this.connector = connector;
         this.delegate = new AtomicReference<>(getTrustManager(getTrustManagerFactory(null)));
-        this.trustedHostsAndPorts = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        this.probes = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -73,23 +79,36 @@ final class DefaultSslCertificateTruster implements SslCertificateTruster {
     }
 
     @Override
-    public void trust(String host, int port, Duration duration) {
+    public Mono<Void> trust(String host, int port, Duration duration) {
         Tuple2<String, Integer> hostAndPort = Tuple2.of(host, port);
-        if (this.trustedHostsAndPorts.contains(hostAndPort)) {
-            return;
-        }
 
-        this.logger.warn("Trusting SSL Certificate for {}:{}", host, port);
+        return this.probes.computeIfAbsent(hostAndPort, key -> probe(host, port, duration)
+            .doOnError(t -> this.probes.remove(key))
+            .cache());
+    }
 
-        X509TrustManager trustManager = this.delegate.get();
-        X509Certificate[] untrustedCertificates = getUntrustedCertificates(host, port, duration, this.proxyContext, trustManager);
+    private void addCollectedCertificates(CertificateCollectingTrustManager collector) {
+        X509Certificate[] chain = collector.getCollectedCertificateChain();
+        if (chain == null) {
+            throw new IllegalStateException("Could not obtain server certificate chain");
+        }
 
-        if (untrustedCertificates != null) {
-            KeyStore trustStore = addToTrustStore(untrustedCertificates, trustManager);
-            this.delegate.set(getTrustManager(getTrustManagerFactory(trustStore)));
+        if (!collector.isTrusted()) {
+            this.delegate.updateAndGet(trustManager -> getTrustManager(getTrustManagerFactory(addToTrustStore(chain, trustManager))));
         }
+    }
 
-        this.trustedHostsAndPorts.add(hostAndPort);
+    private Mono<Void> probe(String host, int port, Duration duration) {
+        return Mono.defer(() -> {
+            this.logger.warn("Trusting SSL Certificate for {}:{}", host, port);
+
+            CertificateCollectingTrustManager collector = new CertificateCollectingTrustManager(this.delegate.get());
+
+            return this.connector.connect(host, port, collector)
+                .timeout(duration)
+                .otherwise(t -> t instanceof HttpException ? Mono.empty() : Mono.error(t))
+                .doOnSuccess(v -> addCollectedCertificates(collector));
+        });
     }
 
     private static KeyStore addToTrustStore(X509Certificate[] untrustedCertificates, X509TrustManager trustManager) {
@@ -139,31 +158,26 @@ final class DefaultSslCertificateTruster implements SslCertificateTruster {
         }
     }
 
-    private static X509Certificate[] getUntrustedCertificates(String host, int port, Duration duration, ProxyContext proxyContext, X509TrustManager delegate) {
-        CertificateCollectingTrustManager collector = new CertificateCollectingTrustManager(delegate);
-
-        try {
-            getHttpClient(proxyContext, collector)
-                .get(getUri(host, port))
-                .get(duration);
-        } catch (HttpException e) {
-            // swallow expected exception
-        }
-
-        X509Certificate[] chain = collector.getCollectedCertificateChain();
-        if (chain == null) {
-            throw new IllegalStateException("Could not obtain server certificate chain");
-        }
-
-        if (collector.isTrusted()) {
-            return null;
-        } else {
-            return chain;
-        }
-    }
-
     private static String getUri(String host, int port) {
         return UriComponentsBuilder.newInstance().scheme("https").host(host).port(port).toUriString();
     }
 
+    /**
+     * Makes the connection to a host whose certificate chain is collected
+     */
+    @FunctionalInterface
+    interface Connector {
+
+        /**
+         * Connects to a host, presenting its certificate chain to {@code collector}
+         *
+         * @param host      the host to connect to
+         * @param port      the port to connect to
+         * @param collector the trust manager that collects the certificate chain
+         * @return {@code onComplete} once the connection has been made
+         */
+        Mono<Void> connect(String host, int port, CertificateCollectingTrustManager collector);
+
+    }
+
 }
@@ -16,44 +16,319 @@
 
 package org.cloudfoundry.reactor.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
 import io.netty.util.AsciiString;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.tuple.Tuple;
+import reactor.core.tuple.Tuple2;
 import reactor.core.util.Exceptions;
+import reactor.io.netty.http.HttpInbound;
 import reactor.io.netty.http.HttpOutbound;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 final class JsonCodec {
 
     private static final AsciiString APPLICATION_JSON = new AsciiString("application/json; charset=utf-8");
 
+    private static final AsciiString CONTENT_ENCODING = new AsciiString("Content-Encoding");
+
     private static final AsciiString CONTENT_TYPE = new AsciiString("Content-Type");
 
-    static <T> Function<InputStream, T> decode(ObjectMapper objectMapper, Class<T> type) {
-        return inputStream -> {
-            try (InputStream in = inputStream) {
-                return objectMapper.readValue(in, type);
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    JsonCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Receives the body of an inbound response as a single buffer.  The received buffers are composed rather than copied, and the returned buffer must be released by the caller.  A body with a
+     * {@code gzip} or {@code deflate} content encoding is inflated as each buffer arrives, so the returned buffer is always the decoded body.  An empty body completes without a buffer, and the
+     * composed buffers are released if the body fails or the subscription is cancelled before the buffer is returned.
+     *
+     * @param inbound the inbound response
+     * @return the body of the response
+     */
+    static Mono<CompositeByteBuf> receive(HttpInbound inbound) {
+        return receive(inbound.receive(), inbound.responseHeaders().get(CONTENT_ENCODING));
+    }
+
+    static Mono<CompositeByteBuf> receive(Flux<ByteBuf> body, String contentEncoding) {
+        ZlibWrapper wrapper = getZlibWrapper(contentEncoding);
+
+        return Mono.defer(() -> {
+            CompositeByteBuf composite = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+            Optional<EmbeddedChannel> decoder = Optional.ofNullable(wrapper).map(w -> new EmbeddedChannel(ZlibCodecFactory.newZlibDecoder(w)));
+            AtomicBoolean emitted = new AtomicBoolean();
+
+            return body
+                .collect(() -> composite, (c, buffer) -> append(c, decoder, buffer))
+                .then(c -> complete(c, decoder))
+                .doOnSuccess(c -> emitted.set(true))
+                .doOnError(t -> release(composite, decoder))
+                .doOnCancel(() -> {
+                    if (!emitted.get()) {
+                        release(composite, decoder);
+                    }
+                });
+        });
+    }
+
+    boolean canEncode(Class<?> type) {
+        return this.objectMapper.canSerialize(type);
+    }
+
+    <T> Function<ByteBuf, T> decode(Class<T> type) {
+        ObjectReader reader = this.readers.computeIfAbsent(type, this.objectMapper::readerFor);
+
+        return buffer -> {
+            try (InputStream in = new ByteBufInputStream(buffer, true)) {
+                return reader.readValue(in);
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        };
+    }
+
+    /**
+     * Decodes a JSON object whose elements in one array field are emitted one at a time rather than being materialized together.  The fields that precede the array are decoded into {@code type}
+     * up front, and the array field is decoded as empty in that value.  Fields that follow the array are not decoded.  The body is parsed once: the fields are read while advancing to the array,
+     * and the undecoded bytes of the array are then copied out so that the buffer can be released before this function returns.  The elements are decoded lazily from those bytes as they are
+     * requested, so the returned {@link Flux} holds no pooled memory whether or not it is subscribed to, and each subscription decodes the elements afresh.
+     *
+     * @param type        the type of the object
+     * @param field       the name of the array field to stream
+     * @param elementType the type of the elements of the array field
+     * @param <T>         the type of the object
+     * @param <E>         the type of the elements of the array field
+     * @return a function that decodes a buffer into the object and its streamed elements
+     */
+    <T, E> Function<ByteBuf, Tuple2<T, Flux<E>>> decodeStreaming(Class<T> type, String field, Class<E> elementType) {
+        ObjectReader reader = this.readers.computeIfAbsent(type, this.objectMapper::readerFor);
+        ObjectReader elementReader = this.readers.computeIfAbsent(elementType, this.objectMapper::readerFor);
+
+        return buffer -> {
+            try (JsonParser parser = createParser(buffer)) {
+                ObjectNode node = this.objectMapper.createObjectNode();
+                Optional<byte[]> elements = readToField(parser, buffer, field, node);
+
+                return Tuple.of(reader.readValue(node), elements
+                    .map(bytes -> Flux.using(() -> new ElementIterator<E>(this.objectMapper.getFactory().createParser(bytes), elementReader),
+                        iterator -> Flux.fromIterable(() -> iterator),
+                        ElementIterator::close))
+                    .orElse(Flux.empty()));
             } catch (IOException e) {
                 throw Exceptions.propagate(e);
+            } finally {
+                buffer.release();
             }
         };
     }
 
-    static <T> Function<T, ByteBuf> encode(ObjectMapper objectMapper, HttpOutbound httpOutbound) {
+    <T> Function<T, ByteBuf> encode(HttpOutbound httpOutbound) {
         httpOutbound.header(CONTENT_TYPE, APPLICATION_JSON);
 
         return source -> {
-            try {
-                return httpOutbound.delegate().alloc().directBuffer()
-                    .writeBytes(objectMapper.writeValueAsBytes(source));
-            } catch (JsonProcessingException e) {
+            ObjectWriter writer = this.writers.computeIfAbsent(source.getClass(), this.objectMapper::writerFor);
+            ByteBuf buffer = httpOutbound.delegate().alloc().directBuffer();
+
+            try (OutputStream out = new ByteBufOutputStream(buffer)) {
+                writer.writeValue(out, source);
+                return buffer;
+            } catch (IOException e) {
+                buffer.release();
                 throw Exceptions.propagate(e);
             }
         };
     }
 
+    private static void append(CompositeByteBuf composite, Optional<EmbeddedChannel> decoder, ByteBuf buffer) {
+        if (decoder.isPresent()) {
+            decoder.get().writeInbound(buffer.retain());
+            drain(decoder.get(), composite);
+        } else {
+            composite.addComponent(true, buffer.retain());
+        }
+    }
+
+    private static Mono<CompositeByteBuf> complete(CompositeByteBuf composite, Optional<EmbeddedChannel> decoder) {
+        decoder.ifPresent(d -> {
+            d.finish();
+            drain(d, composite);
+        });
+
+        if (!composite.isReadable()) {
+            composite.release();
+            return Mono.empty();
+        }
+
+        return Mono.just(composite);
+    }
+
+    private static void drain(EmbeddedChannel decoder, CompositeByteBuf composite) {
+        for (ByteBuf buffer = decoder.readInbound(); buffer != null; buffer = decoder.readInbound()) {
+            composite.addComponent(true, buffer);
+        }
+    }
+
+    private static ZlibWrapper getZlibWrapper(String contentEncoding) {
+        if (contentEncoding == null) {
+            return null;
+        }
+
+        switch (contentEncoding.trim().toLowerCase()) {
+            case "gzip":
+            case "x-gzip":
+                return ZlibWrapper.GZIP;
+            case "deflate":
+            case "x-deflate":
+                return ZlibWrapper.ZLIB_OR_NONE;
+            default:
+                return null;
+        }
+    }
+
+    private static void release(CompositeByteBuf composite, Optional<EmbeddedChannel> decoder) {
+        if (composite.refCnt() > 0) {
+            composite.release();
+        }
+
+        decoder.ifPresent(d -> {
+            d.close();
+
+            for (ByteBuf buffer = d.readInbound(); buffer != null; buffer = d.readInbound()) {
+                buffer.release();
+            }
+        });
+    }
+
+    private JsonParser createParser(ByteBuf buffer) throws IOException {
+        return this.objectMapper.getFactory().createParser(new ByteBufInputStream(buffer.duplicate()));
+    }
+
+    private Optional<byte[]> readToField(JsonParser parser, ByteBuf buffer, String field, ObjectNode node) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+
+            if (parser.nextToken() == JsonToken.START_ARRAY && field.equals(name)) {
+                node.putArray(name);
+
+                int offset = (int) parser.getTokenLocation().getByteOffset();
+                byte[] elements = new byte[buffer.readableBytes() - offset];
+                buffer.getBytes(buffer.readerIndex() + offset, elements);
+
+                return Optional.of(elements);
+            }
+
+            node.set(name, this.objectMapper.readTree(parser));
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Decodes the elements of an array one at a time.  Decoding and closing hold the same lock, so a cancellation cannot close the parser while an element is being decoded.
+     */
+    private static final class ElementIterator<E> implements Iterator<E> {
+
+        private final ObjectReader elementReader;
+
+        private final JsonParser parser;
+
+        private boolean closed;
+
+        private E next;
+
+        private ElementIterator(JsonParser parser, ObjectReader elementReader) throws IOException {
+            this.elementReader = elementReader;
+            this.parser = parser;
+
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                close();
+            }
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (this.next != null) {
+                return true;
+            }
+
+            if (this.closed) {
+                return false;
+            }
+
+            try {
+                JsonToken token = this.parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    close();
+                    return false;
+                }
+
+                this.next = this.elementReader.readValue(this.parser);
+                return true;
+            } catch (IOException e) {
+                close();
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        @Override
+        public synchronized E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            E next = this.next;
+            this.next = null;
+            return next;
+        }
+
+        private synchronized void close() {
+            if (this.closed) {
+                return;
+            }
+
+            this.closed = true;
+
+            try {
+                this.parser.close();
+            } catch (IOException e) {
+                // nothing to do if the parser cannot be closed
+            }
+        }
+
+    }
+
 }
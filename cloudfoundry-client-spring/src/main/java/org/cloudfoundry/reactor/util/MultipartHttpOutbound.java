@@ -18,19 +18,28 @@ package org.cloudfoundry.reactor.util;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import io.netty.buffer.CompositeByteBuf;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.util.AsciiString;
+import org.cloudfoundry.util.SchedulerUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.util.Exceptions;
 import reactor.io.netty.http.HttpOutbound;
 
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Random;
 import java.util.function.Consumer;
 
@@ -41,6 +50,8 @@ public final class MultipartHttpOutbound {
 
     private static final AsciiString BOUNDARY_PREAMBLE = new AsciiString("; boundary=");
 
+    private static final int CHUNK_SIZE = 64 * 1024;
+
     private static final AsciiString CONTENT_DISPOSITION = new AsciiString("Content-Disposition");
 
     private static final AsciiString CONTENT_LENGTH = new AsciiString("Content-Length");
@@ -57,6 +68,8 @@ public final class MultipartHttpOutbound {
 
     private static final Random RND = new Random();
 
+    private static final long UNKNOWN_LENGTH = -1;
+
     private final HttpOutbound outbound;
 
     private final List<Consumer<PartHttpOutbound>> partConsumers = new ArrayList<>();
@@ -70,19 +83,35 @@ public final class MultipartHttpOutbound {
         return this;
     }
 
+    /**
+     * Sends the multipart body.  Part contents are read in bounded chunks as the connection requests them, so memory usage does not grow with the size of the parts.  Reads may block, for example
+     * on a stream that is still being produced, so they happen on a dedicated scheduler rather than on the event loop.  If the length of every part can be determined up front the body is sent
+     * with a {@code Content-Length} header, otherwise it is sent with chunked transfer encoding.
+     *
+     * @return a {@link Mono} that completes when the body has been sent
+     */
     public Mono<Void> done() {
         AsciiString boundary = generateMultipartBoundary();
         ByteBufAllocator allocator = this.outbound.delegate().alloc();
 
-        CompositeByteBuf bodyBuf = allocator.compositeBuffer();
-        this.partConsumers.forEach(partConsumer -> bodyBuf.addComponent(getPart(allocator, boundary, partConsumer)));
-        bodyBuf.addComponent(getCloseDelimiter(allocator, boundary));
+        List<PartHttpOutbound> parts = getParts(this.partConsumers);
+        BodyIterator body = new BodyIterator(allocator, boundary, parts);
+
+        HttpOutbound outbound = this.outbound
+            .addHeader(CONTENT_TYPE, MULTIPART_FORM_DATA.concat(BOUNDARY_PREAMBLE).concat(boundary));
+
+        Optional<Long> contentLength = getContentLength(boundary, parts);
+        if (contentLength.isPresent()) {
+            outbound = outbound
+                .removeTransferEncodingChunked()
+                .addHeader(CONTENT_LENGTH, String.valueOf(contentLength.get()));
+        }
 
-        return this.outbound
-            .removeTransferEncodingChunked()
-            .addHeader(CONTENT_TYPE, MULTIPART_FORM_DATA.concat(BOUNDARY_PREAMBLE).concat(boundary))
-            .addHeader(CONTENT_LENGTH, String.valueOf(bodyBuf.capacity()))
-            .sendOne(bodyBuf.writerIndex(bodyBuf.capacity()));
+        return outbound
+            .send(Flux.fromIterable(() -> body)
+                .doOnCancel(body::close)
+                .doOnError(t -> body.close())
+                .subscribeOn(SchedulerUtils.blockingIo()));
     }
 
     private static AsciiString generateMultipartBoundary() {
@@ -93,50 +122,49 @@ public final class MultipartHttpOutbound {
         return new AsciiString(boundary);
     }
 
-    private static ByteBuf getCloseDelimiter(ByteBufAllocator allocator, AsciiString boundary) {
-        AsciiString s = DOUBLE_DASH.concat(boundary).concat(DOUBLE_DASH);
-        return allocator.directBuffer(s.length()).writeBytes(s.toByteArray());
+    private static AsciiString getCloseDelimiter(AsciiString boundary) {
+        return DOUBLE_DASH.concat(boundary).concat(DOUBLE_DASH);
     }
 
-    private static ByteBuf getData(ByteBufAllocator allocator, InputStream inputStream) {
-        try (InputStream in = inputStream) {
-            ByteBuf dataBuf = allocator.directBuffer(CRLF.length() + inputStream.available() + CRLF.length());
+    private static Optional<Long> getContentLength(AsciiString boundary, List<PartHttpOutbound> parts) {
+        long contentLength = 0;
 
-            dataBuf.writeBytes(CRLF.toByteArray());
-            dataBuf.writeBytes(in, in.available());
-            dataBuf.writeBytes(CRLF.toByteArray());
+        for (PartHttpOutbound part : parts) {
+            long length = part.getLength();
+            if (length == UNKNOWN_LENGTH) {
+                return Optional.empty();
+            }
 
-            return dataBuf;
-        } catch (IOException e) {
-            throw Exceptions.propagate(e);
+            contentLength += getPreamble(boundary, part.getHeaders()).length() + length + CRLF.length();
         }
+
+        return Optional.of(contentLength + getCloseDelimiter(boundary).length());
     }
 
-    private static ByteBuf getDelimiter(ByteBufAllocator allocator, AsciiString boundary) {
-        AsciiString s = DOUBLE_DASH.concat(boundary).concat(CRLF);
-        return allocator.directBuffer(s.length()).writeBytes(s.toByteArray());
+    private static List<PartHttpOutbound> getParts(List<Consumer<PartHttpOutbound>> partConsumers) {
+        List<PartHttpOutbound> parts = new ArrayList<>(partConsumers.size());
+
+        for (Consumer<PartHttpOutbound> partConsumer : partConsumers) {
+            PartHttpOutbound part = new PartHttpOutbound();
+            partConsumer.accept(part);
+            parts.add(part);
+        }
+
+        return parts;
     }
 
-    private static ByteBuf getHeaders(ByteBufAllocator allocator, HttpHeaders headers) {
-        AsciiString s = AsciiString.EMPTY_STRING;
+    private static AsciiString getPreamble(AsciiString boundary, HttpHeaders headers) {
+        AsciiString s = DOUBLE_DASH.concat(boundary).concat(CRLF);
 
         for (Map.Entry<String, String> entry : headers) {
             s = s.concat(new AsciiString(entry.getKey())).concat(HEADER_DELIMITER).concat(entry.getValue()).concat(CRLF);
         }
 
-        return allocator.directBuffer(s.length()).writeBytes(s.toByteArray());
+        return s.concat(CRLF);
     }
 
-    private static ByteBuf getPart(ByteBufAllocator allocator, AsciiString boundary, Consumer<PartHttpOutbound> partConsumer) {
-        PartHttpOutbound part = new PartHttpOutbound();
-        partConsumer.accept(part);
-
-        CompositeByteBuf body = allocator.compositeBuffer();
-        body.addComponent(getDelimiter(allocator, boundary));
-        body.addComponent(getHeaders(allocator, part.getHeaders()));
-        body.addComponent(getData(allocator, part.getInputStream()));
-
-        return body.writerIndex(body.capacity());
+    private static ByteBuf toByteBuf(ByteBufAllocator allocator, AsciiString s) {
+        return allocator.directBuffer(s.length()).writeBytes(s.toByteArray());
     }
 
     public static final class PartHttpOutbound {
@@ -145,13 +173,37 @@ public final class MultipartHttpOutbound {
 
         private InputStream inputStream;
 
+        private long length = UNKNOWN_LENGTH;
+
+        private Path path;
+
         public PartHttpOutbound addHeader(CharSequence name, CharSequence value) {
             this.headers.add(name, value);
             return this;
         }
 
+        /**
+         * Sends the contents of a file as the part body.  The file is not opened until the part is written and its length is known up front.
+         *
+         * @param path the file to send
+         */
+        public void sendFile(Path path) {
+            try {
+                this.length = Files.size(path);
+                this.path = path;
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        /**
+         * Sends the contents of an {@link InputStream} as the part body.  The stream is read in chunks as the part is written and closed once exhausted.
+         *
+         * @param inputStream the stream to send
+         */
         public void sendInputStream(InputStream inputStream) {
             this.inputStream = inputStream;
+            this.length = getLength(inputStream);
         }
 
         public PartHttpOutbound setContentDispositionFormData(String name, String filename) {
@@ -166,12 +218,151 @@ public final class MultipartHttpOutbound {
             return this;
         }
 
+        private static long getLength(InputStream inputStream) {
+            try {
+                if (inputStream instanceof ByteArrayInputStream) {
+                    return inputStream.available();
+                }
+
+                if (inputStream instanceof FileInputStream) {
+                    FileChannel channel = ((FileInputStream) inputStream).getChannel();
+                    return channel.size() - channel.position();
+                }
+
+                return UNKNOWN_LENGTH;
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        private void close() {
+            if (this.inputStream == null) {
+                return;
+            }
+
+            try {
+                this.inputStream.close();
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            } finally {
+                this.inputStream = null;
+            }
+        }
+
         private HttpHeaders getHeaders() {
             return this.headers;
         }
 
-        private InputStream getInputStream() {
-            return this.inputStream;
+        private long getLength() {
+            return this.length;
+        }
+
+        private ByteBuf readChunk(ByteBufAllocator allocator) throws IOException {
+            if (this.inputStream == null && this.path != null) {
+                this.inputStream = Files.newInputStream(this.path);
+                this.path = null;
+            }
+
+            if (this.inputStream == null) {
+                return null;
+            }
+
+            ByteBuf chunk = allocator.directBuffer(CHUNK_SIZE);
+            try {
+                if (chunk.writeBytes(this.inputStream, CHUNK_SIZE) == -1) {
+                    chunk.release();
+                    close();
+                    return null;
+                }
+
+                return chunk;
+            } catch (IOException e) {
+                chunk.release();
+                throw e;
+            }
+        }
+
+    }
+
+    private static final class BodyIterator implements Iterator<ByteBuf> {
+
+        private final ByteBufAllocator allocator;
+
+        private final AsciiString boundary;
+
+        private final Iterator<PartHttpOutbound> parts;
+
+        private final List<PartHttpOutbound> partsToClose;
+
+        private PartHttpOutbound current;
+
+        private boolean finished = false;
+
+        private ByteBuf next;
+
+        private BodyIterator(ByteBufAllocator allocator, AsciiString boundary, List<PartHttpOutbound> parts) {
+            this.allocator = allocator;
+            this.boundary = boundary;
+            this.parts = parts.iterator();
+            this.partsToClose = parts;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                this.next = read();
+            }
+
+            return this.next != null;
+        }
+
+        @Override
+        public ByteBuf next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ByteBuf next = this.next;
+            this.next = null;
+            return next;
+        }
+
+        private void close() {
+            if (this.next != null) {
+                this.next.release();
+                this.next = null;
+            }
+
+            this.partsToClose.forEach(PartHttpOutbound::close);
+        }
+
+        private ByteBuf read() {
+            if (this.current != null) {
+                try {
+                    ByteBuf chunk = this.current.readChunk(this.allocator);
+                    if (chunk != null) {
+                        return chunk;
+                    }
+                } catch (IOException e) {
+                    close();
+                    throw Exceptions.propagate(e);
+                }
+
+                this.current = null;
+                return toByteBuf(this.allocator, CRLF);
+            }
+
+            if (this.parts.hasNext()) {
+                this.current = this.parts.next();
+                return toByteBuf(this.allocator, getPreamble(this.boundary, this.current.getHeaders()));
+            }
+
+            if (!this.finished) {
+                this.finished = true;
+                return toByteBuf(this.allocator, getCloseDelimiter(this.boundary));
+            }
+
+            return null;
         }
 
     }
@@ -16,6 +16,8 @@
 
 package org.cloudfoundry.reactor.util;
 
+import reactor.core.publisher.Mono;
+
 import javax.net.ssl.X509TrustManager;
 import java.time.Duration;
 
@@ -25,12 +27,13 @@ import java.time.Duration;
 interface SslCertificateTruster extends X509TrustManager {
 
     /**
-     * Trust the certificate provided by a connection
+     * Trust the certificate provided by a connection.  The connection is made once for each host and port, and concurrent callers share its result.
      *
      * @param host     the host
      * @param port     the port
      * @param duration the duration to wait
+     * @return a {@link Mono} that completes when the certificate is trusted
      */
-    void trust(String host, int port, Duration duration);
+    Mono<Void> trust(String host, int port, Duration duration);
 
 }
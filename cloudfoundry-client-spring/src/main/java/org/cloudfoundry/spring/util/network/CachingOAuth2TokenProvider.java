@@ -0,0 +1,151 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.spring.util.network;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.client.OAuth2ClientContext;
+import org.springframework.security.oauth2.client.OAuth2RestOperations;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An {@link OAuth2TokenProvider} that caches the access token and refreshes it before it expires
+ *
+ * <p> While a cached token is valid it is returned immediately.  Once it is within the refresh margin of its expiry a single refresh is started in the background and the cached token continues to
+ * be returned until the refresh completes.  Only once a token has expired do callers wait, and concurrent callers share a single refresh.  Tokens are acquired on a {@link Scheduler} so that the
+ * blocking {@link OAuth2RestOperations#getAccessToken()} is never called on the subscribing thread.  Tokens without an expiry are not cached. </p>
+ */
+public final class CachingOAuth2TokenProvider implements OAuth2TokenProvider {
+
+    private static final Duration DEFAULT_REFRESH_MARGIN = Duration.ofMinutes(1);
+
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(5);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.token");
+
+    private final AtomicReference<CachedToken> cached = new AtomicReference<>();
+
+    private final Duration refreshMargin;
+
+    private final AtomicReference<Mono<String>> refreshing = new AtomicReference<>();
+
+    private final OAuth2RestOperations restOperations;
+
+    private final Scheduler scheduler;
+
+    public CachingOAuth2TokenProvider(OAuth2RestOperations restOperations, Scheduler scheduler) {
+        this(restOperations, scheduler, DEFAULT_REFRESH_MARGIN);
+    }
+
+    public CachingOAuth2TokenProvider(OAuth2RestOperations restOperations, Scheduler scheduler, Duration refreshMargin) {
+        this.refreshMargin = refreshMargin;
+        this.restOperations = restOperations;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<String> getToken() {
+        return Mono.defer(() -> {
+            CachedToken token = this.cached.get();
+            Instant now = Instant.now();
+
+            if (token == null || !now.isBefore(token.expiry)) {
+                return refresh(token);
+            }
+
+            if (!now.isBefore(token.refreshAt)) {
+                refresh(token)
+                    .otherwise(throwable -> {
+                        LOGGER.warn("Unable to refresh access token ahead of expiry", throwable);
+                        return Mono.empty();
+                    })
+                    .subscribe();
+            }
+
+            return Mono.just(token.value);
+        });
+    }
+
+    private String acquire(CachedToken stale) {
+        OAuth2ClientContext context = this.restOperations.getOAuth2ClientContext();
+        OAuth2AccessToken current = context.getAccessToken();
+
+        if (stale != null && current != null && stale.value.equals(current.getValue())) {
+            context.setAccessToken(null);
+        }
+
+        OAuth2AccessToken accessToken = this.restOperations.getAccessToken();
+        this.cached.set(CachedToken.of(accessToken, this.refreshMargin));
+
+        return accessToken.getValue();
+    }
+
+    private Mono<String> refresh(CachedToken stale) {
+        for (; ; ) {
+            Mono<String> current = this.refreshing.get();
+            if (current != null) {
+                return current;
+            }
+
+            Mono<String> candidate = Mono.defer(() -> Mono.just(acquire(stale)))
+                .subscribeOn(this.scheduler)
+                .doOnSuccess(token -> this.refreshing.set(null))
+                .doOnError(throwable -> this.refreshing.set(null))
+                .cache();
+
+            if (this.refreshing.compareAndSet(null, candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static final class CachedToken {
+
+        private final Instant expiry;
+
+        private final Instant refreshAt;
+
+        private final String value;
+
+        private CachedToken(String value, Instant expiry, Instant refreshAt) {
+            this.expiry = expiry;
+            this.refreshAt = refreshAt;
+            this.value = value;
+        }
+
+        private static CachedToken of(OAuth2AccessToken accessToken, Duration refreshMargin) {
+            if (accessToken.getExpiration() == null) {
+                return null;
+            }
+
+            Instant now = Instant.now();
+            Instant expiration = accessToken.getExpiration().toInstant();
+            Duration lifetime = Duration.between(now, expiration);
+            Duration margin = refreshMargin.compareTo(lifetime.dividedBy(2)) < 0 ? refreshMargin : lifetime.dividedBy(2);
+
+            return new CachedToken(accessToken.getValue(), expiration.minus(EXPIRY_MARGIN), expiration.minus(margin));
+        }
+
+    }
+
+}
@@ -20,6 +20,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
+import java.util.Optional;
+
 public interface ConnectionContext {
 
     AuthorizationProvider getAuthorizationProvider();
@@ -32,6 +34,8 @@ public interface ConnectionContext {
 
     ObjectMapper getObjectMapper();
 
+    Optional<ResponseCache> getResponseCache();
+
     Mono<String> getRoot();
 
     Mono<String> getRoot(String key);
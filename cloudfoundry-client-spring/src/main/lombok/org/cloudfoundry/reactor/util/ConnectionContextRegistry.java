@@ -0,0 +1,147 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.Builder;
+import reactor.core.tuple.Tuple;
+import reactor.core.tuple.Tuple3;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of {@link ConnectionContext}s, one for each Cloud Foundry foundation managed by a process
+ *
+ * <p> Contexts registered here share a single event loop group, a pooled buffer allocator and an {@link ObjectMapper}, so the number of threads and the memory used stay flat as foundations are
+ * added.  Authorization and roots are still held by each context.  Trusted certificates are held for each Cloud Controller host, port and proxy, so the self-signed certificates of one
+ * foundation are never trusted when connecting to another. </p>
+ *
+ * <p> The registered contexts and the shared event loop group are closed when the registry is closed, after which the contexts can no longer connect. </p>
+ */
+public final class ConnectionContextRegistry implements Closeable {
+
+    private final ByteBufAllocator allocator;
+
+    private final Map<String, DefaultConnectionContext> connectionContexts;
+
+    private final EventLoopGroup eventLoopGroup;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Tuple3<ProxyContext, String, Integer>, SslCertificateTruster> sslCertificateTrusters;
+
+    /**
+     * Creates a new instance
+     *
+     * @param objectMapper   the {@link ObjectMapper} shared by every context that does not configure its own
+     * @param threadPoolSize the number of shared event loop threads, defaulting to the Netty default
+     */
+    @Builder
+    ConnectionContextRegistry(ObjectMapper objectMapper, Integer threadPoolSize) {
+        this.allocator = PooledByteBufAllocator.DEFAULT;
+        this.connectionContexts = new ConcurrentHashMap<>();
+        this.eventLoopGroup = new NioEventLoopGroup(Optional.ofNullable(threadPoolSize).orElse(0), new DefaultThreadFactory("cloudfoundry-client-nio", true));
+        this.objectMapper = Optional.ofNullable(objectMapper).orElse(new ObjectMapper());
+        this.sslCertificateTrusters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Closes the registered contexts and shuts down the shared event loop group
+     */
+    @Override
+    public void close() {
+        this.connectionContexts.values().forEach(DefaultConnectionContext::close);
+        this.eventLoopGroup.shutdownGracefully();
+    }
+
+    /**
+     * Returns the context registered for a foundation
+     *
+     * @param name the name of the foundation
+     * @return the context registered for the foundation, if any
+     */
+    public Optional<ConnectionContext> get(String name) {
+        return Optional.<ConnectionContext>ofNullable(this.connectionContexts.get(name));
+    }
+
+    /**
+     * Returns the names of the registered foundations
+     *
+     * @return the names of the registered foundations
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(this.connectionContexts.keySet());
+    }
+
+    /**
+     * Builds a context that shares the resources of this registry, and registers it for a foundation
+     *
+     * @param name    the name of the foundation
+     * @param builder the builder configured with the settings of the foundation
+     * @return the registered context
+     * @throws IllegalArgumentException if a context is already registered for the foundation
+     */
+    public ConnectionContext register(String name, DefaultConnectionContext.DefaultConnectionContextBuilder builder) {
+        DefaultConnectionContext connectionContext = builder
+            .registry(this)
+            .build();
+
+        if (this.connectionContexts.putIfAbsent(name, connectionContext) != null) {
+            throw new IllegalArgumentException(String.format("A connection context is already registered for %s", name));
+        }
+
+        return connectionContext;
+    }
+
+    /**
+     * Removes the context registered for a foundation.  The shared resources remain available to the other contexts, and the removed context should be closed once it is no longer used.
+     *
+     * @param name the name of the foundation
+     * @return the context that was registered for the foundation, if any
+     */
+    public Optional<ConnectionContext> unregister(String name) {
+        return Optional.<ConnectionContext>ofNullable(this.connectionContexts.remove(name));
+    }
+
+    ByteBufAllocator getAllocator() {
+        return this.allocator;
+    }
+
+    EventLoopGroup getEventLoopGroup() {
+        return this.eventLoopGroup;
+    }
+
+    ObjectMapper getObjectMapper() {
+        return this.objectMapper;
+    }
+
+    SslCertificateTruster getSslCertificateTruster(ProxyContext proxyContext, String host, int port) {
+        return this.sslCertificateTrusters.computeIfAbsent(Tuple.of(proxyContext, host, port), key -> new DefaultSslCertificateTruster(proxyContext));
+    }
+
+}
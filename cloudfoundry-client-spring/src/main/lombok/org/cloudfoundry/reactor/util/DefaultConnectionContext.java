@@ -17,24 +17,41 @@
 package org.cloudfoundry.reactor.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import lombok.Builder;
 import lombok.NonNull;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.config.ClientOptions;
 import reactor.io.netty.http.HttpClient;
+import reactor.io.netty.http.HttpOutbound;
 
+import java.io.Closeable;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static reactor.io.netty.config.NettyHandlerNames.SslHandler;
 
-public final class DefaultConnectionContext implements ConnectionContext {
+public final class DefaultConnectionContext implements Closeable, ConnectionContext {
 
     private static final int DEFAULT_PORT = 443;
 
+    private static final List<String> TRUSTED_ENDPOINTS = Arrays.asList("doppler_logging_endpoint", "token_endpoint");
+
+    private static final Duration TRUST_TIMEOUT = Duration.ofSeconds(30);
+
     private static final int UNDEFINED_PORT = -1;
 
     private final AuthorizationProvider authorizationProvider;
@@ -43,19 +60,49 @@ public final class DefaultConnectionContext implements ConnectionContext {
 
     private final String clientSecret;
 
+    private final Optional<EventLoopGroup> eventLoopGroup;
+
     private final HttpClient httpClient;
 
     private final Mono<Map<String, String>> info;
 
     private final ObjectMapper objectMapper;
 
+    private final Optional<ResponseCache> responseCache;
+
     private final Mono<String> root;
 
     private final Optional<SslCertificateTruster> sslCertificateTruster;
 
+    /**
+     * Creates a new instance.  The connection settings apply to every connection made through this context, including those to the UAA and Doppler roots.
+     *
+     * @param authorizationProvider the provider of the {@code Authorization} header
+     * @param clientId              the OAuth client id, defaulting to {@code cf}
+     * @param clientSecret          the OAuth client secret, defaulting to empty
+     * @param compression           whether to ask for compressed responses to JSON requests, defaulting to {@code false}.  Compressed JSON responses are inflated as they are received.
+     * @param connectTimeout        the maximum time to wait for a connection to be established, defaulting to the Netty default
+     * @param host                  the host of the Cloud Controller
+     * @param keepAlive             whether TCP keep-alive is enabled on connections, defaulting to the Netty default
+     * @param objectMapper          the {@link ObjectMapper} to use
+     * @param port                  the port of the Cloud Controller
+     * @param proxyHost             the host of the proxy
+     * @param proxyPassword         the password for the proxy
+     * @param proxyPort             the port of the proxy
+     * @param proxyUsername         the username for the proxy
+     * @param readTimeout           the maximum time a connection may go without receiving data before it is closed, defaulting to no limit.  Note that this includes log streams.
+     * @param registry              the registry whose event loop group, buffer allocator, {@link ObjectMapper} and trusted certificates are shared with its other contexts, defaulting to none
+     * @param responseCache         the cache for responses from read-mostly endpoints, defaulting to no caching
+     * @param sslHandshakeTimeout   the maximum time to wait for a TLS handshake, defaulting to the Netty default
+     * @param threadPoolSize        the number of event loop threads, defaulting to the event loop of the registry or, without one, to the shared Reactor event loop.  An event loop created for
+     *                              this context is shut down when the context is closed.
+     * @param trustCertificates     whether to trust the certificates presented by the hosts
+     */
     @Builder
-    DefaultConnectionContext(@NonNull AuthorizationProvider authorizationProvider, String clientId, String clientSecret, @NonNull String host, ObjectMapper objectMapper, Integer port,
-                             String proxyHost, String proxyPassword, Integer proxyPort, String proxyUsername, Boolean trustCertificates) {
+    DefaultConnectionContext(@NonNull AuthorizationProvider authorizationProvider, String clientId, String clientSecret, Boolean compression, Duration connectTimeout, @NonNull String host,
+                             Boolean keepAlive, ObjectMapper objectMapper, Integer port, String proxyHost, String proxyPassword, Integer proxyPort, String proxyUsername, Duration readTimeout,
+                             ConnectionContextRegistry registry, ResponseCache responseCache, Duration sslHandshakeTimeout, Integer threadPoolSize,
+                             Boolean trustCertificates) {
 
         ProxyContext proxyContext = ProxyContext.builder()
             .host(proxyHost)
@@ -64,15 +111,28 @@ public final class DefaultConnectionContext implements ConnectionContext {
             .username(proxyUsername)
             .build();
 
-        this.sslCertificateTruster = createSslCertificateTruster(proxyContext, trustCertificates);
-        this.httpClient = createHttpClient(proxyContext, this.sslCertificateTruster);
+        Optional<ConnectionContextRegistry> connectionContextRegistry = Optional.ofNullable(registry);
+
+        this.sslCertificateTruster = createSslCertificateTruster(host, port, proxyContext, connectionContextRegistry, trustCertificates);
+        this.eventLoopGroup = createEventLoopGroup(threadPoolSize);
+        this.httpClient = createHttpClient(connectTimeout, keepAlive, proxyContext, readTimeout, connectionContextRegistry, sslHandshakeTimeout, this.sslCertificateTruster,
+            this.eventLoopGroup);
 
-        this.authorizationProvider = authorizationProvider;
+        this.authorizationProvider = getAuthorizationProvider(authorizationProvider, compression);
         this.clientId = Optional.ofNullable(clientId).orElse("cf");
         this.clientSecret = Optional.ofNullable(clientSecret).orElse("");
+        this.responseCache = Optional.ofNullable(responseCache);
         this.root = getRoot(host, port, this.sslCertificateTruster);
-        this.objectMapper = getObjectMapper(objectMapper);
-        this.info = getInfo(this.httpClient, this.objectMapper, this.root);
+        this.objectMapper = getObjectMapper(objectMapper, connectionContextRegistry);
+        this.info = getInfo(this.httpClient, this.objectMapper, this.root, this.sslCertificateTruster);
+    }
+
+    /**
+     * Shuts down the event loop group created for this context, if any
+     */
+    @Override
+    public void close() {
+        this.eventLoopGroup.ifPresent(EventLoopGroup::shutdownGracefully);
     }
 
     @Override
@@ -100,6 +160,11 @@ public final class DefaultConnectionContext implements ConnectionContext {
         return this.objectMapper;
     }
 
+    @Override
+    public Optional<ResponseCache> getResponseCache() {
+        return this.responseCache;
+    }
+
     @Override
     public Mono<String> getRoot() {
         return this.root;
@@ -109,39 +174,105 @@ public final class DefaultConnectionContext implements ConnectionContext {
     public Mono<String> getRoot(String key) {
         return this.info
             .map(info -> normalize(UriComponentsBuilder.fromUriString(info.get(key))))
-            .doOnSuccess(components -> trust(components, this.sslCertificateTruster))
-            .map(UriComponents::toUriString)
+            .then(components -> trust(components, this.sslCertificateTruster)
+                .then(Mono.just(components.toUriString())))
             .cache();
     }
 
-    private static HttpClient createHttpClient(ProxyContext proxyContext, Optional<SslCertificateTruster> sslCertificateTruster) {
-        return HttpClient.create(ClientOptions.create()
+    Optional<EventLoopGroup> getEventLoopGroup() {
+        return this.eventLoopGroup;
+    }
+
+    static void configurePipeline(ChannelPipeline pipeline, Duration connectTimeout, Boolean keepAlive, ProxyContext proxyContext, Duration readTimeout,
+                                  Optional<ConnectionContextRegistry> registry, Duration sslHandshakeTimeout) {
+
+        proxyContext.getHttpProxyHandler().ifPresent(handler -> pipeline.addBefore(SslHandler, null, handler));
+
+        registry.ifPresent(r -> pipeline.channel().config().setAllocator(r.getAllocator()));
+
+        Optional.ofNullable(connectTimeout).ifPresent(timeout -> pipeline.channel().config().setConnectTimeoutMillis((int) timeout.toMillis()));
+        Optional.ofNullable(keepAlive).ifPresent(enabled -> pipeline.channel().config().setOption(ChannelOption.SO_KEEPALIVE, enabled));
+        Optional.ofNullable(readTimeout).ifPresent(timeout -> pipeline.addFirst(new ReadTimeoutHandler(timeout.toMillis(), TimeUnit.MILLISECONDS)));
+        Optional.ofNullable(sslHandshakeTimeout).ifPresent(timeout -> Optional.ofNullable(pipeline.get(SslHandler.class))
+            .ifPresent(handler -> handler.setHandshakeTimeoutMillis(timeout.toMillis())));
+    }
+
+    private static Optional<EventLoopGroup> createEventLoopGroup(Integer threadPoolSize) {
+        return Optional.ofNullable(threadPoolSize)
+            .map(size -> new NioEventLoopGroup(size, new DefaultThreadFactory("cloudfoundry-client-nio", true)));
+    }
+
+    private static HttpClient createHttpClient(Duration connectTimeout, Boolean keepAlive, ProxyContext proxyContext, Duration readTimeout, Optional<ConnectionContextRegistry> registry,
+                                               Duration sslHandshakeTimeout, Optional<SslCertificateTruster> sslCertificateTruster, Optional<EventLoopGroup> eventLoopGroup) {
+
+        ClientOptions options = ClientOptions.create()
             .sslSupport()
-            .pipelineConfigurer(pipeline -> proxyContext.getHttpProxyHandler().ifPresent(handler -> pipeline.addBefore(SslHandler, null, handler)))
-            .sslConfigurer(ssl -> sslCertificateTruster.ifPresent(trustManager -> ssl.trustManager(new StaticTrustManagerFactory(trustManager)))));
+            .pipelineConfigurer(pipeline -> configurePipeline(pipeline, connectTimeout, keepAlive, proxyContext, readTimeout, registry, sslHandshakeTimeout))
+            .sslConfigurer(ssl -> sslCertificateTruster.ifPresent(trustManager -> ssl.trustManager(new StaticTrustManagerFactory(trustManager))));
+
+        getEventLoopGroup(eventLoopGroup, registry)
+            .ifPresent(options::eventLoopGroup);
+
+        return HttpClient.create(options);
     }
 
-    private static Optional<SslCertificateTruster> createSslCertificateTruster(ProxyContext proxyContext, Boolean trustCertificates) {
+    private static Optional<SslCertificateTruster> createSslCertificateTruster(String host, Integer port, ProxyContext proxyContext, Optional<ConnectionContextRegistry> registry,
+                                                                               Boolean trustCertificates) {
         if (Optional.ofNullable(trustCertificates).orElse(false)) {
-            return Optional.of(new DefaultSslCertificateTruster(proxyContext));
+            return Optional.of(registry
+                .map(r -> r.getSslCertificateTruster(proxyContext, host, Optional.ofNullable(port).orElse(DEFAULT_PORT)))
+                .orElseGet(() -> new DefaultSslCertificateTruster(proxyContext)));
         } else {
             return Optional.empty();
         }
     }
 
+    private static AuthorizationProvider getAuthorizationProvider(AuthorizationProvider authorizationProvider, Boolean compression) {
+        if (!Optional.ofNullable(compression).orElse(false)) {
+            return authorizationProvider;
+        }
+
+        return new AuthorizationProvider() {
+
+            @Override
+            public Mono<HttpOutbound> addAuthorization(HttpOutbound outbound) {
+                return authorizationProvider.addAuthorization(outbound);
+            }
+
+            @Override
+            public boolean isCompressionEnabled() {
+                return true;
+            }
+
+        };
+    }
+
+    private static Optional<EventLoopGroup> getEventLoopGroup(Optional<EventLoopGroup> eventLoopGroup, Optional<ConnectionContextRegistry> registry) {
+        if (eventLoopGroup.isPresent()) {
+            return eventLoopGroup;
+        }
+
+        return registry.map(ConnectionContextRegistry::getEventLoopGroup);
+    }
+
     @SuppressWarnings("unchecked")
-    private static Mono<Map<String, String>> getInfo(HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root) {
+    private static Mono<Map<String, String>> getInfo(HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root, Optional<SslCertificateTruster> sslCertificateTruster) {
         return root
             .map(uri -> UriComponentsBuilder.fromUriString(uri).pathSegment("v2", "info").build().toUriString())
             .then(httpClient::get)
-            .then(inbound -> inbound.receive().aggregate().toInputStream())
-            .map(JsonCodec.decode(objectMapper, Map.class))
+            .then(JsonCodec::receive)
+            .map(new JsonCodec(objectMapper).decode(Map.class))
             .map(m -> (Map<String, String>) m)
+            .then(info -> trustEndpoints(info, sslCertificateTruster)
+                .then(Mono.just(info)))
             .cache();
     }
 
-    private static ObjectMapper getObjectMapper(ObjectMapper objectMapper) {
-        return Optional.ofNullable(objectMapper).orElse(new ObjectMapper());
+    private static ObjectMapper getObjectMapper(ObjectMapper objectMapper, Optional<ConnectionContextRegistry> registry) {
+        return Optional.ofNullable(objectMapper)
+            .orElseGet(() -> registry
+                .map(ConnectionContextRegistry::getObjectMapper)
+                .orElseGet(ObjectMapper::new));
     }
 
     private static Mono<String> getRoot(String host, Integer port, Optional<SslCertificateTruster> sslCertificateTruster) {
@@ -151,9 +282,9 @@ public final class DefaultConnectionContext implements ConnectionContext {
         }
 
         UriComponents components = normalize(builder);
-        trust(components, sslCertificateTruster);
 
-        return Mono.just(components.toUriString());
+        return trust(components, sslCertificateTruster)
+            .then(Mono.just(components.toUriString()));
     }
 
     private static UriComponents normalize(UriComponentsBuilder builder) {
@@ -168,8 +299,21 @@ public final class DefaultConnectionContext implements ConnectionContext {
         return builder.build().encode();
     }
 
-    private static void trust(UriComponents components, Optional<SslCertificateTruster> sslCertificateTruster) {
-        sslCertificateTruster.ifPresent(t -> t.trust(components.getHost(), components.getPort(), Duration.ofSeconds(30)));
+    private static Mono<Void> trust(UriComponents components, Optional<SslCertificateTruster> sslCertificateTruster) {
+        return sslCertificateTruster
+            .map(t -> t.trust(components.getHost(), components.getPort(), TRUST_TIMEOUT))
+            .orElse(Mono.empty());
+    }
+
+    private static Mono<Void> trustEndpoints(Map<String, String> info, Optional<SslCertificateTruster> sslCertificateTruster) {
+        if (!sslCertificateTruster.isPresent()) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(TRUSTED_ENDPOINTS)
+            .filter(info::containsKey)
+            .flatMap(key -> trust(normalize(UriComponentsBuilder.fromUriString(info.get(key))), sslCertificateTruster))
+            .then();
     }
 
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import lombok.Builder;
+import lombok.Singular;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * A size-bounded, in-memory cache of decoded GET responses for read-mostly endpoints
+ *
+ * <p> A cached response is served without a request until its time-to-live passes.  After that it is revalidated with {@code If-None-Match} and {@code If-Modified-Since} using the validators of
+ * the original response, and a {@code 304 Not Modified} serves the cached value again.  Time-to-lives are configured by path prefix, with the longest matching prefix winning.  When the cache is
+ * full the least recently used response is evicted.  Counts of fresh hits, revalidated hits and misses are kept. </p>
+ */
+public final class ResponseCache {
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    private final Duration defaultTtl;
+
+    private final Map<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder revalidations = new LongAdder();
+
+    private final List<Map.Entry<String, Duration>> ttls;
+
+    @Builder
+    ResponseCache(Duration defaultTtl, Integer maximumSize, @Singular Map<String, Duration> ttls) {
+        int size = Optional.ofNullable(maximumSize).orElse(DEFAULT_MAXIMUM_SIZE);
+
+        this.defaultTtl = Optional.ofNullable(defaultTtl).orElse(DEFAULT_TTL);
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -3127410571218283553L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > size;
+            }
+
+        };
+        this.ttls = ttls.entrySet().stream()
+            .sorted(Comparator.comparing((Map.Entry<String, Duration> entry) -> entry.getKey().length()).reversed())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of responses served from the cache without a request
+     *
+     * @return the number of fresh hits
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of responses that were requested in full
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of responses served from the cache after a {@code 304 Not Modified}
+     *
+     * @return the number of revalidated hits
+     */
+    public long getRevalidations() {
+        return this.revalidations.sum();
+    }
+
+    /**
+     * Returns the number of responses held
+     *
+     * @return the number of responses held
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    Entry get(String uri, Class<?> type) {
+        Entry entry;
+        synchronized (this.entries) {
+            entry = this.entries.get(uri);
+        }
+
+        return entry != null && entry.type == type ? entry : null;
+    }
+
+    void hit() {
+        this.hits.increment();
+    }
+
+    void miss() {
+        this.misses.increment();
+    }
+
+    void put(String uri, Object value, String etag, String lastModified) {
+        Entry entry = new Entry(etag, Instant.now().plus(getTtl(uri)), lastModified, value);
+
+        synchronized (this.entries) {
+            this.entries.put(uri, entry);
+        }
+    }
+
+    void revalidated(String uri, Entry entry) {
+        this.revalidations.increment();
+
+        synchronized (this.entries) {
+            this.entries.put(uri, new Entry(entry.etag, Instant.now().plus(getTtl(uri)), entry.lastModified, entry.value));
+        }
+    }
+
+    private Duration getTtl(String uri) {
+        String path = Optional.ofNullable(URI.create(uri).getRawPath()).orElse("");
+
+        return this.ttls.stream()
+            .filter(entry -> path.startsWith(entry.getKey()))
+            .map(Map.Entry::getValue)
+            .findFirst()
+            .orElse(this.defaultTtl);
+    }
+
+    static final class Entry {
+
+        private final String etag;
+
+        private final Instant expires;
+
+        private final String lastModified;
+
+        private final Class<?> type;
+
+        private final Object value;
+
+        private Entry(String etag, Instant expires, String lastModified, Object value) {
+            this.etag = etag;
+            this.expires = expires;
+            this.lastModified = lastModified;
+            this.type = value.getClass();
+            this.value = value;
+        }
+
+        Optional<String> getEtag() {
+            return Optional.ofNullable(this.etag);
+        }
+
+        Optional<String> getLastModified() {
+            return Optional.ofNullable(this.lastModified);
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T getValue() {
+            return (T) this.value;
+        }
+
+        boolean isFresh() {
+            return Instant.now().isBefore(this.expires);
+        }
+
+        boolean isRevalidatable() {
+            return this.etag != null || this.lastModified != null;
+        }
+
+    }
+
+}
@@ -34,6 +34,7 @@ import org.cloudfoundry.client.v2.jobs.Jobs;
 import org.cloudfoundry.client.v2.organizationquotadefinitions.OrganizationQuotaDefinitions;
 import org.cloudfoundry.client.v2.organizations.Organizations;
 import org.cloudfoundry.client.v2.privatedomains.PrivateDomains;
+import org.cloudfoundry.client.v2.resourcematch.ResourceMatch;
 import org.cloudfoundry.client.v2.routemappings.RouteMappings;
 import org.cloudfoundry.client.v2.routes.Routes;
 import org.cloudfoundry.client.v2.securitygroups.SecurityGroups;
@@ -57,6 +58,7 @@ import org.cloudfoundry.client.v3.packages.Packages;
 import org.cloudfoundry.client.v3.processes.Processes;
 import org.cloudfoundry.client.v3.servicebindings.ServiceBindingsV3;
 import org.cloudfoundry.client.v3.tasks.Tasks;
+import org.cloudfoundry.reactor.client.v2.applications.ReactorApplicationsV2;
 import org.cloudfoundry.reactor.client.v2.applicationusageevents.ReactorApplicationUsageEvents;
 import org.cloudfoundry.reactor.client.v2.domains.ReactorDomains;
 import org.cloudfoundry.reactor.client.v2.environmentvariablegroups.ReactorEnvironmentVariableGroups;
@@ -67,6 +69,7 @@ import org.cloudfoundry.reactor.client.v2.jobs.ReactorJobs;
 import org.cloudfoundry.reactor.client.v2.organizationquotadefinitions.ReactorOrganizationQuotaDefinitions;
 import org.cloudfoundry.reactor.client.v2.organizations.ReactorOrganizations;
 import org.cloudfoundry.reactor.client.v2.privatedomains.ReactorPrivateDomains;
+import org.cloudfoundry.reactor.client.v2.resourcematch.ReactorResourceMatch;
 import org.cloudfoundry.reactor.client.v2.routemappings.ReactorRouteMappings;
 import org.cloudfoundry.reactor.client.v2.routes.ReactorRoutes;
 import org.cloudfoundry.reactor.client.v2.securitygroups.ReactorSecurityGroups;
@@ -93,14 +96,14 @@ import org.cloudfoundry.reactor.client.v3.tasks.ReactorTasks;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
 import org.cloudfoundry.reactor.util.ConnectionContextSupplier;
 import org.cloudfoundry.reactor.util.DefaultConnectionContext;
-import org.cloudfoundry.spring.client.v2.applications.SpringApplicationsV2;
+import org.cloudfoundry.reactor.util.ResponseCache;
 import org.cloudfoundry.reactor.client.v2.buildpacks.ReactorBuildpacks;
 import org.cloudfoundry.spring.util.CloudFoundryClientCompatibilityChecker;
 import org.cloudfoundry.spring.util.SchedulerGroupBuilder;
+import org.cloudfoundry.spring.util.network.CachingOAuth2TokenProvider;
 import org.cloudfoundry.spring.util.network.ConnectionContext;
 import org.cloudfoundry.spring.util.network.ConnectionContextFactory;
 import org.cloudfoundry.spring.util.network.FallbackHttpMessageConverter;
-import org.cloudfoundry.spring.util.network.OAuth2RestOperationsOAuth2TokenProvider;
 import org.cloudfoundry.spring.util.network.OAuth2RestTemplateBuilder;
 import org.cloudfoundry.spring.util.network.OAuth2TokenProvider;
 import org.cloudfoundry.spring.util.network.SslCertificateTruster;
@@ -124,6 +127,11 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  */
 public final class SpringCloudFoundryClient implements CloudFoundryClient, ConnectionContextSupplier {
 
+    private static final Scheduler SCHEDULER_GROUP = new SchedulerGroupBuilder()
+        .name("cloud-foundry")
+        .autoShutdown(false)
+        .build();
+
     private final ApplicationUsageEvents applicationUsageEvents;
 
     private final ApplicationsV2 applicationsV2;
@@ -158,6 +166,8 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
 
     private final Processes processes;
 
+    private final ResourceMatch resourceMatch;
+
     private final RouteMappings routeMappings;
 
     private final Routes routes;
@@ -213,14 +223,12 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
                              @Singular List<DeserializationProblemHandler> problemHandlers) {
 
         this(getConnectionContext(host, port, skipSslValidation, clientId, clientSecret, username, password), host, port, proxyHost, proxyPassword, proxyPort, proxyUsername, skipSslValidation,
-            getSchedulerGroup(), problemHandlers, clientId, clientSecret);
+            SCHEDULER_GROUP, problemHandlers, clientId, clientSecret);
         new CloudFoundryClientCompatibilityChecker(this.info).check();
     }
 
     SpringCloudFoundryClient(String host, Integer port, String proxyHost, String proxyPassword, Integer proxyPort, String proxyUsername, Boolean skipSslValidation, RestOperations restOperations,
                              URI root, Scheduler schedulerGroup, OAuth2TokenProvider tokenProvider, List<DeserializationProblemHandler> problemHandlers, String clientId, String clientSecret) {
-        this.applicationsV2 = new SpringApplicationsV2(restOperations, root, schedulerGroup);
-
         this.tokenProvider = tokenProvider;
 
         ObjectMapper objectMapper = new ObjectMapper()
@@ -247,22 +255,25 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
         AuthorizationProvider authorizationProvider = this.connectionContext.getAuthorizationProvider();
         HttpClient httpClient = this.connectionContext.getHttpClient();
         Mono<String> root2 = this.connectionContext.getRoot();  // TODO: Change name once Spring is gone
+        ResponseCache responseCache = this.connectionContext.getResponseCache().orElse(null);
 
+        this.applicationsV2 = new ReactorApplicationsV2(authorizationProvider, httpClient, objectMapper, root2);
         this.applicationsV3 = new ReactorApplicationsV3(authorizationProvider, httpClient, objectMapper, root2);
         this.applicationUsageEvents = new ReactorApplicationUsageEvents(authorizationProvider, httpClient, objectMapper, root2);
         this.buildpacks = new ReactorBuildpacks(authorizationProvider, httpClient, objectMapper, root2);
         this.domains = new ReactorDomains(authorizationProvider, httpClient, objectMapper, root2);
         this.droplets = new ReactorDroplets(authorizationProvider, httpClient, objectMapper, root2);
         this.environmentVariableGroups = new ReactorEnvironmentVariableGroups(authorizationProvider, httpClient, objectMapper, root2);
-        this.featureFlags = new ReactorFeatureFlags(authorizationProvider, httpClient, objectMapper, root2);
+        this.featureFlags = new ReactorFeatureFlags(authorizationProvider, httpClient, objectMapper, root2, responseCache);
         this.events = new ReactorEvents(authorizationProvider, httpClient, objectMapper, root2);
-        this.info = new ReactorInfo(authorizationProvider, httpClient, objectMapper, root2);
+        this.info = new ReactorInfo(authorizationProvider, httpClient, objectMapper, root2, responseCache);
         this.jobs = new ReactorJobs(authorizationProvider, httpClient, objectMapper, root2);
         this.organizationQuotaDefinitions = new ReactorOrganizationQuotaDefinitions(authorizationProvider, httpClient, objectMapper, root2);
         this.organizations = new ReactorOrganizations(authorizationProvider, httpClient, objectMapper, root2);
         this.packages = new ReactorPackages(authorizationProvider, httpClient, objectMapper, root2);
         this.privateDomains = new ReactorPrivateDomains(authorizationProvider, httpClient, objectMapper, root2);
         this.processes = new ReactorProcesses(authorizationProvider, httpClient, objectMapper, root2);
+        this.resourceMatch = new ReactorResourceMatch(authorizationProvider, httpClient, objectMapper, root2);
         this.routeMappings = new ReactorRouteMappings(authorizationProvider, httpClient, objectMapper, root2);
         this.routes = new ReactorRoutes(authorizationProvider, httpClient, objectMapper, root2);
         this.securityGroups = new ReactorSecurityGroups(authorizationProvider, httpClient, objectMapper, root2);
@@ -271,14 +282,14 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
         this.serviceBrokers = new ReactorServiceBrokers(authorizationProvider, httpClient, objectMapper, root2);
         this.serviceInstances = new ReactorServiceInstances(authorizationProvider, httpClient, objectMapper, root2);
         this.serviceKeys = new ReactorServiceKeys(authorizationProvider, httpClient, objectMapper, root2);
-        this.servicePlans = new ReactorServicePlans(authorizationProvider, httpClient, objectMapper, root2);
+        this.servicePlans = new ReactorServicePlans(authorizationProvider, httpClient, objectMapper, root2, responseCache);
         this.servicePlanVisibilities = new ReactorServicePlanVisibilities(authorizationProvider, httpClient, objectMapper, root2);
         this.services = new ReactorServices(authorizationProvider, httpClient, objectMapper, root2);
         this.serviceUsageEvents = new ReactorServiceUsageEvents(authorizationProvider, httpClient, objectMapper, root2);
-        this.sharedDomains = new ReactorSharedDomains(authorizationProvider, httpClient, objectMapper, root2);
+        this.sharedDomains = new ReactorSharedDomains(authorizationProvider, httpClient, objectMapper, root2, responseCache);
         this.spaceQuotaDefinitions = new ReactorSpaceQuotaDefinitions(authorizationProvider, httpClient, objectMapper, root2);
         this.spaces = new ReactorSpaces(authorizationProvider, httpClient, objectMapper, root2);
-        this.stacks = new ReactorStacks(authorizationProvider, httpClient, objectMapper, root2);
+        this.stacks = new ReactorStacks(authorizationProvider, httpClient, objectMapper, root2, responseCache);
         this.tasks = new ReactorTasks(authorizationProvider, httpClient, objectMapper, root2);
         this.users = new ReactorUsers(authorizationProvider, httpClient, objectMapper, root2);
         this.userProvidedServiceInstances = new ReactorUserProvidedServiceInstances(authorizationProvider, httpClient, objectMapper, root2);
@@ -297,7 +308,7 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
                                      OAuth2RestOperations restOperations, URI root, Scheduler schedulerGroup, List<DeserializationProblemHandler> problemHandlers, String clientId,
                                      String clientSecret) {
 
-        this(host, port, proxyHost, proxyPassword, proxyPort, proxyUsername, skipSslValidation, restOperations, root, schedulerGroup, new OAuth2RestOperationsOAuth2TokenProvider(restOperations),
+        this(host, port, proxyHost, proxyPassword, proxyPort, proxyUsername, skipSslValidation, restOperations, root, schedulerGroup, new CachingOAuth2TokenProvider(restOperations, schedulerGroup),
             problemHandlers, clientId, clientSecret);
     }
 
@@ -391,6 +402,11 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
         return this.processes;
     }
 
+    @Override
+    public ResourceMatch resourceMatch() {
+        return this.resourceMatch;
+    }
+
     @Override
     public RouteMappings routeMappings() {
         return this.routeMappings;
@@ -518,11 +534,4 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
         return uri;
     }
 
-    private static Scheduler getSchedulerGroup() {
-        return new SchedulerGroupBuilder()
-            .name("cloud-foundry")
-            .autoShutdown(false)
-            .build();
-    }
-
 }
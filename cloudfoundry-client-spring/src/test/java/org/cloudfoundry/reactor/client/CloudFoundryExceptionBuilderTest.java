@@ -22,12 +22,18 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.springframework.util.StreamUtils.copyToByteArray;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 public final class CloudFoundryExceptionBuilderTest {
@@ -49,4 +55,27 @@ public final class CloudFoundryExceptionBuilderTest {
         CloudFoundryExceptionBuilder.build(cause);
     }
 
+    @Test
+    public void decodeCompressed() throws IOException {
+        byte[] body = Files.readAllBytes(Paths.get(new ClassPathResource("fixtures/client/v2/error_response.json").getURI()));
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        }
+
+        try (InputStream in = CloudFoundryExceptionBuilder.decode(new ByteArrayInputStream(compressed.toByteArray()), "gzip")) {
+            assertArrayEquals(body, copyToByteArray(in));
+        }
+    }
+
+    @Test
+    public void decodeUncompressed() throws IOException {
+        byte[] body = Files.readAllBytes(Paths.get(new ClassPathResource("fixtures/client/v2/error_response.json").getURI()));
+
+        try (InputStream in = CloudFoundryExceptionBuilder.decode(new ByteArrayInputStream(body), null)) {
+            assertArrayEquals(body, copyToByteArray(in));
+        }
+    }
+
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public final class MethodAccessorTest {
+
+    @Test
+    public void collection() throws NoSuchMethodException {
+        MethodAccessor accessor = new MethodAccessor(Stub.class.getDeclaredMethod("getCollection"));
+
+        assertEquals("test-value-1,test-value-2", accessor.getValue(new Stub()));
+    }
+
+    @Test
+    public void emptyCollection() throws NoSuchMethodException {
+        MethodAccessor accessor = new MethodAccessor(Stub.class.getDeclaredMethod("getEmptyCollection"));
+
+        assertNull(accessor.getValue(new Stub()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void exception() throws NoSuchMethodException {
+        MethodAccessor accessor = new MethodAccessor(Stub.class.getDeclaredMethod("getException"));
+
+        accessor.getValue(new Stub());
+    }
+
+    @Test
+    public void value() throws NoSuchMethodException {
+        MethodAccessor accessor = new MethodAccessor(Stub.class.getDeclaredMethod("getValue"));
+
+        assertEquals(1, accessor.getValue(new Stub()));
+    }
+
+    private static final class Stub {
+
+        private List<String> getCollection() {
+            return Arrays.asList("test-value-1", "", null, "test-value-2");
+        }
+
+        private List<String> getEmptyCollection() {
+            return Collections.singletonList("");
+        }
+
+        private String getException() {
+            throw new IllegalStateException("test-exception");
+        }
+
+        private int getValue() {
+            return 1;
+        }
+
+    }
+
+}
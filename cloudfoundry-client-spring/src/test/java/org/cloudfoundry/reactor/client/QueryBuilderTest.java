@@ -21,6 +21,10 @@ import org.junit.Test;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 
 public final class QueryBuilderTest {
@@ -32,13 +36,19 @@ public final class QueryBuilderTest {
         QueryBuilder.augment(builder, new StubQueryParamsSubClass());
 
         MultiValueMap<String, String> queryParams = builder.build().getQueryParams();
-        assertEquals(2, queryParams.size());
+        assertEquals(3, queryParams.size());
         assertEquals("test-value-1", queryParams.getFirst("test-parameter-1"));
         assertEquals("test-value-3", queryParams.getFirst("test-parameter-3"));
+        assertEquals("test-value-4,test-value-5", queryParams.getFirst("test-parameter-4"));
     }
 
     private static abstract class StubQueryParams {
 
+        @QueryParameter("test-parameter-5")
+        final List<String> getEmpty() {
+            return Collections.emptyList();
+        }
+
         @QueryParameter("test-parameter-2")
         final String getNull() {
             return null;
@@ -58,6 +68,11 @@ public final class QueryBuilderTest {
             return "test-value-3";
         }
 
+        @QueryParameter("test-parameter-4")
+        List<String> getParameter3() {
+            return Arrays.asList("test-value-4", "test-value-5");
+        }
+
     }
 
 }
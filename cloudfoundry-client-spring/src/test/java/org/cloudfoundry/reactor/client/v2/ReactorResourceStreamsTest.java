@@ -0,0 +1,146 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client.v2;
+
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.routes.ListRoutesRequest;
+import org.cloudfoundry.client.v2.routes.ListRoutesResponse;
+import org.cloudfoundry.client.v2.routes.RouteEntity;
+import org.cloudfoundry.client.v2.routes.RouteResource;
+import org.cloudfoundry.reactor.InteractionContext;
+import org.cloudfoundry.reactor.TestRequest;
+import org.cloudfoundry.reactor.TestResponse;
+import org.cloudfoundry.reactor.client.AbstractClientApiTest;
+import org.reactivestreams.Publisher;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.cloudfoundry.util.tuple.TupleUtils.function;
+
+public final class ReactorResourceStreamsTest {
+
+    public static final class List extends AbstractClientApiTest<ListRoutesRequest, RouteResource> {
+
+        private final ReactorResourceStreams resourceStreams = new ReactorResourceStreams(AUTHORIZATION_PROVIDER, HTTP_CLIENT, OBJECT_MAPPER, this.root);
+
+        @Override
+        protected InteractionContext getInteractionContext() {
+            return InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(GET).path("/v2/routes?page=-1")
+                    .build())
+                .response(TestResponse.builder()
+                    .status(OK)
+                    .payload("fixtures/client/v2/routes/GET_response.json")
+                    .build())
+                .build();
+        }
+
+        @Override
+        protected ListRoutesRequest getInvalidRequest() {
+            return null;
+        }
+
+        @Override
+        protected RouteResource getResponse() {
+            return RouteResource.builder()
+                .metadata(Resource.Metadata.builder()
+                    .id("8fd7433e-e9c7-4897-809f-9a9696f72986")
+                    .url("/v2/routes/8fd7433e-e9c7-4897-809f-9a9696f72986")
+                    .createdAt("2016-03-17T21:41:19Z")
+                    .build())
+                .entity(RouteEntity.builder()
+                    .host("host-25")
+                    .path("")
+                    .domainId("76d083f5-a5cc-4179-81b8-530a134cccf6")
+                    .spaceId("34453e18-fe59-4208-b29c-ae9f7b46985c")
+                    .serviceInstanceId("8479be64-245d-4385-a553-593ffcc6b886")
+                    .port(0)
+                    .domainUrl("/v2/domains/76d083f5-a5cc-4179-81b8-530a134cccf6")
+                    .spaceUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c")
+                    .serviceInstanceUrl("/v2/service_instances/8479be64-245d-4385-a553-593ffcc6b886")
+                    .applicationsUrl("/v2/routes/8fd7433e-e9c7-4897-809f-9a9696f72986/apps")
+                    .routeMappingsUrl("/v2/routes/8fd7433e-e9c7-4897-809f-9a9696f72986/route_mappings")
+                    .build())
+                .build();
+        }
+
+        @Override
+        protected ListRoutesRequest getValidRequest() {
+            return ListRoutesRequest.builder()
+                .page(-1)
+                .build();
+        }
+
+        @Override
+        protected Publisher<RouteResource> invoke(ListRoutesRequest request) {
+            return this.resourceStreams
+                .list(request, ListRoutesResponse.class, RouteResource.class, "v2", "routes")
+                .flatMap(function((response, resources) -> resources));
+        }
+
+    }
+
+    public static final class ListMetadata extends AbstractClientApiTest<ListRoutesRequest, ListRoutesResponse> {
+
+        private final ReactorResourceStreams resourceStreams = new ReactorResourceStreams(AUTHORIZATION_PROVIDER, HTTP_CLIENT, OBJECT_MAPPER, this.root);
+
+        @Override
+        protected InteractionContext getInteractionContext() {
+            return InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(GET).path("/v2/routes?page=-1")
+                    .build())
+                .response(TestResponse.builder()
+                    .status(OK)
+                    .payload("fixtures/client/v2/routes/GET_response.json")
+                    .build())
+                .build();
+        }
+
+        @Override
+        protected ListRoutesRequest getInvalidRequest() {
+            return null;
+        }
+
+        @Override
+        protected ListRoutesResponse getResponse() {
+            return ListRoutesResponse.builder()
+                .totalResults(1)
+                .totalPages(1)
+                .build();
+        }
+
+        @Override
+        protected ListRoutesRequest getValidRequest() {
+            return ListRoutesRequest.builder()
+                .page(-1)
+                .build();
+        }
+
+        @Override
+        protected Publisher<ListRoutesResponse> invoke(ListRoutesRequest request) {
+            return this.resourceStreams
+                .list(request, ListRoutesResponse.class, RouteResource.class, "v2", "routes")
+                .flatMap(function((response, resources) -> resources
+                    .toList()
+                    .map(r -> response)));
+        }
+
+    }
+
+}
@@ -19,6 +19,8 @@ package org.cloudfoundry.reactor.client.v2.routes;
 import org.cloudfoundry.client.v2.Resource;
 import org.cloudfoundry.client.v2.applications.ApplicationEntity;
 import org.cloudfoundry.client.v2.applications.ApplicationResource;
+import org.cloudfoundry.client.v2.domains.DomainEntity;
+import org.cloudfoundry.client.v2.domains.DomainResource;
 import org.cloudfoundry.client.v2.jobs.JobEntity;
 import org.cloudfoundry.client.v2.routes.AssociateRouteApplicationRequest;
 import org.cloudfoundry.client.v2.routes.AssociateRouteApplicationResponse;
@@ -38,12 +40,16 @@ import org.cloudfoundry.client.v2.routes.RouteExistsRequest;
 import org.cloudfoundry.client.v2.routes.RouteResource;
 import org.cloudfoundry.client.v2.routes.UpdateRouteRequest;
 import org.cloudfoundry.client.v2.routes.UpdateRouteResponse;
+import org.cloudfoundry.client.v2.spaces.SpaceEntity;
+import org.cloudfoundry.client.v2.spaces.SpaceResource;
 import org.cloudfoundry.reactor.InteractionContext;
 import org.cloudfoundry.reactor.TestRequest;
 import org.cloudfoundry.reactor.TestResponse;
 import org.cloudfoundry.reactor.client.AbstractClientApiTest;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+
 import static io.netty.handler.codec.http.HttpMethod.DELETE;
 import static io.netty.handler.codec.http.HttpMethod.GET;
 import static io.netty.handler.codec.http.HttpMethod.POST;
@@ -517,6 +523,106 @@ public final class ReactorRoutesTest {
 
     }
 
+    public static final class ListInlineRelations extends AbstractClientApiTest<ListRoutesRequest, ListRoutesResponse> {
+
+        private final ReactorRoutes routes = new ReactorRoutes(AUTHORIZATION_PROVIDER, HTTP_CLIENT, OBJECT_MAPPER, this.root);
+
+        @Override
+        protected InteractionContext getInteractionContext() {
+            return InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(GET).path("/v2/routes?include-relations=apps,domain,space&inline-relations-depth=1&page=-1")
+                    .build())
+                .response(TestResponse.builder()
+                    .status(OK)
+                    .payload("fixtures/client/v2/routes/GET_inline_relations_response.json")
+                    .build())
+                .build();
+        }
+
+        @Override
+        protected ListRoutesRequest getInvalidRequest() {
+            return null;
+        }
+
+        @Override
+        protected ListRoutesResponse getResponse() {
+            return ListRoutesResponse.builder()
+                .totalResults(1)
+                .totalPages(1)
+                .resource(RouteResource.builder()
+                    .metadata(Resource.Metadata.builder()
+                        .id("8fd7433e-e9c7-4897-809f-9a9696f72986")
+                        .url("/v2/routes/8fd7433e-e9c7-4897-809f-9a9696f72986")
+                        .createdAt("2016-03-17T21:41:19Z")
+                        .build())
+                    .entity(RouteEntity.builder()
+                        .host("host-25")
+                        .path("")
+                        .domainId("76d083f5-a5cc-4179-81b8-530a134cccf6")
+                        .spaceId("34453e18-fe59-4208-b29c-ae9f7b46985c")
+                        .port(0)
+                        .domainUrl("/v2/shared_domains/76d083f5-a5cc-4179-81b8-530a134cccf6")
+                        .domain(DomainResource.builder()
+                            .metadata(Resource.Metadata.builder()
+                                .id("76d083f5-a5cc-4179-81b8-530a134cccf6")
+                                .url("/v2/shared_domains/76d083f5-a5cc-4179-81b8-530a134cccf6")
+                                .createdAt("2016-03-17T21:41:19Z")
+                                .build())
+                            .entity(DomainEntity.builder()
+                                .name("domain-51.example.com")
+                                .build())
+                            .build())
+                        .spaceUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c")
+                        .space(SpaceResource.builder()
+                            .metadata(Resource.Metadata.builder()
+                                .id("34453e18-fe59-4208-b29c-ae9f7b46985c")
+                                .url("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c")
+                                .createdAt("2016-03-17T21:41:19Z")
+                                .build())
+                            .entity(SpaceEntity.builder()
+                                .name("name-1383")
+                                .organizationId("c15dd3a5-b8a5-4e3c-a0c6-1b8d1a1e9e8d")
+                                .allowSsh(true)
+                                .organizationUrl("/v2/organizations/c15dd3a5-b8a5-4e3c-a0c6-1b8d1a1e9e8d")
+                                .developersUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c/developers")
+                                .managersUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c/managers")
+                                .auditorsUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c/auditors")
+                                .applicationsUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c/apps")
+                                .routesUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c/routes")
+                                .domainsUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c/domains")
+                                .serviceInstancesUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c/service_instances")
+                                .applicationEventsUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c/app_events")
+                                .eventsUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c/events")
+                                .securityGroupsUrl("/v2/spaces/34453e18-fe59-4208-b29c-ae9f7b46985c/security_groups")
+                                .build())
+                            .build())
+                        .applicationsUrl("/v2/routes/8fd7433e-e9c7-4897-809f-9a9696f72986/apps")
+                        .applications(Collections.emptyList())
+                        .routeMappingsUrl("/v2/routes/8fd7433e-e9c7-4897-809f-9a9696f72986/route_mappings")
+                        .build())
+                    .build())
+                .build();
+        }
+
+        @Override
+        protected ListRoutesRequest getValidRequest() {
+            return ListRoutesRequest.builder()
+                .includeRelation("apps")
+                .includeRelation("domain")
+                .includeRelation("space")
+                .inlineRelationsDepth(1)
+                .page(-1)
+                .build();
+        }
+
+        @Override
+        protected Mono<ListRoutesResponse> invoke(ListRoutesRequest request) {
+            return this.routes.list(request);
+        }
+
+    }
+
     public static final class RemoveApplication extends AbstractClientApiTest<RemoveRouteApplicationRequest, Void> {
 
         private final ReactorRoutes routes = new ReactorRoutes(AUTHORIZATION_PROVIDER, HTTP_CLIENT, OBJECT_MAPPER, this.root);
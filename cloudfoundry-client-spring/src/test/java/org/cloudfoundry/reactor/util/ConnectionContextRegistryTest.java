@@ -0,0 +1,96 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.After;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class ConnectionContextRegistryTest {
+
+    private final AuthorizationProvider authorizationProvider = Mono::just;
+
+    private final ConnectionContextRegistry registry = ConnectionContextRegistry.builder().build();
+
+    @Test
+    public void close() {
+        this.registry.close();
+
+        assertTrue(this.registry.getEventLoopGroup().isShuttingDown());
+    }
+
+    @Test
+    public void register() {
+        ConnectionContext alpha = this.registry.register("test-foundation-alpha", DefaultConnectionContext.builder()
+            .authorizationProvider(this.authorizationProvider)
+            .host("api.alpha.test"));
+        ConnectionContext bravo = this.registry.register("test-foundation-bravo", DefaultConnectionContext.builder()
+            .authorizationProvider(this.authorizationProvider)
+            .host("api.bravo.test"));
+
+        assertSame(alpha, this.registry.get("test-foundation-alpha").get());
+        assertSame(bravo, this.registry.get("test-foundation-bravo").get());
+        assertEquals(2, this.registry.getNames().size());
+        assertSame(alpha.getObjectMapper(), bravo.getObjectMapper());
+        assertNotSame(alpha.getHttpClient(), bravo.getHttpClient());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void registerDuplicate() {
+        this.registry.register("test-foundation", DefaultConnectionContext.builder()
+            .authorizationProvider(this.authorizationProvider)
+            .host("api.alpha.test"));
+        this.registry.register("test-foundation", DefaultConnectionContext.builder()
+            .authorizationProvider(this.authorizationProvider)
+            .host("api.bravo.test"));
+    }
+
+    @Test
+    public void sslCertificateTruster() {
+        ProxyContext proxyContext = ProxyContext.builder().build();
+
+        SslCertificateTruster alpha = this.registry.getSslCertificateTruster(proxyContext, "api.alpha.test", 443);
+
+        assertSame(alpha, this.registry.getSslCertificateTruster(proxyContext, "api.alpha.test", 443));
+        assertNotSame(alpha, this.registry.getSslCertificateTruster(proxyContext, "api.alpha.test", 8443));
+        assertNotSame(alpha, this.registry.getSslCertificateTruster(proxyContext, "api.bravo.test", 443));
+    }
+
+    @After
+    public void tearDown() {
+        this.registry.close();
+    }
+
+    @Test
+    public void unregister() {
+        this.registry.register("test-foundation", DefaultConnectionContext.builder()
+            .authorizationProvider(this.authorizationProvider)
+            .host("api.alpha.test"));
+
+        this.registry.unregister("test-foundation");
+
+        assertFalse(this.registry.get("test-foundation").isPresent());
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import javax.net.ssl.SSLException;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public final class DefaultConnectionContextTest {
+
+    private final AuthorizationProvider authorizationProvider = Mono::just;
+
+    private final Channel channel = mock(Channel.class, RETURNS_SMART_NULLS);
+
+    private final ChannelConfig config = mock(ChannelConfig.class, RETURNS_SMART_NULLS);
+
+    private final ChannelPipeline pipeline = mock(ChannelPipeline.class, RETURNS_SMART_NULLS);
+
+    private final ProxyContext proxyContext = ProxyContext.builder().build();
+
+    @Test
+    public void configurePipeline() throws SSLException {
+        SslHandler sslHandler = SslContextBuilder.forClient().build().newHandler(UnpooledByteBufAllocator.DEFAULT);
+        when(this.pipeline.get(SslHandler.class)).thenReturn(sslHandler);
+
+        ConnectionContextRegistry registry = ConnectionContextRegistry.builder().build();
+
+        DefaultConnectionContext.configurePipeline(this.pipeline, Duration.ofSeconds(5), true, this.proxyContext, Duration.ofMinutes(1), Optional.of(registry), Duration.ofSeconds(7));
+
+        verify(this.config).setAllocator(registry.getAllocator());
+        verify(this.config).setConnectTimeoutMillis(5_000);
+        verify(this.config).setOption(ChannelOption.SO_KEEPALIVE, true);
+        verify(this.pipeline).addFirst(any(ReadTimeoutHandler.class));
+        assertEquals(7_000, sslHandler.getHandshakeTimeoutMillis());
+    }
+
+    @Test
+    public void configurePipelineDefaults() {
+        DefaultConnectionContext.configurePipeline(this.pipeline, null, null, this.proxyContext, null, Optional.empty(), null);
+
+        verifyZeroInteractions(this.config);
+        verify(this.pipeline, never()).addFirst(any(ReadTimeoutHandler.class));
+        verify(this.pipeline, never()).get(SslHandler.class);
+    }
+
+    @Test
+    public void close() {
+        DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+            .authorizationProvider(this.authorizationProvider)
+            .host("api.test")
+            .threadPoolSize(1)
+            .build();
+
+        connectionContext.close();
+
+        assertTrue(connectionContext.getEventLoopGroup().get().isShuttingDown());
+    }
+
+    @Test
+    public void defaults() {
+        DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+            .authorizationProvider(this.authorizationProvider)
+            .host("api.test")
+            .build();
+
+        assertEquals("cf", connectionContext.getClientId());
+        assertEquals("", connectionContext.getClientSecret());
+        assertFalse(connectionContext.getResponseCache().isPresent());
+    }
+
+    @Before
+    public void mockPipeline() {
+        when(this.pipeline.channel()).thenReturn(this.channel);
+        when(this.channel.config()).thenReturn(this.config);
+    }
+
+}
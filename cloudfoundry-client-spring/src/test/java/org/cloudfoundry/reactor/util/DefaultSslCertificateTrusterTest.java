@@ -0,0 +1,120 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.cloudfoundry.util.test.TestSubscriber;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class DefaultSslCertificateTrusterTest {
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Test
+    public void concurrentSubscribersShareProbe() {
+        DefaultSslCertificateTruster truster = new DefaultSslCertificateTruster((host, port, collector) -> {
+            this.connections.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(100))
+                .then(collect(collector));
+        });
+
+        Flux.range(0, 10)
+            .flatMap(i -> truster.trust("test-host", 443, Duration.ofSeconds(5)))
+            .then()
+            .get(Duration.ofSeconds(5));
+
+        truster.trust("test-host", 443, Duration.ofSeconds(5))
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(1, this.connections.get());
+    }
+
+    @Test
+    public void failedProbeNotCached() throws InterruptedException {
+        DefaultSslCertificateTruster truster = new DefaultSslCertificateTruster((host, port, collector) -> {
+            if (this.connections.incrementAndGet() == 1) {
+                return Mono.error(new IllegalStateException("test-message"));
+            }
+
+            return collect(collector);
+        });
+
+        TestSubscriber<Void> testSubscriber = new TestSubscriber<Void>()
+            .assertError(IllegalStateException.class, "test-message");
+
+        truster.trust("test-host", 443, Duration.ofSeconds(5))
+            .subscribe(testSubscriber);
+
+        testSubscriber.verify(Duration.ofSeconds(5));
+
+        truster.trust("test-host", 443, Duration.ofSeconds(5))
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(2, this.connections.get());
+    }
+
+    @Test
+    public void probeDoesNotBlock() throws InterruptedException {
+        DefaultSslCertificateTruster truster = new DefaultSslCertificateTruster((host, port, collector) -> Mono.never());
+
+        TestSubscriber<Void> testSubscriber = new TestSubscriber<Void>()
+            .assertError(TimeoutException.class, null);
+
+        long start = System.currentTimeMillis();
+        truster.trust("test-host", 443, Duration.ofMillis(500))
+            .subscribe(testSubscriber);
+        assertTrue(System.currentTimeMillis() - start < 500);
+
+        testSubscriber.verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void separateHosts() {
+        DefaultSslCertificateTruster truster = new DefaultSslCertificateTruster((host, port, collector) -> {
+            this.connections.incrementAndGet();
+            return collect(collector);
+        });
+
+        truster.trust("test-host-1", 443, Duration.ofSeconds(5))
+            .get(Duration.ofSeconds(5));
+        truster.trust("test-host-2", 443, Duration.ofSeconds(5))
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(2, this.connections.get());
+    }
+
+    private static Mono<Void> collect(CertificateCollectingTrustManager collector) {
+        try {
+            collector.checkServerTrusted(new X509Certificate[0], "RSA");
+        } catch (CertificateException | IllegalArgumentException e) {
+            // The platform trust manager rejects the empty chain once it has been collected
+        }
+
+        return Mono.empty();
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.tuple.Tuple2;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class JsonCodecTest {
+
+    private final JsonCodec jsonCodec = new JsonCodec(new ObjectMapper());
+
+    @Test
+    public void decodeComposite() {
+        ByteBuf first = Unpooled.copiedBuffer("{\"test-key\":", StandardCharsets.UTF_8);
+        ByteBuf second = Unpooled.copiedBuffer("\"test-value\"}", StandardCharsets.UTF_8);
+
+        CompositeByteBuf composite = Unpooled.compositeBuffer()
+            .addComponent(true, first)
+            .addComponent(true, second);
+
+        Map<?, ?> value = this.jsonCodec.decode(Map.class).apply(composite);
+
+        assertEquals("test-value", value.get("test-key"));
+        assertEquals(0, composite.refCnt());
+    }
+
+    @Test
+    public void decodeStreaming() {
+        ByteBuf buffer = Unpooled.copiedBuffer("{\"test-key\":\"test-value\",\"test-elements\":[{\"test-id\":1},{\"test-id\":2}],\"test-other\":{\"test-nested\":[3]}}",
+            StandardCharsets.UTF_8);
+
+        Tuple2<Map, Flux<Map>> value = this.jsonCodec.decodeStreaming(Map.class, "test-elements", Map.class).apply(buffer);
+
+        assertEquals("test-value", value.t1.get("test-key"));
+        assertEquals(Collections.emptyList(), value.t1.get("test-elements"));
+        assertNull(value.t1.get("test-other"));
+        assertEquals(0, buffer.refCnt());
+
+        List<Map> elements = value.t2.toList().get();
+
+        assertEquals(Arrays.asList(1, 2), Arrays.asList(elements.get(0).get("test-id"), elements.get(1).get("test-id")));
+    }
+
+    @Test
+    public void decodeStreamingCancel() {
+        ByteBuf buffer = Unpooled.copiedBuffer("{\"test-elements\":[{\"test-id\":1},{\"test-id\":2}]}", StandardCharsets.UTF_8);
+
+        Tuple2<Map, Flux<Map>> value = this.jsonCodec.decodeStreaming(Map.class, "test-elements", Map.class).apply(buffer);
+
+        assertEquals(1, value.t2.take(1).toList().get().size());
+        assertEquals(2, value.t2.toList().get().size());
+    }
+
+    @Test
+    public void decodeStreamingInvalid() {
+        ByteBuf buffer = Unpooled.copiedBuffer("[]", StandardCharsets.UTF_8);
+
+        try {
+            this.jsonCodec.decodeStreaming(Map.class, "test-elements", Map.class).apply(buffer);
+            fail("Expected IOException");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+
+        assertEquals(0, buffer.refCnt());
+    }
+
+    @Test
+    public void decodeStreamingMissingField() {
+        ByteBuf buffer = Unpooled.copiedBuffer("{\"test-key\":\"test-value\"}", StandardCharsets.UTF_8);
+
+        Tuple2<Map, Flux<Map>> value = this.jsonCodec.decodeStreaming(Map.class, "test-elements", Map.class).apply(buffer);
+
+        assertEquals(0, buffer.refCnt());
+        assertTrue(value.t2.toList().get().isEmpty());
+    }
+
+    @Test
+    public void decodeStreamingNotSubscribed() {
+        ByteBuf buffer = Unpooled.copiedBuffer("{\"test-key\":\"test-value\",\"test-elements\":[{\"test-id\":1}]}", StandardCharsets.UTF_8);
+
+        Tuple2<Map, Flux<Map>> value = this.jsonCodec.decodeStreaming(Map.class, "test-elements", Map.class).apply(buffer);
+
+        assertEquals("test-value", value.t1.get("test-key"));
+        assertEquals(0, buffer.refCnt());
+    }
+
+    @Test
+    public void receiveEmpty() {
+        ByteBuf buffer = Unpooled.buffer();
+
+        assertNull(JsonCodec.receive(Flux.just(buffer), null).get());
+        assertEquals(1, buffer.refCnt());
+    }
+
+    @Test
+    public void receiveError() {
+        ByteBuf buffer = Unpooled.copiedBuffer("{\"test-key\":", StandardCharsets.UTF_8);
+
+        try {
+            JsonCodec.receive(Flux.just(buffer).concatWith(Flux.error(new IllegalStateException("test-message"))), null).get();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertEquals("test-message", e.getMessage());
+        }
+
+        assertEquals(1, buffer.refCnt());
+    }
+
+    @Test
+    public void receiveGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write("{\"test-key\":\"test-value\"}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] compressed = bytes.toByteArray();
+        int split = compressed.length / 2;
+
+        CompositeByteBuf body = JsonCodec.receive(Flux.just(Unpooled.copiedBuffer(compressed, 0, split), Unpooled.copiedBuffer(compressed, split, compressed.length - split)), "gzip").get();
+
+        assertEquals("test-value", this.jsonCodec.decode(Map.class).apply(body).get("test-key"));
+        assertEquals(0, body.refCnt());
+    }
+
+    @Test
+    public void receiveIdentity() {
+        CompositeByteBuf body = JsonCodec.receive(Flux.just(Unpooled.copiedBuffer("{\"test-key\":\"test-value\"}", StandardCharsets.UTF_8)), null).get();
+
+        assertEquals("test-value", this.jsonCodec.decode(Map.class).apply(body).get("test-key"));
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class ResponseCacheTest {
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        ResponseCache cache = ResponseCache.builder()
+            .maximumSize(2)
+            .build();
+
+        cache.put("https://api.run.pivotal.io/v2/info", "alpha", null, null);
+        cache.put("https://api.run.pivotal.io/v2/stacks", "bravo", null, null);
+        cache.get("https://api.run.pivotal.io/v2/info", String.class);
+        cache.put("https://api.run.pivotal.io/v2/shared_domains", "charlie", null, null);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("https://api.run.pivotal.io/v2/info", String.class));
+        assertNull(cache.get("https://api.run.pivotal.io/v2/stacks", String.class));
+    }
+
+    @Test
+    public void get() {
+        ResponseCache cache = ResponseCache.builder().build();
+
+        cache.put("https://api.run.pivotal.io/v2/info", "alpha", "test-etag", null);
+        ResponseCache.Entry entry = cache.get("https://api.run.pivotal.io/v2/info", String.class);
+
+        assertEquals("alpha", entry.getValue());
+        assertEquals("test-etag", entry.getEtag().get());
+        assertFalse(entry.getLastModified().isPresent());
+        assertTrue(entry.isFresh());
+        assertTrue(entry.isRevalidatable());
+    }
+
+    @Test
+    public void getWrongType() {
+        ResponseCache cache = ResponseCache.builder().build();
+
+        cache.put("https://api.run.pivotal.io/v2/info", "alpha", null, null);
+
+        assertNull(cache.get("https://api.run.pivotal.io/v2/info", Integer.class));
+    }
+
+    @Test
+    public void ttlLongestPrefix() {
+        ResponseCache cache = ResponseCache.builder()
+            .defaultTtl(Duration.ofMinutes(1))
+            .ttl("/v2", Duration.ofMinutes(1))
+            .ttl("/v2/info", Duration.ZERO)
+            .build();
+
+        cache.put("https://api.run.pivotal.io/v2/info", "alpha", null, null);
+        cache.put("https://api.run.pivotal.io/v2/stacks", "bravo", null, null);
+
+        assertFalse(cache.get("https://api.run.pivotal.io/v2/info", String.class).isFresh());
+        assertTrue(cache.get("https://api.run.pivotal.io/v2/stacks", String.class).isFresh());
+    }
+
+}
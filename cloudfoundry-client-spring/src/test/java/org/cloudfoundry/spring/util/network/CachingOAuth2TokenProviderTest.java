@@ -0,0 +1,87 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.spring.util.network;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.oauth2.client.OAuth2ClientContext;
+import org.springframework.security.oauth2.client.OAuth2RestOperations;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import reactor.core.publisher.Computations;
+
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class CachingOAuth2TokenProviderTest {
+
+    private final OAuth2ClientContext clientContext = mock(OAuth2ClientContext.class, RETURNS_SMART_NULLS);
+
+    private final OAuth2RestOperations restOperations = mock(OAuth2RestOperations.class, RETURNS_SMART_NULLS);
+
+    private final CachingOAuth2TokenProvider tokenProvider = new CachingOAuth2TokenProvider(this.restOperations, Computations.concurrent("test", 256, 1, true));
+
+    @Test
+    public void cached() {
+        when(this.restOperations.getAccessToken()).thenReturn(token("test-token", 3_600_000));
+
+        assertEquals("test-token", this.tokenProvider.getToken().get());
+        assertEquals("test-token", this.tokenProvider.getToken().get());
+
+        verify(this.restOperations, times(1)).getAccessToken();
+    }
+
+    @Test
+    public void expired() {
+        DefaultOAuth2AccessToken token = token("test-token-1", 1_000);
+        when(this.restOperations.getAccessToken()).thenReturn(token, token("test-token-2", 3_600_000));
+        when(this.clientContext.getAccessToken()).thenReturn(token);
+
+        assertEquals("test-token-1", this.tokenProvider.getToken().get());
+        assertEquals("test-token-2", this.tokenProvider.getToken().get());
+
+        verify(this.clientContext).setAccessToken(null);
+        verify(this.restOperations, times(2)).getAccessToken();
+    }
+
+    @Test
+    public void noExpiration() {
+        when(this.restOperations.getAccessToken()).thenReturn(new DefaultOAuth2AccessToken("test-token"));
+
+        assertEquals("test-token", this.tokenProvider.getToken().get());
+        assertEquals("test-token", this.tokenProvider.getToken().get());
+
+        verify(this.restOperations, times(2)).getAccessToken();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        when(this.restOperations.getOAuth2ClientContext()).thenReturn(this.clientContext);
+    }
+
+    private static DefaultOAuth2AccessToken token(String value, long lifetime) {
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(value);
+        token.setExpiration(new Date(System.currentTimeMillis() + lifetime));
+        return token;
+    }
+
+}
@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.jobs.Jobs;
 import org.cloudfoundry.client.v2.organizationquotadefinitions.OrganizationQuotaDefinitions;
 import org.cloudfoundry.client.v2.organizations.Organizations;
 import org.cloudfoundry.client.v2.privatedomains.PrivateDomains;
+import org.cloudfoundry.client.v2.resourcematch.ResourceMatch;
 import org.cloudfoundry.client.v2.routemappings.RouteMappings;
 import org.cloudfoundry.client.v2.routes.Routes;
 import org.cloudfoundry.client.v2.securitygroups.SecurityGroups;
@@ -182,6 +183,13 @@ public interface CloudFoundryClient {
      */
     Processes processes();
 
+    /**
+     * Main entry point to the Cloud Foundry Resource Match Client API
+     *
+     * @return the Cloud Foundry Resource Match Client API
+     */
+    ResourceMatch resourceMatch();
+
     /**
      * Main entry point to the Cloud Foundry Route Mappings Client API
      *
@@ -21,12 +21,34 @@ import lombok.Data;
 import lombok.Getter;
 import org.cloudfoundry.QueryParameter;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Base class for requests that are paginated
  */
 @Data
 public abstract class PaginatedRequest {
 
+    /**
+     * The relations to inline, limiting those inlined by {@code inline-relations-depth}
+     *
+     * @param includeRelations the relations to inline
+     * @return the relations to inline
+     */
+    @Getter(onMethod = @__(@QueryParameter("include-relations")))
+    private final List<String> includeRelations;
+
+    /**
+     * The depth to which related entities are inlined in each resource
+     *
+     * @param inlineRelationsDepth the inline relations depth
+     * @return the inline relations depth
+     */
+    @Getter(onMethod = @__(@QueryParameter("inline-relations-depth")))
+    private final Integer inlineRelationsDepth;
+
     /**
      * The order direction
      *
@@ -54,7 +76,9 @@ public abstract class PaginatedRequest {
     @Getter(onMethod = @__(@QueryParameter("results-per-page")))
     private final Integer resultsPerPage;
 
-    protected PaginatedRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage) {
+    protected PaginatedRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, List<String> includeRelations) {
+        this.includeRelations = Optional.ofNullable(includeRelations).orElse(Collections.emptyList());
+        this.inlineRelationsDepth = inlineRelationsDepth;
         this.orderDirection = orderDirection;
         this.page = page;
         this.resultsPerPage = resultsPerPage;
@@ -84,13 +84,13 @@ public final class ListApplicationRoutesRequest extends PaginatedRequest impleme
     private final List<Integer> ports;
 
     @Builder
-    ListApplicationRoutesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListApplicationRoutesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                  String applicationId,
                                  @Singular List<String> domainIds,
                                  @Singular List<String> hosts,
                                  @Singular List<String> paths,
                                  @Singular List<Integer> ports) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.applicationId = applicationId;
         this.domainIds = domainIds;
         this.hosts = hosts;
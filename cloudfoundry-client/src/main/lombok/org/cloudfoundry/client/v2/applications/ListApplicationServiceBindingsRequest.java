@@ -57,10 +57,10 @@ public final class ListApplicationServiceBindingsRequest extends PaginatedReques
     private final List<String> serviceInstanceIds;
 
     @Builder
-    ListApplicationServiceBindingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListApplicationServiceBindingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                           String applicationId,
                                           @Singular List<String> serviceInstanceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.applicationId = applicationId;
         this.serviceInstanceIds = serviceInstanceIds;
     }
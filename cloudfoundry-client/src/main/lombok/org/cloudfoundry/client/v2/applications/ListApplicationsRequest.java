@@ -84,13 +84,13 @@ public final class ListApplicationsRequest extends PaginatedRequest implements V
     private final List<String> stackIds;
 
     @Builder
-    ListApplicationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListApplicationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                             Boolean diego,
                             @Singular List<String> names,
                             @Singular List<String> organizationIds,
                             @Singular List<String> spaceIds,
                             @Singular List<String> stackIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
 
         this.diego = diego;
         this.names = names;
@@ -20,12 +20,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Singular;
 import lombok.ToString;
 import org.cloudfoundry.QueryParameter;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 import org.cloudfoundry.client.v2.PaginatedRequest;
 
+import java.util.List;
+
 /**
  * The request payload for the List Application Usage Events operation
  */
@@ -45,10 +48,10 @@ public final class ListApplicationUsageEventsRequest extends PaginatedRequest im
     private final String afterApplicationUsageEventId;
 
     @Builder
-    ListApplicationUsageEventsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListApplicationUsageEventsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                       String afterApplicationUsageEventId) {
 
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.afterApplicationUsageEventId = afterApplicationUsageEventId;
     }
 
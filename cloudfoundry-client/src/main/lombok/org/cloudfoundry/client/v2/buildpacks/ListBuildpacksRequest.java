@@ -47,10 +47,10 @@ public final class ListBuildpacksRequest extends PaginatedRequest implements Val
     private final List<String> names;
 
     @Builder
-    ListBuildpacksRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListBuildpacksRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                           @Singular List<String> names) {
 
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
     }
 
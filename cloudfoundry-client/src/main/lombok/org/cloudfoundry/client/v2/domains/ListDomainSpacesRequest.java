@@ -84,13 +84,13 @@ public final class ListDomainSpacesRequest extends PaginatedRequest implements V
     private final List<String> organizationIds;
 
     @Builder
-    ListDomainSpacesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListDomainSpacesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                             @Singular List<String> applicationIds,
                             @Singular List<String> developerIds,
                             String domainId,
                             @Singular List<String> names,
                             @Singular List<String> organizationIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.applicationIds = applicationIds;
         this.developerIds = developerIds;
         this.domainId = domainId;
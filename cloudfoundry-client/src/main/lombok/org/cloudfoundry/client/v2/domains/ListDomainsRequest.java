@@ -56,10 +56,10 @@ public final class ListDomainsRequest extends PaginatedRequest implements Valida
     private final List<String> owningOrganizationIds;
 
     @Builder
-    ListDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                        @Singular List<String> names,
                        @Singular List<String> owningOrganizationIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
         this.owningOrganizationIds = owningOrganizationIds;
     }
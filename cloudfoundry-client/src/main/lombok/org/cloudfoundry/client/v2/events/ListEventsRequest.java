@@ -66,11 +66,11 @@ public final class ListEventsRequest extends PaginatedRequest implements Validat
     private final List<String> types;
 
     @Builder
-    ListEventsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListEventsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                       @Singular List<String> actees,
                       @Singular List<String> timestamps,
                       @Singular List<String> types) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.actees = actees;
         this.timestamps = timestamps;
         this.types = types;
@@ -102,7 +102,7 @@ public final class ListOrganizationAuditorsRequest extends PaginatedRequest impl
     private final List<String> spaceIds;
 
     @Builder
-    ListOrganizationAuditorsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationAuditorsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                     @Singular List<String> auditedOrganizationIds,
                                     @Singular List<String> auditedSpaceIds,
                                     @Singular List<String> billingManagedOrganizationIds,
@@ -110,7 +110,7 @@ public final class ListOrganizationAuditorsRequest extends PaginatedRequest impl
                                     @Singular List<String> managedSpaceIds,
                                     String organizationId,
                                     @Singular List<String> spaceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
 
         this.auditedOrganizationIds = auditedOrganizationIds;
         this.auditedSpaceIds = auditedSpaceIds;
@@ -66,11 +66,11 @@ public final class ListOrganizationDomainsRequest extends PaginatedRequest imple
     private final List<String> owningOrganizationIds;
 
     @Builder
-    ListOrganizationDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                    @Singular List<String> names,
                                    String organizationId,
                                    @Singular List<String> owningOrganizationIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
         this.organizationId = organizationId;
         this.owningOrganizationIds = owningOrganizationIds;
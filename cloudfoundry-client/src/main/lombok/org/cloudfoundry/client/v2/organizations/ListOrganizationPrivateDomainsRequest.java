@@ -57,10 +57,10 @@ public final class ListOrganizationPrivateDomainsRequest extends PaginatedReques
     private final String organizationId;
 
     @Builder
-    ListOrganizationPrivateDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationPrivateDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                           @Singular List<String> names,
                                           String organizationId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
         this.organizationId = organizationId;
     }
@@ -85,13 +85,13 @@ public final class ListOrganizationServicesRequest extends PaginatedRequest impl
     private final List<String> serviceBrokerIds;
 
     @Builder
-    ListOrganizationServicesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationServicesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                     Boolean active,
                                     @Singular List<String> labels,
                                     String organizationId,
                                     @Singular List<String> providers,
                                     @Singular List<String> serviceBrokerIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.active = active;
         this.labels = labels;
         this.organizationId = organizationId;
@@ -21,11 +21,14 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Singular;
 import lombok.ToString;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 import org.cloudfoundry.client.v2.PaginatedRequest;
 
+import java.util.List;
+
 /**
  * The request payload for the List all Space Quota Definitions for the Organization operation
  */
@@ -44,9 +47,9 @@ public final class ListOrganizationSpaceQuotaDefinitionsRequest extends Paginate
     private final String organizationId;
 
     @Builder
-    ListOrganizationSpaceQuotaDefinitionsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationSpaceQuotaDefinitionsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                                  String organizationId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.organizationId = organizationId;
     }
 
@@ -75,12 +75,12 @@ public final class ListOrganizationSpacesRequest extends PaginatedRequest implem
     private final String organizationId;
 
     @Builder
-    ListOrganizationSpacesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationSpacesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                   @Singular List<String> applicationIds,
                                   @Singular List<String> developerIds,
                                   @Singular List<String> names,
                                   String organizationId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
 
         this.applicationIds = applicationIds;
         this.developerIds = developerIds;
@@ -102,7 +102,7 @@ public final class ListOrganizationUsersRequest extends PaginatedRequest impleme
     private final List<String> spaceIds;
 
     @Builder
-    ListOrganizationUsersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationUsersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                  @Singular List<String> auditedOrganizationIds,
                                  @Singular List<String> auditedSpaceIds,
                                  @Singular List<String> billingManagedOrganizationIds,
@@ -110,7 +110,7 @@ public final class ListOrganizationUsersRequest extends PaginatedRequest impleme
                                  @Singular List<String> managedSpaceIds,
                                  String organizationId,
                                  @Singular List<String> spaceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.auditedOrganizationIds = auditedOrganizationIds;
         this.auditedSpaceIds = auditedSpaceIds;
         this.billingManagedOrganizationIds = billingManagedOrganizationIds;
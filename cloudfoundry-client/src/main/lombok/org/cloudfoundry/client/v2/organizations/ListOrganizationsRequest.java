@@ -101,7 +101,7 @@ public final class ListOrganizationsRequest extends PaginatedRequest implements
     private final List<String> userIds;
 
     @Builder
-    ListOrganizationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                              @Singular List<String> auditorIds,
                              @Singular List<String> billingManagerIds,
                              @Singular List<String> managerIds,
@@ -109,7 +109,7 @@ public final class ListOrganizationsRequest extends PaginatedRequest implements
                              @Singular List<String> spaceIds,
                              @Singular List<String> statuses,
                              @Singular List<String> userIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.auditorIds = auditorIds;
         this.billingManagerIds = billingManagerIds;
         this.managerIds = managerIds;
@@ -48,9 +48,9 @@ public final class ListPrivateDomainsRequest extends PaginatedRequest implements
 
 
     @Builder
-    ListPrivateDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListPrivateDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                               @Singular List<String> names) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
     }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.v2.resourcematch;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Singular;
+import org.cloudfoundry.Validatable;
+import org.cloudfoundry.ValidationResult;
+
+import java.util.List;
+
+/**
+ * The request payload for the List Matching Resources operation
+ */
+@Data
+public final class ListMatchingResourcesRequest implements Validatable {
+
+    /**
+     * The fingerprints of the files to match
+     *
+     * @param resources the fingerprints of the files to match
+     * @return the fingerprints of the files to match
+     */
+    @Getter(onMethod = @__(@JsonValue))
+    private final List<Resource> resources;
+
+    @Builder
+    ListMatchingResourcesRequest(@Singular List<Resource> resources) {
+        this.resources = resources;
+    }
+
+    @Override
+    public ValidationResult isValid() {
+        ValidationResult.ValidationResultBuilder builder = ValidationResult.builder();
+
+        for (Resource resource : this.resources) {
+            builder.messages(resource.isValid().getMessages());
+        }
+
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.v2.resourcematch;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import org.cloudfoundry.Validatable;
+import org.cloudfoundry.ValidationResult;
+
+/**
+ * A fingerprint of a file in an application's bits
+ */
+@Data
+public final class Resource implements Validatable {
+
+    /**
+     * The SHA-1 hash of the file
+     *
+     * @param hash the SHA-1 hash of the file
+     * @return the SHA-1 hash of the file
+     */
+    @Getter(onMethod = @__(@JsonProperty("sha1")))
+    private final String hash;
+
+    /**
+     * The size of the file in bytes
+     *
+     * @param size the size of the file in bytes
+     * @return the size of the file in bytes
+     */
+    @Getter(onMethod = @__(@JsonProperty("size")))
+    private final Long size;
+
+    @Builder
+    Resource(@JsonProperty("sha1") String hash,
+             @JsonProperty("size") Long size) {
+
+        this.hash = hash;
+        this.size = size;
+    }
+
+    @Override
+    public ValidationResult isValid() {
+        ValidationResult.ValidationResultBuilder builder = ValidationResult.builder();
+
+        if (this.hash == null) {
+            builder.message("resource hash must be specified");
+        }
+
+        if (this.size == null) {
+            builder.message("resource size must be specified");
+        }
+
+        return builder.build();
+    }
+
+}
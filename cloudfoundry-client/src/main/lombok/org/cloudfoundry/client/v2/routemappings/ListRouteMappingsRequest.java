@@ -56,11 +56,11 @@ public class ListRouteMappingsRequest extends PaginatedRequest implements Valida
     private final List<String> routeIds;
 
     @Builder
-    ListRouteMappingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListRouteMappingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                              @Singular List<String> applicationIds,
                              @Singular List<String> routeIds) {
 
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.applicationIds = applicationIds;
         this.routeIds = routeIds;
     }
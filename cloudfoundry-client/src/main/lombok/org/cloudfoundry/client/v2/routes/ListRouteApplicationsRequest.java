@@ -94,14 +94,14 @@ public final class ListRouteApplicationsRequest extends PaginatedRequest impleme
     private final List<String> stackIds;
 
     @Builder
-    ListRouteApplicationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListRouteApplicationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                  Boolean diego,
                                  @Singular List<String> names,
                                  @Singular List<String> organizationIds,
                                  String routeId,
                                  @Singular List<String> spaceIds,
                                  @Singular List<String> stackIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
 
         this.diego = diego;
         this.names = names;
@@ -74,12 +74,12 @@ public final class ListRoutesRequest extends PaginatedRequest implements Validat
     private final List<String> paths;
 
     @Builder
-    ListRoutesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListRoutesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                       @Singular List<String> domainIds,
                       @Singular List<String> hosts,
                       String organizationId,
                       @Singular List<String> paths) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
 
         this.domainIds = domainIds;
         this.hosts = hosts;
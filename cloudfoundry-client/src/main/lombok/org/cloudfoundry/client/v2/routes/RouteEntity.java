@@ -19,6 +19,11 @@ package org.cloudfoundry.client.v2.routes;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
+import org.cloudfoundry.client.v2.applications.ApplicationResource;
+import org.cloudfoundry.client.v2.domains.DomainResource;
+import org.cloudfoundry.client.v2.spaces.SpaceResource;
+
+import java.util.List;
 
 /**
  * The entity response payload for the Route resource
@@ -26,6 +31,14 @@ import lombok.Data;
 @Data
 public final class RouteEntity {
 
+    /**
+     * The applications, if inlined
+     *
+     * @param applications the applications
+     * @return the applications
+     */
+    private final List<ApplicationResource> applications;
+
     /**
      * The applications url
      *
@@ -34,6 +47,14 @@ public final class RouteEntity {
      */
     private final String applicationsUrl;
 
+    /**
+     * The domain, if inlined
+     *
+     * @param domain the domain
+     * @return the domain
+     */
+    private final DomainResource domain;
+
     /**
      * The domain id
      *
@@ -98,6 +119,14 @@ public final class RouteEntity {
      */
     private final String serviceInstanceUrl;
 
+    /**
+     * The space, if inlined
+     *
+     * @param space the space
+     * @return the space
+     */
+    private final SpaceResource space;
+
     /**
      * The space id
      *
@@ -115,7 +144,9 @@ public final class RouteEntity {
     private final String spaceUrl;
 
     @Builder
-    RouteEntity(@JsonProperty("apps_url") String applicationsUrl,
+    RouteEntity(@JsonProperty("apps") List<ApplicationResource> applications,
+                @JsonProperty("apps_url") String applicationsUrl,
+                @JsonProperty("domain") DomainResource domain,
                 @JsonProperty("domain_guid") String domainId,
                 @JsonProperty("domain_url") String domainUrl,
                 @JsonProperty("host") String host,
@@ -124,9 +155,12 @@ public final class RouteEntity {
                 @JsonProperty("route_mappings_url") String routeMappingsUrl,
                 @JsonProperty("service_instance_guid") String serviceInstanceId,
                 @JsonProperty("service_instance_url") String serviceInstanceUrl,
+                @JsonProperty("space") SpaceResource space,
                 @JsonProperty("space_guid") String spaceId,
                 @JsonProperty("space_url") String spaceUrl) {
+        this.applications = applications;
         this.applicationsUrl = applicationsUrl;
+        this.domain = domain;
         this.domainId = domainId;
         this.domainUrl = domainUrl;
         this.host = host;
@@ -135,6 +169,7 @@ public final class RouteEntity {
         this.routeMappingsUrl = routeMappingsUrl;
         this.serviceInstanceId = serviceInstanceId;
         this.serviceInstanceUrl = serviceInstanceUrl;
+        this.space = space;
         this.spaceId = spaceId;
         this.spaceUrl = spaceUrl;
     }
@@ -56,10 +56,10 @@ public final class ListServiceBindingsRequest extends PaginatedRequest implement
     private final List<String> serviceInstanceIds;
 
     @Builder
-    ListServiceBindingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServiceBindingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                @Singular List<String> applicationIds,
                                @Singular List<String> serviceInstanceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.applicationIds = applicationIds;
         this.serviceInstanceIds = serviceInstanceIds;
     }
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Singular;
+import org.cloudfoundry.client.v2.applications.ApplicationResource;
 
 import java.util.Collections;
 import java.util.Map;
@@ -31,6 +32,14 @@ import java.util.Optional;
 @Data
 public final class ServiceBindingEntity {
 
+    /**
+     * The application, if inlined
+     *
+     * @param application the application
+     * @return the application
+     */
+    private final ApplicationResource application;
+
     private final String applicationId;
 
     private final String applicationUrl;
@@ -50,7 +59,8 @@ public final class ServiceBindingEntity {
     private final String syslogDrainUrl;
 
     @Builder
-    ServiceBindingEntity(@JsonProperty("app_guid") String applicationId,
+    ServiceBindingEntity(@JsonProperty("app") ApplicationResource application,
+                         @JsonProperty("app_guid") String applicationId,
                          @JsonProperty("app_url") String applicationUrl,
                          @JsonProperty("binding_options") @Singular Map<String, Object> bindingOptions,
                          @JsonProperty("credentials") @Singular Map<String, Object> credentials,
@@ -60,6 +70,7 @@ public final class ServiceBindingEntity {
                          @JsonProperty("service_instance_url") String serviceInstanceUrl,
                          @JsonProperty("syslog_drain_url") String syslogDrainUrl) {
 
+        this.application = application;
         this.applicationId = applicationId;
         this.applicationUrl = applicationUrl;
         this.bindingOptions = Optional.ofNullable(bindingOptions).orElse(Collections.emptyMap());
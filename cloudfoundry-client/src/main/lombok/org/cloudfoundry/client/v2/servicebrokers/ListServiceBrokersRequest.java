@@ -56,10 +56,10 @@ public final class ListServiceBrokersRequest extends PaginatedRequest implements
     private final List<String> spaceIds;
 
     @Builder
-    ListServiceBrokersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServiceBrokersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                               @Singular List<String> names,
                               @Singular List<String> spaceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
         this.spaceIds = spaceIds;
     }
@@ -57,10 +57,10 @@ public final class ListServiceInstanceServiceBindingsRequest extends PaginatedRe
     private final String serviceInstanceId;
 
     @Builder
-    ListServiceInstanceServiceBindingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServiceInstanceServiceBindingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                               @Singular List<String> applicationIds,
                                               String serviceInstanceId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.applicationIds = applicationIds;
         this.serviceInstanceId = serviceInstanceId;
     }
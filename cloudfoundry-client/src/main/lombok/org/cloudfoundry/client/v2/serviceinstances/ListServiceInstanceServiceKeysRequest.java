@@ -112,7 +112,7 @@ public final class ListServiceInstanceServiceKeysRequest extends PaginatedReques
 
 
     @Builder
-    ListServiceInstanceServiceKeysRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServiceInstanceServiceKeysRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                           @Singular List<String> gatewayNames,
                                           @Singular List<String> names,
                                           @Singular List<String> organizationIds,
@@ -122,7 +122,7 @@ public final class ListServiceInstanceServiceKeysRequest extends PaginatedReques
                                           @Singular List<String> servicePlanIds,
                                           @Singular List<String> spaceIds) {
 
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.gatewayNames = gatewayNames;
         this.names = names;
         this.organizationIds = organizationIds;
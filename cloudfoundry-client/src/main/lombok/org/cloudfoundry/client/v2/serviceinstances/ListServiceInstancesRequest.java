@@ -101,7 +101,7 @@ public final class ListServiceInstancesRequest extends PaginatedRequest implemen
     private final List<String> spaceIds;
 
     @Builder
-    ListServiceInstancesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServiceInstancesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                 @Singular List<String> gatewayNames,
                                 @Singular List<String> names,
                                 @Singular List<String> organizationIds,
@@ -109,7 +109,7 @@ public final class ListServiceInstancesRequest extends PaginatedRequest implemen
                                 @Singular List<String> serviceKeyIds,
                                 @Singular List<String> servicePlanIds,
                                 @Singular List<String> spaceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.gatewayNames = gatewayNames;
         this.names = names;
         this.organizationIds = organizationIds;
@@ -24,6 +24,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.v2.servicebindings.ServiceBindingResource;
+import org.cloudfoundry.client.v2.serviceplans.ServicePlanResource;
 
 import java.util.Collections;
 import java.util.List;
@@ -71,6 +73,14 @@ public final class UnionServiceInstanceEntity extends BaseServiceInstanceEntity
      */
     private final String routeServiceUrl;
 
+    /**
+     * The service bindings, if inlined
+     *
+     * @param serviceBindings the service bindings
+     * @return the service bindings
+     */
+    private final List<ServiceBindingResource> serviceBindings;
+
     /**
      * The service keys url
      *
@@ -79,6 +89,14 @@ public final class UnionServiceInstanceEntity extends BaseServiceInstanceEntity
      */
     private final String serviceKeysUrl;
 
+    /**
+     * The service plan, if inlined
+     *
+     * @param servicePlan the service plan
+     * @return the service plan
+     */
+    private final ServicePlanResource servicePlan;
+
     /**
      * The service plan id
      *
@@ -119,8 +137,10 @@ public final class UnionServiceInstanceEntity extends BaseServiceInstanceEntity
                                @JsonProperty("name") String name,
                                @JsonProperty("route_service_url") String routeServiceUrl,
                                @JsonProperty("routes_url") String routesUrl,
+                               @JsonProperty("service_bindings") List<ServiceBindingResource> serviceBindings,
                                @JsonProperty("service_bindings_url") String serviceBindingsUrl,
                                @JsonProperty("service_keys_url") String serviceKeysUrl,
+                               @JsonProperty("service_plan") ServicePlanResource servicePlan,
                                @JsonProperty("service_plan_guid") String servicePlanId,
                                @JsonProperty("service_plan_url") String servicePlanUrl,
                                @JsonProperty("space_guid") String spaceId,
@@ -135,7 +155,9 @@ public final class UnionServiceInstanceEntity extends BaseServiceInstanceEntity
         this.gatewayData = gatewayData;
         this.lastOperation = lastOperation;
         this.routeServiceUrl = routeServiceUrl;
+        this.serviceBindings = serviceBindings;
         this.serviceKeysUrl = serviceKeysUrl;
+        this.servicePlan = servicePlan;
         this.servicePlanId = servicePlanId;
         this.servicePlanUrl = servicePlanUrl;
         this.syslogDrainUrl = syslogDrainUrl;
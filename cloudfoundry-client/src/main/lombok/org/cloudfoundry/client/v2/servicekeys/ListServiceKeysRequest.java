@@ -56,10 +56,10 @@ public final class ListServiceKeysRequest extends PaginatedRequest implements Va
     private final List<String> serviceInstanceIds;
 
     @Builder
-    ListServiceKeysRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServiceKeysRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                            @Singular List<String> names,
                            @Singular List<String> serviceInstanceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
         this.serviceInstanceIds = serviceInstanceIds;
     }
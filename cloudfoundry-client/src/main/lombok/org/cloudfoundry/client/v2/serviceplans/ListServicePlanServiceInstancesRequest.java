@@ -93,14 +93,14 @@ public final class ListServicePlanServiceInstancesRequest extends PaginatedReque
     private final List<String> spaceIds;
 
     @Builder
-    ListServicePlanServiceInstancesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServicePlanServiceInstancesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                            @Singular List<String> gatewayNames,
                                            @Singular List<String> names,
                                            @Singular List<String> serviceBindingIds,
                                            @Singular List<String> serviceKeyIds,
                                            String servicePlanId,
                                            @Singular List<String> spaceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.gatewayNames = gatewayNames;
         this.names = names;
         this.serviceBindingIds = serviceBindingIds;
@@ -75,12 +75,12 @@ public final class ListServicePlansRequest extends PaginatedRequest implements V
     private final List<String> serviceInstanceIds;
 
     @Builder
-    ListServicePlansRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServicePlansRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                             Boolean active,
                             @Singular List<String> serviceBrokerIds,
                             @Singular List<String> serviceIds,
                             @Singular List<String> serviceInstanceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.active = active;
         this.serviceBrokerIds = serviceBrokerIds;
         this.serviceIds = serviceIds;
@@ -20,6 +20,7 @@ package org.cloudfoundry.client.v2.serviceplans;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
+import org.cloudfoundry.client.v2.services.ServiceResource;
 
 /**
  * The entity response payload for Service Plans
@@ -75,6 +76,14 @@ public final class ServicePlanEntity {
      */
     private final Boolean publiclyVisible;
 
+    /**
+     * The service, if inlined
+     *
+     * @param service the service
+     * @return the service
+     */
+    private final ServiceResource service;
+
     /**
      * The service id
      *
@@ -114,6 +123,7 @@ public final class ServicePlanEntity {
                       @JsonProperty("free") Boolean free,
                       @JsonProperty("name") String name,
                       @JsonProperty("public") Boolean publiclyVisible,
+                      @JsonProperty("service") ServiceResource service,
                       @JsonProperty("service_guid") String serviceId,
                       @JsonProperty("service_instances_url") String serviceInstancesUrl,
                       @JsonProperty("service_url") String serviceUrl,
@@ -124,6 +134,7 @@ public final class ServicePlanEntity {
         this.free = free;
         this.name = name;
         this.publiclyVisible = publiclyVisible;
+        this.service = service;
         this.serviceId = serviceId;
         this.serviceInstancesUrl = serviceInstancesUrl;
         this.serviceUrl = serviceUrl;
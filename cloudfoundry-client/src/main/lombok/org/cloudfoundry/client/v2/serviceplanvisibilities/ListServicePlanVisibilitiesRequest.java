@@ -56,10 +56,10 @@ public final class ListServicePlanVisibilitiesRequest extends PaginatedRequest i
     private final List<String> servicePlanIds;
 
     @Builder
-    ListServicePlanVisibilitiesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServicePlanVisibilitiesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                        @Singular List<String> organizationIds,
                                        @Singular List<String> servicePlanIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.organizationIds = organizationIds;
         this.servicePlanIds = servicePlanIds;
     }
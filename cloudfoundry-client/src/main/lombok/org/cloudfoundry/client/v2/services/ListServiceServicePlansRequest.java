@@ -76,12 +76,12 @@ public final class ListServiceServicePlansRequest extends PaginatedRequest imple
     private final List<String> serviceInstanceIds;
 
     @Builder
-    ListServiceServicePlansRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServiceServicePlansRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                    Boolean active,
                                    @Singular List<String> serviceBrokerIds,
                                    String serviceId,
                                    @Singular List<String> serviceInstanceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.active = active;
         this.serviceBrokerIds = serviceBrokerIds;
         this.serviceId = serviceId;
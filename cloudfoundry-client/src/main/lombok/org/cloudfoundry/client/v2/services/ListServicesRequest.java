@@ -75,12 +75,12 @@ public final class ListServicesRequest extends PaginatedRequest implements Valid
     private final List<String> serviceBrokerIds;
 
     @Builder
-    ListServicesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServicesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                         Boolean active,
                         @Singular List<String> labels,
                         @Singular List<String> providers,
                         @Singular List<String> serviceBrokerIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.active = active;
         this.labels = labels;
         this.providers = providers;
@@ -67,11 +67,11 @@ public final class ListServiceUsageEventsRequest extends PaginatedRequest implem
 
 
     @Builder
-    ListServiceUsageEventsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServiceUsageEventsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                   String afterServiceUsageEventId,
                                   @Singular List<String> serviceIds,
                                   @Singular List<String> serviceInstanceTypes) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.afterServiceUsageEventId = afterServiceUsageEventId;
         this.serviceIds = serviceIds;
         this.serviceInstanceTypes = serviceInstanceTypes;
@@ -47,9 +47,9 @@ public final class ListSharedDomainsRequest extends PaginatedRequest implements
     private final List<String> names;
 
     @Builder
-    ListSharedDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSharedDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                              @Singular List<String> names) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
 
         this.names = names;
     }
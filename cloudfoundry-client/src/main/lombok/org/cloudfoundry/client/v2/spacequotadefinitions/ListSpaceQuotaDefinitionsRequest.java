@@ -19,11 +19,14 @@ package org.cloudfoundry.client.v2.spacequotadefinitions;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Singular;
 import lombok.ToString;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 import org.cloudfoundry.client.v2.PaginatedRequest;
 
+import java.util.List;
+
 /**
  * The request payload for the List Space Quota Definitions operation
  */
@@ -33,8 +36,8 @@ import org.cloudfoundry.client.v2.PaginatedRequest;
 public final class ListSpaceQuotaDefinitionsRequest extends PaginatedRequest implements Validatable {
 
     @Builder
-    ListSpaceQuotaDefinitionsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage) {
-        super(orderDirection, page, resultsPerPage);
+    ListSpaceQuotaDefinitionsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations) {
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
     }
 
     @Override
@@ -85,13 +85,13 @@ public final class ListSpaceApplicationsRequest extends PaginatedRequest impleme
     private final List<String> stackIds;
 
     @Builder
-    ListSpaceApplicationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceApplicationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                  Boolean diego,
                                  @Singular List<String> names,
                                  @Singular List<String> organizationIds,
                                  String spaceId,
                                  @Singular List<String> stackIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.diego = diego;
         this.names = names;
         this.organizationIds = organizationIds;
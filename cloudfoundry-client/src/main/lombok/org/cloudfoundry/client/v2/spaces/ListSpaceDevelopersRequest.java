@@ -102,7 +102,7 @@ public final class ListSpaceDevelopersRequest extends PaginatedRequest implement
     private final String spaceId;
 
     @Builder
-    ListSpaceDevelopersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceDevelopersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                @Singular List<String> auditedOrganizationIds,
                                @Singular List<String> auditedSpaceIds,
                                @Singular List<String> billingManagedOrganizationIds,
@@ -111,7 +111,7 @@ public final class ListSpaceDevelopersRequest extends PaginatedRequest implement
                                @Singular List<String> organizationIds,
                                String spaceId) {
 
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.auditedOrganizationIds = auditedOrganizationIds;
         this.auditedSpaceIds = auditedSpaceIds;
         this.billingManagedOrganizationIds = billingManagedOrganizationIds;
@@ -66,11 +66,11 @@ public final class ListSpaceDomainsRequest extends PaginatedRequest implements V
     private final String spaceId;
 
     @Builder
-    ListSpaceDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                             @Singular List<String> names,
                             @Singular List<String> owningOrganizationIds,
                             String spaceId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
         this.owningOrganizationIds = owningOrganizationIds;
         this.spaceId = spaceId;
@@ -76,12 +76,12 @@ public final class ListSpaceEventsRequest extends PaginatedRequest implements Va
     private final List<String> types;
 
     @Builder
-    ListSpaceEventsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceEventsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                            @Singular List<String> actees,
                            String spaceId,
                            @Singular List<String> timestamps,
                            @Singular List<String> types) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.actees = actees;
         this.spaceId = spaceId;
         this.timestamps = timestamps;
@@ -102,7 +102,7 @@ public final class ListSpaceManagersRequest extends PaginatedRequest implements
     private final String spaceId;
 
     @Builder
-    ListSpaceManagersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceManagersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                              @Singular List<String> auditedOrganizationIds,
                              @Singular List<String> auditedSpaceIds,
                              @Singular List<String> billingManagedOrganizationIds,
@@ -110,7 +110,7 @@ public final class ListSpaceManagersRequest extends PaginatedRequest implements
                              @Singular List<String> managedSpaceIds,
                              @Singular List<String> organizationIds,
                              String spaceId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.auditedOrganizationIds = auditedOrganizationIds;
         this.auditedSpaceIds = auditedSpaceIds;
         this.billingManagedOrganizationIds = billingManagedOrganizationIds;
@@ -75,12 +75,12 @@ public final class ListSpaceRoutesRequest extends PaginatedRequest implements Va
     private final String spaceId;
 
     @Builder
-    ListSpaceRoutesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceRoutesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                            @Singular List<String> domainIds,
                            @Singular List<String> hosts,
                            @Singular List<String> paths,
                            String spaceId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.domainIds = domainIds;
         this.hosts = hosts;
         this.paths = paths;
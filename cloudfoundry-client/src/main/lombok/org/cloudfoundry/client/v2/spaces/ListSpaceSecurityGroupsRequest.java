@@ -57,10 +57,10 @@ public final class ListSpaceSecurityGroupsRequest extends PaginatedRequest imple
     private final String spaceId;
 
     @Builder
-    ListSpaceSecurityGroupsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceSecurityGroupsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                    @Singular List<String> names,
                                    String spaceId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
         this.spaceId = spaceId;
     }
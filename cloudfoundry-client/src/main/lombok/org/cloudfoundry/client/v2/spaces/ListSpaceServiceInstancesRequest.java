@@ -112,7 +112,7 @@ public final class ListSpaceServiceInstancesRequest extends PaginatedRequest imp
     private final String spaceId;
 
     @Builder
-    ListSpaceServiceInstancesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceServiceInstancesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                      @Singular List<String> gatewayNames,
                                      @Singular List<String> names,
                                      @Singular List<String> organizationIds,
@@ -121,7 +121,7 @@ public final class ListSpaceServiceInstancesRequest extends PaginatedRequest imp
                                      @Singular List<String> serviceKeyIds,
                                      @Singular List<String> servicePlanIds,
                                      String spaceId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.gatewayNames = gatewayNames;
         this.names = names;
         this.organizationIds = organizationIds;
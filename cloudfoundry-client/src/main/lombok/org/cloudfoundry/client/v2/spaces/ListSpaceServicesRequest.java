@@ -84,13 +84,13 @@ public final class ListSpaceServicesRequest extends PaginatedRequest implements
     private final String spaceId;
 
     @Builder
-    ListSpaceServicesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceServicesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                              @Singular List<String> actives,
                              @Singular List<String> labels,
                              @Singular List<String> providers,
                              @Singular List<String> serviceBrokerIds,
                              String spaceId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.actives = actives;
         this.labels = labels;
         this.providers = providers;
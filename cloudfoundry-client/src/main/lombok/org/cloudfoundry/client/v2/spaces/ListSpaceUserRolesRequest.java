@@ -21,11 +21,14 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Singular;
 import lombok.ToString;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 import org.cloudfoundry.client.v2.PaginatedRequest;
 
+import java.util.List;
+
 /**
  * The request payload for the Retrieving the roles of all Users in the Space operation
  */
@@ -44,9 +47,9 @@ public final class ListSpaceUserRolesRequest extends PaginatedRequest implements
     private final String spaceId;
 
     @Builder
-    ListSpaceUserRolesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceUserRolesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                               String spaceId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.spaceId = spaceId;
     }
 
@@ -74,12 +74,12 @@ public final class ListSpacesRequest extends PaginatedRequest implements Validat
     private final List<String> organizationIds;
 
     @Builder
-    ListSpacesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpacesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                       @Singular List<String> applicationIds,
                       @Singular List<String> developerIds,
                       @Singular List<String> names,
                       @Singular List<String> organizationIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.applicationIds = applicationIds;
         this.developerIds = developerIds;
         this.names = names;
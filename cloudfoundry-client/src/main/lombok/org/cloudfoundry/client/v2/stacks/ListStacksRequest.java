@@ -47,9 +47,9 @@ public final class ListStacksRequest extends PaginatedRequest implements Validat
     private final List<String> names;
 
     @Builder
-    ListStacksRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListStacksRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                       @Singular List<String> names) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
     }
 
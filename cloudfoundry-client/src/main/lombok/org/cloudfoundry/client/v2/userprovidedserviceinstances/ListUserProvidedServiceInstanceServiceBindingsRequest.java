@@ -57,10 +57,10 @@ public final class ListUserProvidedServiceInstanceServiceBindingsRequest extends
     private final String userProvidedServiceInstanceId;
 
     @Builder
-    ListUserProvidedServiceInstanceServiceBindingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListUserProvidedServiceInstanceServiceBindingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                                           @Singular List<String> applicationIds,
                                                           String userProvidedServiceInstanceId) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.applicationIds = applicationIds;
         this.userProvidedServiceInstanceId = userProvidedServiceInstanceId;
     }
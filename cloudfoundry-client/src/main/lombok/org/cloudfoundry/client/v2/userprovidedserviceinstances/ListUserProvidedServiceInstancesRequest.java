@@ -65,11 +65,11 @@ public final class ListUserProvidedServiceInstancesRequest extends PaginatedRequ
     private final List<String> spaceIds;
 
     @Builder
-    ListUserProvidedServiceInstancesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListUserProvidedServiceInstancesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                                             @Singular List<String> names,
                                             @Singular List<String> organizationIds,
                                             @Singular List<String> spaceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
         this.names = names;
         this.organizationIds = organizationIds;
         this.spaceIds = spaceIds;
@@ -101,7 +101,7 @@ public final class ListUsersRequest extends PaginatedRequest implements Validata
     private final List<String> spaceIds;
 
     @Builder
-    ListUsersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListUsersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, Integer inlineRelationsDepth, @Singular List<String> includeRelations,
                      @Singular List<String> auditedOrganizationIds,
                      @Singular List<String> auditedSpaceIds,
                      @Singular List<String> billingManagedOrganizationIds,
@@ -109,7 +109,7 @@ public final class ListUsersRequest extends PaginatedRequest implements Validata
                      @Singular List<String> managedSpaceIds,
                      @Singular List<String> organizationIds,
                      @Singular List<String> spaceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(orderDirection, page, resultsPerPage, inlineRelationsDepth, includeRelations);
 
         this.auditedOrganizationIds = auditedOrganizationIds;
         this.auditedSpaceIds = auditedSpaceIds;
@@ -88,6 +88,14 @@ public abstract class PaginatedResponse<T> {
          */
         private final Link previous;
 
+        /**
+         * The total pages
+         *
+         * @param totalPages the total pages
+         * @return the total pages
+         */
+        private final Integer totalPages;
+
         /**
          * The total results
          *
@@ -101,11 +109,13 @@ public abstract class PaginatedResponse<T> {
                    @JsonProperty("last") Link last,
                    @JsonProperty("next") Link next,
                    @JsonProperty("previous") Link previous,
+                   @JsonProperty("total_pages") Integer totalPages,
                    @JsonProperty("total_results") Integer totalResults) {
             this.first = first;
             this.last = last;
             this.next = next;
             this.previous = previous;
+            this.totalPages = totalPages;
             this.totalResults = totalResults;
         }
 
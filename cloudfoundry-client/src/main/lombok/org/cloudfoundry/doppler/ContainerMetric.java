@@ -21,8 +21,6 @@ import lombok.Data;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 
-import java.util.Optional;
-
 /**
  * Records resource usage of an application in a container
  */
@@ -71,13 +69,19 @@ public final class ContainerMetric implements Event, Validatable {
 
     @Builder
     ContainerMetric(org.cloudfoundry.dropsonde.events.ContainerMetric dropsonde, String applicationId, Double cpuPercentage, Long diskBytes, Integer instanceIndex, Long memoryBytes) {
-        Optional<org.cloudfoundry.dropsonde.events.ContainerMetric> o = Optional.ofNullable(dropsonde);
-
-        this.applicationId = o.map(d -> d.applicationId).orElse(applicationId);
-        this.cpuPercentage = o.map(d -> d.cpuPercentage).orElse(cpuPercentage);
-        this.diskBytes = o.map(d -> d.diskBytes).orElse(diskBytes);
-        this.instanceIndex = o.map(d -> d.instanceIndex).orElse(instanceIndex);
-        this.memoryBytes = o.map(d -> d.memoryBytes).orElse(memoryBytes);
+        if (dropsonde != null) {
+            this.applicationId = dropsonde.applicationId;
+            this.cpuPercentage = dropsonde.cpuPercentage;
+            this.diskBytes = dropsonde.diskBytes;
+            this.instanceIndex = dropsonde.instanceIndex;
+            this.memoryBytes = dropsonde.memoryBytes;
+        } else {
+            this.applicationId = applicationId;
+            this.cpuPercentage = cpuPercentage;
+            this.diskBytes = diskBytes;
+            this.instanceIndex = instanceIndex;
+            this.memoryBytes = memoryBytes;
+        }
     }
 
     @Override
@@ -21,8 +21,6 @@ import lombok.Data;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 
-import java.util.Optional;
-
 /**
  * Represents the increment of a counter. It contains only the change in the value; it is the responsibility of downstream consumers to maintain the value of the counter.
  */
@@ -55,11 +53,15 @@ public final class CounterEvent implements Event, Validatable {
 
     @Builder
     CounterEvent(org.cloudfoundry.dropsonde.events.CounterEvent dropsonde, Long delta, String name, Long total) {
-        Optional<org.cloudfoundry.dropsonde.events.CounterEvent> o = Optional.ofNullable(dropsonde);
-
-        this.delta = o.map(d -> d.delta).orElse(delta);
-        this.name = o.map(d -> d.name).orElse(name);
-        this.total = o.map(d -> d.total).orElse(total);
+        if (dropsonde != null) {
+            this.delta = dropsonde.delta;
+            this.name = dropsonde.name;
+            this.total = dropsonde.total;
+        } else {
+            this.delta = delta;
+            this.name = name;
+            this.total = total;
+        }
     }
 
     @Override
@@ -21,8 +21,6 @@ import lombok.Data;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 
-import java.util.Optional;
-
 /**
  * An Error event represents an error in the originating process
  */
@@ -55,11 +53,15 @@ public final class Error implements Event, Validatable {
 
     @Builder
     Error(org.cloudfoundry.dropsonde.events.Error dropsonde, Integer code, String message, String source) {
-        Optional<org.cloudfoundry.dropsonde.events.Error> o = Optional.ofNullable(dropsonde);
-
-        this.code = o.map(d -> d.code).orElse(code);
-        this.message = o.map(d -> d.message).orElse(message);
-        this.source = o.map(d -> d.source).orElse(source);
+        if (dropsonde != null) {
+            this.code = dropsonde.code;
+            this.message = dropsonde.message;
+            this.source = dropsonde.source;
+        } else {
+            this.code = code;
+            this.message = message;
+            this.source = source;
+        }
     }
 
     @Override
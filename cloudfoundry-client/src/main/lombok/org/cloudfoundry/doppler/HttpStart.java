@@ -21,7 +21,6 @@ import lombok.Data;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 
-import java.util.Optional;
 import java.util.UUID;
 
 @Data
@@ -119,19 +118,31 @@ public final class HttpStart implements Event, Validatable {
     HttpStart(org.cloudfoundry.dropsonde.events.HttpStart dropsonde, UUID applicationId, String instanceId, Integer instanceIndex, Method method, UUID parentRequestId, PeerType peerType,
               String remoteAddress, UUID requestId, Long timestamp, String uri, String userAgent) {
 
-        Optional<org.cloudfoundry.dropsonde.events.HttpStart> o = Optional.ofNullable(dropsonde);
-
-        this.applicationId = o.map(d -> d.applicationId).map(DropsondeUtils::uuid).orElse(applicationId);
-        this.instanceId = o.map(d -> d.instanceId).orElse(instanceId);
-        this.instanceIndex = o.map(d -> d.instanceIndex).orElse(instanceIndex);
-        this.method = o.map(d -> d.method).map(Method::dropsonde).orElse(method);
-        this.parentRequestId = o.map(d -> d.parentRequestId).map(DropsondeUtils::uuid).orElse(parentRequestId);
-        this.peerType = o.map(d -> d.peerType).map(PeerType::dropsonde).orElse(peerType);
-        this.remoteAddress = o.map(d -> d.remoteAddress).orElse(remoteAddress);
-        this.requestId = o.map(d -> d.requestId).map(DropsondeUtils::uuid).orElse(requestId);
-        this.timestamp = o.map(d -> d.timestamp).orElse(timestamp);
-        this.uri = o.map(d -> d.uri).orElse(uri);
-        this.userAgent = o.map(d -> d.userAgent).orElse(userAgent);
+        if (dropsonde != null) {
+            this.applicationId = dropsonde.applicationId != null ? DropsondeUtils.uuid(dropsonde.applicationId) : null;
+            this.instanceId = dropsonde.instanceId;
+            this.instanceIndex = dropsonde.instanceIndex;
+            this.method = dropsonde.method != null ? Method.dropsonde(dropsonde.method) : null;
+            this.parentRequestId = dropsonde.parentRequestId != null ? DropsondeUtils.uuid(dropsonde.parentRequestId) : null;
+            this.peerType = dropsonde.peerType != null ? PeerType.dropsonde(dropsonde.peerType) : null;
+            this.remoteAddress = dropsonde.remoteAddress;
+            this.requestId = dropsonde.requestId != null ? DropsondeUtils.uuid(dropsonde.requestId) : null;
+            this.timestamp = dropsonde.timestamp;
+            this.uri = dropsonde.uri;
+            this.userAgent = dropsonde.userAgent;
+        } else {
+            this.applicationId = applicationId;
+            this.instanceId = instanceId;
+            this.instanceIndex = instanceIndex;
+            this.method = method;
+            this.parentRequestId = parentRequestId;
+            this.peerType = peerType;
+            this.remoteAddress = remoteAddress;
+            this.requestId = requestId;
+            this.timestamp = timestamp;
+            this.uri = uri;
+            this.userAgent = userAgent;
+        }
     }
 
     @Override
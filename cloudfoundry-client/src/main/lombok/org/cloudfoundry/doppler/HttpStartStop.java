@@ -21,7 +21,6 @@ import lombok.Data;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 
-import java.util.Optional;
 import java.util.UUID;
 
 @Data
@@ -135,21 +134,35 @@ public final class HttpStartStop implements Event, Validatable {
     HttpStartStop(org.cloudfoundry.dropsonde.events.HttpStartStop dropsonde, UUID applicationId, Long contentLength, String instanceId, Integer instanceIndex, Method method, PeerType peerType,
                   String remoteAddress, UUID requestId, Long startTimestamp, Integer statusCode, Long stopTimestamp, String uri, String userAgent) {
 
-        Optional<org.cloudfoundry.dropsonde.events.HttpStartStop> o = Optional.ofNullable(dropsonde);
-
-        this.applicationId = o.map(d -> d.applicationId).map(DropsondeUtils::uuid).orElse(applicationId);
-        this.contentLength = o.map(d -> d.contentLength).orElse(contentLength);
-        this.instanceId = o.map(d -> d.instanceId).orElse(instanceId);
-        this.instanceIndex = o.map(d -> d.instanceIndex).orElse(instanceIndex);
-        this.method = o.map(d -> d.method).map(Method::dropsonde).orElse(method);
-        this.peerType = o.map(d -> d.peerType).map(PeerType::dropsonde).orElse(peerType);
-        this.remoteAddress = o.map(d -> d.remoteAddress).orElse(remoteAddress);
-        this.requestId = o.map(d -> d.requestId).map(DropsondeUtils::uuid).orElse(requestId);
-        this.startTimestamp = o.map(d -> d.startTimestamp).orElse(startTimestamp);
-        this.statusCode = o.map(d -> d.statusCode).orElse(statusCode);
-        this.stopTimestamp = o.map(d -> d.stopTimestamp).orElse(stopTimestamp);
-        this.uri = o.map(d -> d.uri).orElse(uri);
-        this.userAgent = o.map(d -> d.userAgent).orElse(userAgent);
+        if (dropsonde != null) {
+            this.applicationId = dropsonde.applicationId != null ? DropsondeUtils.uuid(dropsonde.applicationId) : null;
+            this.contentLength = dropsonde.contentLength;
+            this.instanceId = dropsonde.instanceId;
+            this.instanceIndex = dropsonde.instanceIndex;
+            this.method = dropsonde.method != null ? Method.dropsonde(dropsonde.method) : null;
+            this.peerType = dropsonde.peerType != null ? PeerType.dropsonde(dropsonde.peerType) : null;
+            this.remoteAddress = dropsonde.remoteAddress;
+            this.requestId = dropsonde.requestId != null ? DropsondeUtils.uuid(dropsonde.requestId) : null;
+            this.startTimestamp = dropsonde.startTimestamp;
+            this.statusCode = dropsonde.statusCode;
+            this.stopTimestamp = dropsonde.stopTimestamp;
+            this.uri = dropsonde.uri;
+            this.userAgent = dropsonde.userAgent;
+        } else {
+            this.applicationId = applicationId;
+            this.contentLength = contentLength;
+            this.instanceId = instanceId;
+            this.instanceIndex = instanceIndex;
+            this.method = method;
+            this.peerType = peerType;
+            this.remoteAddress = remoteAddress;
+            this.requestId = requestId;
+            this.startTimestamp = startTimestamp;
+            this.statusCode = statusCode;
+            this.stopTimestamp = stopTimestamp;
+            this.uri = uri;
+            this.userAgent = userAgent;
+        }
     }
 
     @Override
@@ -21,7 +21,6 @@ import lombok.Data;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -88,15 +87,23 @@ public final class HttpStop implements Event, Validatable {
 
     @Builder
     HttpStop(org.cloudfoundry.dropsonde.events.HttpStop dropsonde, UUID applicationId, Long contentLength, PeerType peerType, UUID requestId, Integer statusCode, Long timestamp, String uri) {
-        Optional<org.cloudfoundry.dropsonde.events.HttpStop> o = Optional.ofNullable(dropsonde);
-
-        this.applicationId = o.map(d -> d.applicationId).map(DropsondeUtils::uuid).orElse(applicationId);
-        this.contentLength = o.map(d -> d.contentLength).orElse(contentLength);
-        this.peerType = o.map(d -> d.peerType).map(PeerType::dropsonde).orElse(peerType);
-        this.requestId = o.map(d -> d.requestId).map(DropsondeUtils::uuid).orElse(requestId);
-        this.statusCode = o.map(d -> d.statusCode).orElse(statusCode);
-        this.timestamp = o.map(d -> d.timestamp).orElse(timestamp);
-        this.uri = o.map(d -> d.uri).orElse(uri);
+        if (dropsonde != null) {
+            this.applicationId = dropsonde.applicationId != null ? DropsondeUtils.uuid(dropsonde.applicationId) : null;
+            this.contentLength = dropsonde.contentLength;
+            this.peerType = dropsonde.peerType != null ? PeerType.dropsonde(dropsonde.peerType) : null;
+            this.requestId = dropsonde.requestId != null ? DropsondeUtils.uuid(dropsonde.requestId) : null;
+            this.statusCode = dropsonde.statusCode;
+            this.timestamp = dropsonde.timestamp;
+            this.uri = dropsonde.uri;
+        } else {
+            this.applicationId = applicationId;
+            this.contentLength = contentLength;
+            this.peerType = peerType;
+            this.requestId = requestId;
+            this.statusCode = statusCode;
+            this.timestamp = timestamp;
+            this.uri = uri;
+        }
     }
 
     @Override
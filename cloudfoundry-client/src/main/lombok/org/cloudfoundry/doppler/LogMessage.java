@@ -23,8 +23,6 @@ import okio.ByteString;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 
-import java.util.Optional;
-
 @Data
 public final class LogMessage implements Event, Validatable {
 
@@ -36,14 +34,6 @@ public final class LogMessage implements Event, Validatable {
      */
     private final String applicationId;
 
-    /**
-     * The log message
-     *
-     * @param message the log message
-     * @return the log message
-     */
-    private final String message;
-
     /**
      * The type of the message
      *
@@ -52,6 +42,14 @@ public final class LogMessage implements Event, Validatable {
      */
     private final MessageType messageType;
 
+    /**
+     * The log message as received, undecoded
+     *
+     * @param payload the log message as received
+     * @return the log message as received
+     */
+    private final ByteString payload;
+
     /**
      * The instance that emitted the message
      *
@@ -78,21 +76,37 @@ public final class LogMessage implements Event, Validatable {
 
     @Builder
     LogMessage(org.cloudfoundry.dropsonde.events.LogMessage dropsonde, String applicationId, String message, MessageType messageType, String sourceInstance, String sourceType, Long timestamp) {
-        Optional<org.cloudfoundry.dropsonde.events.LogMessage> o = Optional.ofNullable(dropsonde);
-
-        this.applicationId = o.map(v -> v.app_id).orElse(applicationId);
-        this.message = o.map(d -> d.message).map(ByteString::utf8).orElse(message);
-        this.messageType = o.map(d -> d.message_type).map(MessageType::dropsonde).orElse(messageType);
-        this.sourceInstance = o.map(d -> d.source_instance).orElse(sourceInstance);
-        this.sourceType = o.map(d -> d.source_type).orElse(sourceType);
-        this.timestamp = o.map(d -> d.timestamp).orElse(timestamp);
+        if (dropsonde != null) {
+            this.applicationId = dropsonde.app_id;
+            this.messageType = dropsonde.message_type != null ? MessageType.dropsonde(dropsonde.message_type) : null;
+            this.payload = dropsonde.message;
+            this.sourceInstance = dropsonde.source_instance;
+            this.sourceType = dropsonde.source_type;
+            this.timestamp = dropsonde.timestamp;
+        } else {
+            this.applicationId = applicationId;
+            this.messageType = messageType;
+            this.payload = message != null ? ByteString.encodeUtf8(message) : null;
+            this.sourceInstance = sourceInstance;
+            this.sourceType = sourceType;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Returns the log message.  The message is decoded from the payload on first access.
+     *
+     * @return the log message
+     */
+    public String getMessage() {
+        return this.payload != null ? this.payload.utf8() : null;
     }
 
     @Override
     public ValidationResult isValid() {
         ValidationResult.ValidationResultBuilder builder = ValidationResult.builder();
 
-        if (this.message == null) {
+        if (this.payload == null) {
             builder.message("message must be specified");
         }
 
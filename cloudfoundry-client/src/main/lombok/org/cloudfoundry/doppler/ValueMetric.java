@@ -21,8 +21,6 @@ import lombok.Data;
 import org.cloudfoundry.Validatable;
 import org.cloudfoundry.ValidationResult;
 
-import java.util.Optional;
-
 /**
  * Indicates the value of a metric at an instant in time
  */
@@ -56,11 +54,15 @@ public final class ValueMetric implements Event, Validatable {
 
     @Builder
     ValueMetric(org.cloudfoundry.dropsonde.events.ValueMetric dropsonde, String name, String unit, Double value) {
-        Optional<org.cloudfoundry.dropsonde.events.ValueMetric> o = Optional.ofNullable(dropsonde);
-
-        this.name = o.map(d -> d.name).orElse(name);
-        this.unit = o.map(d -> d.unit).orElse(unit);
-        this.value = o.map(d -> d.value).orElse(value);
+        if (dropsonde != null) {
+            this.name = dropsonde.name;
+            this.unit = dropsonde.unit;
+            this.value = dropsonde.value;
+        } else {
+            this.name = name;
+            this.unit = unit;
+            this.value = value;
+        }
     }
 
     @Override
@@ -16,15 +16,34 @@
 
 package org.cloudfoundry.doppler;
 
+import okio.ByteString;
 import org.cloudfoundry.ValidationResult;
 import org.junit.Test;
 
 import static org.cloudfoundry.ValidationResult.Status.INVALID;
 import static org.cloudfoundry.ValidationResult.Status.VALID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public final class LogMessageTest {
 
+    @Test
+    public void dropsonde() {
+        ByteString payload = ByteString.encodeUtf8("test-message");
+
+        LogMessage logMessage = LogMessage.builder()
+            .dropsonde(new org.cloudfoundry.dropsonde.events.LogMessage.Builder()
+                .message(payload)
+                .message_type(org.cloudfoundry.dropsonde.events.LogMessage.MessageType.OUT)
+                .timestamp(0L)
+                .build())
+            .build();
+
+        assertSame(payload, logMessage.getPayload());
+        assertEquals("test-message", logMessage.getMessage());
+        assertEquals(LogMessage.MessageType.OUT, logMessage.getMessageType());
+    }
+
     @Test
     public void isValid() {
         ValidationResult result = LogMessage.builder()
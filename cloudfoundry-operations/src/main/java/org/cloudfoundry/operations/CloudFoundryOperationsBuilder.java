@@ -22,6 +22,7 @@ import org.cloudfoundry.client.v2.organizations.OrganizationResource;
 import org.cloudfoundry.client.v2.spaces.ListSpacesRequest;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
 import org.cloudfoundry.doppler.DopplerClient;
+import org.cloudfoundry.operations.applications.FileHashIndex;
 import org.cloudfoundry.uaa.UaaClient;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.PaginationUtils;
@@ -29,6 +30,8 @@ import org.cloudfoundry.util.ResourceUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.NoSuchElementException;
 
 /**
@@ -36,10 +39,18 @@ import java.util.NoSuchElementException;
  */
 public final class CloudFoundryOperationsBuilder {
 
+    private static final Duration DEFAULT_ENTITY_CACHE_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private static final int DEFAULT_ENTITY_CACHE_MAXIMUM_SIZE = 1_000;
+
     private CloudFoundryClient cloudFoundryClient;
 
     private DopplerClient dopplerClient;
 
+    private EntityCache entityCache;
+
+    private Path fileHashIndexDirectory;
+
     private String organization;
 
     private String space;
@@ -61,7 +72,8 @@ public final class CloudFoundryOperationsBuilder {
         Mono<String> spaceId = getSpaceId(this.cloudFoundryClient, organizationId, this.space);
         Mono<String> username = getUsername(this.cloudFoundryClient, this.uaaClient);
 
-        return new DefaultCloudFoundryOperations(this.cloudFoundryClient, getDopplerClient(this.dopplerClient), organizationId, spaceId, username);
+        return new DefaultCloudFoundryOperations(this.cloudFoundryClient, getDopplerClient(this.dopplerClient), getEntityCache(this.entityCache), getFileHashIndex(this.fileHashIndexDirectory),
+            organizationId, spaceId, username);
     }
 
     /**
@@ -86,6 +98,30 @@ public final class CloudFoundryOperationsBuilder {
         return this;
     }
 
+    /**
+     * Configure the {@link EntityCache} shared by the operations to avoid repeatedly looking up the same entities.  Defaults to a {@link TtlEntityCache} holding up to 1000 entities for 30 seconds.
+     * Use {@link NoOpEntityCache#INSTANCE} to disable caching.
+     *
+     * @param entityCache the {@link EntityCache} to use
+     * @return {@code this}
+     */
+    public CloudFoundryOperationsBuilder entityCache(EntityCache entityCache) {
+        this.entityCache = entityCache;
+        return this;
+    }
+
+    /**
+     * Configure the directory in which to keep an index of the hashes of local application files, so that files that have not changed since an earlier push are not read again.  The directory can
+     * be shared by concurrent pushes, including pushes from other processes.  By default the index is held only in memory.
+     *
+     * @param fileHashIndexDirectory the directory in which to keep the index
+     * @return {@code this}
+     */
+    public CloudFoundryOperationsBuilder fileHashIndexDirectory(Path fileHashIndexDirectory) {
+        this.fileHashIndexDirectory = fileHashIndexDirectory;
+        return this;
+    }
+
     /**
      * Configure the organization and space to target
      *
@@ -129,6 +165,22 @@ public final class CloudFoundryOperationsBuilder {
         return Mono.just(dopplerClient);
     }
 
+    private static EntityCache getEntityCache(EntityCache entityCache) {
+        if (entityCache == null) {
+            return new TtlEntityCache(DEFAULT_ENTITY_CACHE_TIME_TO_LIVE, DEFAULT_ENTITY_CACHE_MAXIMUM_SIZE);
+        }
+
+        return entityCache;
+    }
+
+    private static FileHashIndex getFileHashIndex(Path fileHashIndexDirectory) {
+        if (fileHashIndexDirectory == null) {
+            return FileHashIndex.inMemory();
+        }
+
+        return FileHashIndex.open(fileHashIndexDirectory);
+    }
+
     private static Mono<OrganizationResource> getOrganization(CloudFoundryClient cloudFoundryClient, String organization) {
         return requestOrganizations(cloudFoundryClient, organization)
             .single()
@@ -20,6 +20,7 @@ import org.cloudfoundry.client.CloudFoundryClient;
 import org.cloudfoundry.doppler.DopplerClient;
 import org.cloudfoundry.operations.applications.Applications;
 import org.cloudfoundry.operations.applications.DefaultApplications;
+import org.cloudfoundry.operations.applications.FileHashIndex;
 import org.cloudfoundry.operations.buildpacks.Buildpacks;
 import org.cloudfoundry.operations.buildpacks.DefaultBuildpacks;
 import org.cloudfoundry.operations.domains.DefaultDomains;
@@ -66,15 +67,16 @@ final class DefaultCloudFoundryOperations implements CloudFoundryOperations {
 
     private final Stacks stacks;
 
-    DefaultCloudFoundryOperations(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, Mono<String> organizationId, Mono<String> spaceId, Mono<String> username) {
-        this.applications = new DefaultApplications(cloudFoundryClient, dopplerClient, spaceId);
+    DefaultCloudFoundryOperations(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, EntityCache entityCache, FileHashIndex fileHashIndex, Mono<String> organizationId,
+                                  Mono<String> spaceId, Mono<String> username) {
+        this.applications = new DefaultApplications(cloudFoundryClient, dopplerClient, spaceId, entityCache, fileHashIndex);
         this.buildpacks = new DefaultBuildpacks(cloudFoundryClient);
         this.domains = new DefaultDomains(cloudFoundryClient);
         this.organizationAdmin = new DefaultOrganizationAdmin(cloudFoundryClient);
         this.organizations = new DefaultOrganizations(cloudFoundryClient, username);
-        this.routes = new DefaultRoutes(cloudFoundryClient, organizationId, spaceId);
+        this.routes = new DefaultRoutes(cloudFoundryClient, organizationId, spaceId, entityCache);
         this.serviceAdmin = new DefaultServiceAdmin(cloudFoundryClient);
-        this.services = new DefaultServices(cloudFoundryClient, spaceId, organizationId);
+        this.services = new DefaultServices(cloudFoundryClient, spaceId, organizationId, entityCache);
         this.spaceAdmin = new DefaultSpaceAdmin(cloudFoundryClient, organizationId);
         this.spaces = new DefaultSpaces(cloudFoundryClient, organizationId, username);
         this.stacks = new DefaultStacks(cloudFoundryClient);
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * A cache of Cloud Foundry entities, used by the operations implementations to avoid repeatedly looking up the same entity
+ */
+public interface EntityCache {
+
+    /**
+     * Returns an entity, invoking {@code loader} only if no usable value for the entity is cached.  Implementations are expected to hand the same in-flight {@link Mono} to concurrent callers
+     * requesting the same entity.
+     *
+     * @param type   the type of the entity
+     * @param id     the id of the entity
+     * @param loader a function that loads the entity for a given id
+     * @param <T>    the type of the entity
+     * @return the entity
+     */
+    <T> Mono<T> get(Class<T> type, String id, Function<String, Mono<T>> loader);
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * An {@link EntityCache} that does not cache, loading every entity each time it is requested
+ */
+public final class NoOpEntityCache implements EntityCache {
+
+    public static final NoOpEntityCache INSTANCE = new NoOpEntityCache();
+
+    private NoOpEntityCache() {
+    }
+
+    @Override
+    public <T> Mono<T> get(Class<T> type, String id, Function<String, Mono<T>> loader) {
+        return loader.apply(id);
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * An {@link EntityCache} that holds at most a fixed number of entities, each for a fixed time after it has been loaded.  Concurrent requests for an entity that is still loading share the same
+ * load, and failed loads are discarded so that the next request tries again.
+ */
+public final class TtlEntityCache implements EntityCache {
+
+    private final LongSupplier clock;
+
+    private final Map<Key, Entry<?>> entries;
+
+    private final long timeToLive;
+
+    /**
+     * Creates a new instance
+     *
+     * @param timeToLive  the time an entity is held after it has been loaded
+     * @param maximumSize the maximum number of entities held, beyond which the least recently used are evicted
+     * @throws IllegalArgumentException if {@code timeToLive} is negative or {@code maximumSize} is less than one
+     */
+    public TtlEntityCache(Duration timeToLive, int maximumSize) {
+        this(timeToLive, maximumSize, System::nanoTime);
+    }
+
+    TtlEntityCache(Duration timeToLive, int maximumSize, LongSupplier clock) {
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("timeToLive must not be negative");
+        }
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1");
+        }
+
+        this.clock = clock;
+        this.entries = new LinkedHashMap<Key, Entry<?>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -6128409371545137265L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry<?>> eldest) {
+                return size() > maximumSize;
+            }
+
+        };
+        this.timeToLive = timeToLive.toNanos();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> get(Class<T> type, String id, Function<String, Mono<T>> loader) {
+        Key key = new Key(type, id);
+
+        synchronized (this.entries) {
+            Entry<T> entry = (Entry<T>) this.entries.get(key);
+
+            if (entry == null || entry.isExpired(this.clock.getAsLong(), this.timeToLive)) {
+                entry = new Entry<>();
+                entry.value = load(key, entry, id, loader);
+                this.entries.put(key, entry);
+            }
+
+            return entry.value;
+        }
+    }
+
+    /**
+     * Returns the number of entities currently held, including those still loading
+     *
+     * @return the number of entities currently held
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    private void evict(Key key, Entry<?> entry) {
+        synchronized (this.entries) {
+            this.entries.remove(key, entry);
+        }
+    }
+
+    private <T> Mono<T> load(Key key, Entry<T> entry, String id, Function<String, Mono<T>> loader) {
+        return Mono
+            .defer(() -> loader.apply(id))
+            .doOnSuccess(value -> entry.loaded(this.clock.getAsLong()))
+            .doOnError(throwable -> evict(key, entry))
+            .cache();
+    }
+
+    private static final class Entry<T> {
+
+        private volatile boolean loaded;
+
+        private volatile long loadedAt;
+
+        private Mono<T> value;
+
+        private boolean isExpired(long now, long timeToLive) {
+            return this.loaded && now - this.loadedAt >= timeToLive;
+        }
+
+        private void loaded(long now) {
+            this.loadedAt = now;
+            this.loaded = true;
+        }
+
+    }
+
+    private static final class Key {
+
+        private final String id;
+
+        private final Class<?> type;
+
+        private Key(Class<?> type, String id) {
+            this.id = id;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return Objects.equals(this.id, key.id) && Objects.equals(this.type, key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.id, this.type);
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.cloudfoundry.client.v2.applications.UploadApplicationRequest;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An application whose files can be fingerprinted and from which an archive of only some of its files can be created
+ */
+abstract class ApplicationArchive implements Closeable {
+
+    /**
+     * The size of the largest file that can be fingerprinted.  Larger files are left out of the fingerprints and are always uploaded.
+     */
+    static final long MAXIMUM_RESOURCE_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * Fingerprints the files in an application directory
+     *
+     * @param root          the application directory
+     * @param fileHashIndex the index used to avoid re-hashing unchanged files
+     * @return the application directory
+     */
+    static ApplicationArchive of(Path root, FileHashIndex fileHashIndex) {
+        return DirectoryApplicationArchive.of(root, fileHashIndex);
+    }
+
+    /**
+     * Spools an application archive to disk and fingerprints its files
+     *
+     * @param application the application archive
+     * @return the spooled archive
+     */
+    static ApplicationArchive spool(InputStream application) {
+        return ZipApplicationArchive.spool(application);
+    }
+
+    @Override
+    public abstract void close();
+
+    /**
+     * Returns an archive of the files that are not among the matched resources
+     *
+     * @param matched the resources that do not need to be included
+     * @return an archive of the remaining files
+     */
+    abstract InputStream getApplication(Collection<UploadApplicationRequest.Resource> matched);
+
+    /**
+     * Returns the fingerprints of the files in the application that match the fingerprints of files Cloud Foundry already has
+     *
+     * @param hashes the hashes of the files Cloud Foundry already has
+     * @return the fingerprints of the matching files
+     */
+    final List<UploadApplicationRequest.Resource> getMatchedResources(Set<String> hashes) {
+        return getResources().stream()
+            .filter(resource -> hashes.contains(resource.getHash()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the fingerprints of the files in the application
+     *
+     * @return the fingerprints of the files in the application
+     */
+    abstract List<UploadApplicationRequest.Resource> getResources();
+
+    static Set<String> getPaths(Collection<UploadApplicationRequest.Resource> resources) {
+        return resources.stream()
+            .map(UploadApplicationRequest.Resource::getPath)
+            .collect(Collectors.toSet());
+    }
+
+}
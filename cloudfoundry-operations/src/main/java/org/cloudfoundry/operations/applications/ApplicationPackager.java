@@ -0,0 +1,554 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Packages an application directory, or an exploded archive, as a zip archive suitable for {@link PushApplicationRequest#getApplication()}.  Entries are compressed in parallel on a {@link
+ * ForkJoinPool} and the archive is streamed to the returned {@link PackagedApplication} as it is produced, without a temporary file.  Files of up to 1 MiB are compressed ahead of the writer and
+ * held in memory, a bounded number at a time.  Larger files are compressed in chunks as they are written, so memory use does not grow with the size of the files.  Paths matched by the
+ * directory's {@code .cfignore} file are left out.
+ */
+public final class ApplicationPackager {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ForkJoinPool COMPRESSORS = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("application-packager-compressor-" + thread.getPoolIndex());
+        return thread;
+    }, null, false);
+
+    private static final int INLINE_THRESHOLD = 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.packaging");
+
+    private static final int MAXIMUM_ENTRIES = 0xFFFF;
+
+    private static final long MAXIMUM_SIZE = 0xFFFFFFFFL;
+
+    private static final int MAXIMUM_WRITERS = 4;
+
+    private static final ExecutorService WRITERS = getWriters();
+
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * Creates a packager that compresses entries on a {@link ForkJoinPool} shared by all packagers.  The shared pool is separate from the common pool, since compression reads files.
+     */
+    public ApplicationPackager() {
+        this(COMPRESSORS);
+    }
+
+    /**
+     * Creates a packager
+     *
+     * @param forkJoinPool the pool to compress entries on
+     */
+    public ApplicationPackager(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Packages an application directory.  Packaging starts on one of a bounded number of background threads and the archive can be read from the returned stream as it is produced.  A failure
+     * while packaging is reported by the returned stream once it has been drained.  Closing the returned stream before it has been drained stops packaging.
+     *
+     * @param root the application directory
+     * @return the packaged application
+     */
+    public PackagedApplication pack(Path root) {
+        return pack(root, Collections.emptySet());
+    }
+
+    PackagedApplication pack(Path root, Set<String> excludedFiles) {
+        PackagedApplication packagedApplication = new PackagedApplication(BUFFER_SIZE);
+
+        WRITERS.execute(() -> write(root, excludedFiles, packagedApplication));
+        return packagedApplication;
+    }
+
+    private static void cancel(Deque<ForkJoinTask<CompressedEntry>> pending) {
+        pending.forEach(task -> task.cancel(true));
+    }
+
+    private static void close(OutputStream out) {
+        if (out == null) {
+            return;
+        }
+
+        try {
+            out.close();
+        } catch (IOException e) {
+            // nothing to do if the pipe cannot be closed
+        }
+    }
+
+    private static CompressedEntry compress(Entry entry, PackagedApplication packagedApplication) throws IOException {
+        if (entry.directory) {
+            return new CompressedEntry(entry, 0, null, ZipFormat.STORED, 0, 0);
+        }
+
+        if (entry.size > INLINE_THRESHOLD) {
+            return new CompressedEntry(entry, 0, null, ZipFormat.DEFLATED, entry.size, -1);
+        }
+
+        CRC32 crc = new CRC32();
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        long size = 0;
+
+        try (InputStream in = Files.newInputStream(entry.path); DeflaterOutputStream out = new DeflaterOutputStream(data, deflater, BUFFER_SIZE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int length = in.read(buffer); length != -1; length = in.read(buffer)) {
+                crc.update(buffer, 0, length);
+                out.write(buffer, 0, length);
+                size += length;
+            }
+        } finally {
+            deflater.end();
+        }
+
+        packagedApplication.onEntryCompressed(size);
+
+        if (data.size() < size) {
+            return new CompressedEntry(entry, crc.getValue(), data.toByteArray(), ZipFormat.DEFLATED, size, data.size());
+        } else {
+            return new CompressedEntry(entry, crc.getValue(), null, ZipFormat.STORED, size, size);
+        }
+    }
+
+    private static List<Entry> getEntries(Path root, Set<String> excludedFiles) throws IOException {
+        CfIgnore cfIgnore = CfIgnore.read(root);
+        List<Entry> entries = new ArrayList<>();
+
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (dir.equals(root)) {
+                    return FileVisitResult.CONTINUE;
+                }
+
+                String name = getName(root, dir);
+                if (cfIgnore.isIgnored(name, true)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+
+                entries.add(new Entry(dir, name + "/", true, Files.isExecutable(dir), attrs.lastModifiedTime().toMillis(), 0));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                String name = getName(root, file);
+                if (attrs.isRegularFile() && !cfIgnore.isIgnored(name, false) && !excludedFiles.contains(name)) {
+                    entries.add(new Entry(file, name, false, Files.isExecutable(file), attrs.lastModifiedTime().toMillis(), attrs.size()));
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+        });
+
+        entries.sort((a, b) -> a.name.compareTo(b.name));
+        return entries;
+    }
+
+    static List<Path> getFiles(Path root) throws IOException {
+        return getEntries(root, Collections.emptySet()).stream()
+            .filter(entry -> !entry.directory)
+            .map(entry -> entry.path)
+            .collect(Collectors.toList());
+    }
+
+    static String getName(Path root, Path path) {
+        return root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private static ExecutorService getWriters() {
+        AtomicInteger count = new AtomicInteger();
+
+        ThreadPoolExecutor writers = new ThreadPoolExecutor(MAXIMUM_WRITERS, MAXIMUM_WRITERS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "application-packager-writer-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        writers.allowCoreThreadTimeOut(true);
+        return writers;
+    }
+
+    private void write(Path root, Set<String> excludedFiles, PackagedApplication packagedApplication) {
+        Deque<ForkJoinTask<CompressedEntry>> pending = new ArrayDeque<>();
+        int window = Math.max(2, this.forkJoinPool.getParallelism() * 2);
+
+        PipedOutputStream pipe = null;
+
+        try {
+            pipe = packagedApplication.getSink();
+            ZipFormat.Writer writer = new ZipFormat.Writer(pipe);
+
+            List<Entry> entries = getEntries(root, excludedFiles);
+            if (entries.size() > MAXIMUM_ENTRIES) {
+                throw new IOException(String.format("Applications with more than %d entries are not supported", MAXIMUM_ENTRIES));
+            }
+
+            for (Entry entry : entries) {
+                pending.add(this.forkJoinPool.submit(() -> compress(entry, packagedApplication)));
+
+                if (pending.size() >= window) {
+                    writer.write(pending.remove().join(), packagedApplication);
+                    packagedApplication.onEntryWritten();
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                writer.write(pending.remove().join(), packagedApplication);
+                packagedApplication.onEntryWritten();
+            }
+
+            writer.finish();
+            packagedApplication.onComplete();
+
+            LOGGER.debug("Packaged {} entries ({} bytes) in {} ms: {} bytes/s, {} entries/s", packagedApplication.getEntries(), packagedApplication.getBytes(),
+                packagedApplication.getElapsed().toMillis(), packagedApplication.getBytesPerSecond(), packagedApplication.getEntriesPerSecond());
+        } catch (IOException | RuntimeException e) {
+            cancel(pending);
+            packagedApplication.onError(e);
+        } finally {
+            close(pipe);
+        }
+    }
+
+    private static final class CompressedEntry {
+
+        private final long compressedSize;
+
+        private final long crc;
+
+        private final byte[] data;
+
+        private final Entry entry;
+
+        private final int method;
+
+        private final long size;
+
+        private CompressedEntry(Entry entry, long crc, byte[] data, int method, long size, long compressedSize) {
+            this.compressedSize = compressedSize;
+            this.crc = crc;
+            this.data = data;
+            this.entry = entry;
+            this.method = method;
+            this.size = size;
+        }
+
+        private boolean isDeferred() {
+            return this.compressedSize == -1;
+        }
+
+        private void writeTo(OutputStream out) throws IOException {
+            if (this.data != null) {
+                out.write(this.data);
+                return;
+            }
+
+            if (this.entry.directory) {
+                return;
+            }
+
+            try (InputStream in = Files.newInputStream(this.entry.path)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long remaining = this.size;
+
+                while (remaining > 0) {
+                    int length = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (length == -1) {
+                        throw new IOException(String.format("%s changed while it was being packaged", this.entry.path));
+                    }
+
+                    out.write(buffer, 0, length);
+                    remaining -= length;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Counts the bytes written through it, without closing the underlying stream
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count = 0;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+
+        private long getCount() {
+            return this.count;
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final boolean directory;
+
+        private final boolean executable;
+
+        private final long lastModified;
+
+        private final String name;
+
+        private final Path path;
+
+        private final long size;
+
+        private Entry(Path path, String name, boolean directory, boolean executable, long lastModified, long size) {
+            this.directory = directory;
+            this.executable = executable;
+            this.lastModified = lastModified;
+            this.name = name;
+            this.path = path;
+            this.size = size;
+        }
+
+    }
+
+    /**
+     * Writes the zip format directly, since {@link java.util.zip.ZipOutputStream} cannot accept entries that have already been compressed
+     */
+    private static final class ZipFormat {
+
+        private static final int DATA_DESCRIPTOR = 0x0008;
+
+        private static final int DEFLATED = 8;
+
+        private static final int STORED = 0;
+
+        private static final int UTF8_NAMES = 0x0800;
+
+        private static final int VERSION = 20;
+
+        private static final int VERSION_MADE_BY_UNIX = (3 << 8) | VERSION;
+
+        private static final class Writer {
+
+            private final ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+
+            private int count = 0;
+
+            private long offset = 0;
+
+            private final OutputStream out;
+
+            private Writer(OutputStream out) {
+                this.out = out;
+            }
+
+            private static int getDosDate(LocalDateTime time) {
+                return time.getYear() < 1980 ? (1 << 5) | 1 : ((time.getYear() - 1980) << 9) | (time.getMonthValue() << 5) | time.getDayOfMonth();
+            }
+
+            private static int getDosTime(LocalDateTime time) {
+                return time.getYear() < 1980 ? 0 : (time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() / 2);
+            }
+
+            private static int getExternalAttributes(Entry entry) {
+                int mode = entry.directory ? 040755 : entry.executable ? 0100755 : 0100644;
+                return (mode << 16) | (entry.directory ? 0x10 : 0);
+            }
+
+            private static void writeInt(OutputStream out, long value) throws IOException {
+                out.write((int) (value & 0xFF));
+                out.write((int) ((value >>> 8) & 0xFF));
+                out.write((int) ((value >>> 16) & 0xFF));
+                out.write((int) ((value >>> 24) & 0xFF));
+            }
+
+            private static void writeShort(OutputStream out, int value) throws IOException {
+                out.write(value & 0xFF);
+                out.write((value >>> 8) & 0xFF);
+            }
+
+            private void finish() throws IOException {
+                long centralDirectoryOffset = this.offset;
+                this.centralDirectory.writeTo(this.out);
+
+                writeInt(this.out, 0x06054b50L);
+                writeShort(this.out, 0);
+                writeShort(this.out, 0);
+                writeShort(this.out, this.count);
+                writeShort(this.out, this.count);
+                writeInt(this.out, this.centralDirectory.size());
+                writeInt(this.out, centralDirectoryOffset);
+                writeShort(this.out, 0);
+                this.out.flush();
+            }
+
+            private void write(CompressedEntry compressedEntry, PackagedApplication packagedApplication) throws IOException {
+                Entry entry = compressedEntry.entry;
+                byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+
+                if (compressedEntry.size > MAXIMUM_SIZE || (!compressedEntry.isDeferred() && this.offset + 30 + name.length + compressedEntry.compressedSize > MAXIMUM_SIZE)) {
+                    throw new IOException(String.format("Applications larger than %d bytes are not supported", MAXIMUM_SIZE));
+                }
+
+                int flags = compressedEntry.isDeferred() ? UTF8_NAMES | DATA_DESCRIPTOR : UTF8_NAMES;
+                LocalDateTime lastModified = LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.lastModified), ZoneId.systemDefault());
+
+                writeInt(this.out, 0x04034b50L);
+                writeShort(this.out, VERSION);
+                writeShort(this.out, flags);
+                writeShort(this.out, compressedEntry.method);
+                writeShort(this.out, getDosTime(lastModified));
+                writeShort(this.out, getDosDate(lastModified));
+                writeInt(this.out, compressedEntry.isDeferred() ? 0 : compressedEntry.crc);
+                writeInt(this.out, compressedEntry.isDeferred() ? 0 : compressedEntry.compressedSize);
+                writeInt(this.out, compressedEntry.isDeferred() ? 0 : compressedEntry.size);
+                writeShort(this.out, name.length);
+                writeShort(this.out, 0);
+                this.out.write(name);
+
+                long crc;
+                long compressedSize;
+                long size;
+                long length;
+
+                if (compressedEntry.isDeferred()) {
+                    CRC32 checksum = new CRC32();
+                    CountingOutputStream counter = new CountingOutputStream(this.out);
+                    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+                    size = 0;
+
+                    try (InputStream in = Files.newInputStream(entry.path); DeflaterOutputStream out = new DeflaterOutputStream(counter, deflater, BUFFER_SIZE)) {
+                        byte[] buffer = new byte[BUFFER_SIZE];
+                        for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                            checksum.update(buffer, 0, read);
+                            out.write(buffer, 0, read);
+                            size += read;
+                        }
+                    } finally {
+                        deflater.end();
+                    }
+
+                    packagedApplication.onEntryCompressed(size);
+
+                    crc = checksum.getValue();
+                    compressedSize = counter.getCount();
+                    length = 30 + name.length + compressedSize + 16;
+
+                    if (size > MAXIMUM_SIZE || this.offset + length > MAXIMUM_SIZE) {
+                        throw new IOException(String.format("Applications larger than %d bytes are not supported", MAXIMUM_SIZE));
+                    }
+
+                    writeInt(this.out, 0x08074b50L);
+                    writeInt(this.out, crc);
+                    writeInt(this.out, compressedSize);
+                    writeInt(this.out, size);
+                } else {
+                    compressedEntry.writeTo(this.out);
+
+                    crc = compressedEntry.crc;
+                    compressedSize = compressedEntry.compressedSize;
+                    size = compressedEntry.size;
+                    length = 30 + name.length + compressedSize;
+                }
+
+                writeInt(this.centralDirectory, 0x02014b50L);
+                writeShort(this.centralDirectory, VERSION_MADE_BY_UNIX);
+                writeShort(this.centralDirectory, VERSION);
+                writeShort(this.centralDirectory, flags);
+                writeShort(this.centralDirectory, compressedEntry.method);
+                writeShort(this.centralDirectory, getDosTime(lastModified));
+                writeShort(this.centralDirectory, getDosDate(lastModified));
+                writeInt(this.centralDirectory, crc);
+                writeInt(this.centralDirectory, compressedSize);
+                writeInt(this.centralDirectory, size);
+                writeShort(this.centralDirectory, name.length);
+                writeShort(this.centralDirectory, 0);
+                writeShort(this.centralDirectory, 0);
+                writeShort(this.centralDirectory, 0);
+                writeShort(this.centralDirectory, 0);
+                writeInt(this.centralDirectory, getExternalAttributes(entry));
+                writeInt(this.centralDirectory, this.offset);
+                this.centralDirectory.write(name);
+
+                this.offset += length;
+                this.count++;
+            }
+
+        }
+
+    }
+
+}
@@ -122,6 +122,15 @@ public interface Applications {
      */
     Mono<Void> push(PushApplicationRequest request);
 
+    /**
+     * Push several applications concurrently.  Lookups shared by the applications are made once, and the number of applications uploading and the number of applications staging at once are
+     * limited separately.  A failure to push one application does not stop the others.
+     *
+     * @param request the push applications request
+     * @return the progress of each application
+     */
+    Flux<PushApplicationProgress> pushAll(PushApplicationsRequest request);
+
     /**
      * Rename a specific application
      *
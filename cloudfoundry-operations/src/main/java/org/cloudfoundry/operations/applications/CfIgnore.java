@@ -0,0 +1,170 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The rules in an application's {@code .cfignore} file, along with the entries that are never uploaded.  Rules follow the common subset of {@code .gitignore} syntax: blank lines and lines starting
+ * with {@code #} are skipped, a leading {@code !} re-includes a path, a leading {@code /} anchors a rule to the application root, a trailing {@code /} matches only directories, a rule without a
+ * {@code /} matches a name at any depth, {@code *} and {@code ?} match within a name and {@code **} matches across directories.  When several rules match, the last one wins.
+ */
+final class CfIgnore {
+
+    private static final List<String> DEFAULT_RULES = Arrays.asList(".cfignore", "/manifest.yml", ".gitignore", ".git", ".hg", ".svn", "_darcs", ".DS_Store");
+
+    private static final String FILE_NAME = ".cfignore";
+
+    private final List<Rule> rules;
+
+    private CfIgnore(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Reads the rules for an application directory
+     *
+     * @param root the application directory
+     * @return the rules for the application directory
+     * @throws IOException if the {@code .cfignore} file cannot be read
+     */
+    static CfIgnore read(Path root) throws IOException {
+        List<String> lines = new ArrayList<>(DEFAULT_RULES);
+
+        Path file = root.resolve(FILE_NAME);
+        if (Files.isRegularFile(file)) {
+            lines.addAll(Files.readAllLines(file, StandardCharsets.UTF_8));
+        }
+
+        return of(lines);
+    }
+
+    /**
+     * Creates rules from lines in {@code .cfignore} syntax
+     *
+     * @param lines the lines
+     * @return the rules
+     */
+    static CfIgnore of(List<String> lines) {
+        List<Rule> rules = new ArrayList<>();
+
+        for (String line : lines) {
+            String rule = line.trim();
+
+            if (!rule.isEmpty() && !rule.startsWith("#")) {
+                rules.add(Rule.of(rule));
+            }
+        }
+
+        return new CfIgnore(rules);
+    }
+
+    /**
+     * Returns whether a path should be left out of the application archive.  The path's ancestors are not considered; callers are expected to stop descending into ignored directories.
+     *
+     * @param relativePath the path relative to the application root, separated by {@code /}
+     * @param directory    whether the path is a directory
+     * @return {@code true} if the path should be left out of the application archive
+     */
+    boolean isIgnored(String relativePath, boolean directory) {
+        boolean ignored = false;
+
+        for (Rule rule : this.rules) {
+            if (rule.matches(relativePath, directory)) {
+                ignored = !rule.negated;
+            }
+        }
+
+        return ignored;
+    }
+
+    private static final class Rule {
+
+        private final boolean directoryOnly;
+
+        private final boolean nameOnly;
+
+        private final boolean negated;
+
+        private final Pattern pattern;
+
+        private Rule(boolean directoryOnly, boolean nameOnly, boolean negated, Pattern pattern) {
+            this.directoryOnly = directoryOnly;
+            this.nameOnly = nameOnly;
+            this.negated = negated;
+            this.pattern = pattern;
+        }
+
+        private static Rule of(String rule) {
+            boolean negated = rule.startsWith("!");
+            if (negated) {
+                rule = rule.substring(1);
+            }
+
+            boolean directoryOnly = rule.endsWith("/");
+            if (directoryOnly) {
+                rule = rule.substring(0, rule.length() - 1);
+            }
+
+            boolean nameOnly = !rule.contains("/");
+            if (rule.startsWith("/")) {
+                rule = rule.substring(1);
+            }
+
+            return new Rule(directoryOnly, nameOnly, negated, Pattern.compile(toRegex(rule)));
+        }
+
+        private static String toRegex(String glob) {
+            StringBuilder regex = new StringBuilder();
+
+            for (int i = 0; i < glob.length(); i++) {
+                char c = glob.charAt(i);
+
+                if (c == '*' && i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                    regex.append(".*");
+                    i++;
+                } else if (c == '*') {
+                    regex.append("[^/]*");
+                } else if (c == '?') {
+                    regex.append("[^/]");
+                } else {
+                    regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+
+            return regex.toString();
+        }
+
+        private boolean matches(String relativePath, boolean directory) {
+            if (this.directoryOnly && !directory) {
+                return false;
+            }
+
+            String candidate = this.nameOnly ? relativePath.substring(relativePath.lastIndexOf('/') + 1) : relativePath;
+            return this.pattern.matcher(candidate).matches();
+        }
+
+    }
+
+}
@@ -52,6 +52,8 @@ import org.cloudfoundry.client.v2.organizations.ListOrganizationSpacesRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationsRequest;
 import org.cloudfoundry.client.v2.organizations.OrganizationResource;
 import org.cloudfoundry.client.v2.privatedomains.PrivateDomainResource;
+import org.cloudfoundry.client.v2.resourcematch.ListMatchingResourcesRequest;
+import org.cloudfoundry.client.v2.resourcematch.ListMatchingResourcesResponse;
 import org.cloudfoundry.client.v2.routes.CreateRouteResponse;
 import org.cloudfoundry.client.v2.routes.DeleteRouteRequest;
 import org.cloudfoundry.client.v2.routes.DeleteRouteResponse;
@@ -72,12 +74,15 @@ import org.cloudfoundry.client.v2.spaces.SpaceResource;
 import org.cloudfoundry.client.v2.stacks.GetStackRequest;
 import org.cloudfoundry.client.v2.stacks.GetStackResponse;
 import org.cloudfoundry.client.v2.stacks.ListStacksRequest;
+import org.cloudfoundry.client.v2.stacks.StackEntity;
 import org.cloudfoundry.client.v2.stacks.StackResource;
 import org.cloudfoundry.doppler.DopplerClient;
 import org.cloudfoundry.doppler.Event;
 import org.cloudfoundry.doppler.LogMessage;
 import org.cloudfoundry.doppler.RecentLogsRequest;
 import org.cloudfoundry.doppler.StreamRequest;
+import org.cloudfoundry.operations.EntityCache;
+import org.cloudfoundry.operations.NoOpEntityCache;
 import org.cloudfoundry.util.DateUtils;
 import org.cloudfoundry.util.DelayTimeoutException;
 import org.cloudfoundry.util.ExceptionUtils;
@@ -85,14 +90,23 @@ import org.cloudfoundry.util.JobUtils;
 import org.cloudfoundry.util.OperationUtils;
 import org.cloudfoundry.util.PaginationUtils;
 import org.cloudfoundry.util.ResourceUtils;
+import org.cloudfoundry.util.SchedulerUtils;
 import org.cloudfoundry.util.StringMap;
 import org.cloudfoundry.util.ValidationUtils;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.tuple.Tuple2;
 import reactor.core.tuple.Tuple6;
+import reactor.core.util.Exceptions;
 
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
@@ -101,24 +115,38 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
-import static org.cloudfoundry.util.DelayUtils.exponentialBackOff;
+import static org.cloudfoundry.util.DelayUtils.jitteredBackOff;
 import static org.cloudfoundry.util.OperationUtils.thenKeep;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 import static org.cloudfoundry.util.tuple.TupleUtils.predicate;
 
 public final class DefaultApplications implements Applications {
 
+    private static final String API_SOURCE_TYPE = "API";
+
     private static final int CF_APP_STOPPED_STATS_ERROR = 200003;
 
     private static final int CF_INSTANCES_ERROR = 220001;
 
     private static final int CF_STAGING_NOT_FINISHED = 170002;
 
+    private static final int DEFAULT_UPLOAD_CONCURRENCY = 4;
+
+    private static final String INSTANCE_SOURCE_TYPE = "CELL";
+
     private static final int MAX_NUMBER_OF_RECENT_EVENTS = 50;
 
+    private static final Pattern STAGING_SIGNAL = Pattern.compile("(staging complete|staging failed|uploading complete)", Pattern.CASE_INSENSITIVE);
+
+    private static final String STAGING_SOURCE_TYPE = "STG";
+
     private static final String STARTED_STATE = "STARTED";
 
     private static final String STOPPED_STATE = "STOPPED";
@@ -127,17 +155,36 @@ public final class DefaultApplications implements Applications {
 
     private final Mono<DopplerClient> dopplerClient;
 
+    private final EntityCache entityCache;
+
+    private final FileHashIndex fileHashIndex;
+
     private final RandomWords randomWords;
 
     private final Mono<String> spaceId;
 
     public DefaultApplications(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> loggingClient, Mono<String> spaceId) {
-        this(cloudFoundryClient, loggingClient, spaceId, new WordListRandomWords());
+        this(cloudFoundryClient, loggingClient, spaceId, NoOpEntityCache.INSTANCE);
+    }
+
+    public DefaultApplications(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> loggingClient, Mono<String> spaceId, EntityCache entityCache) {
+        this(cloudFoundryClient, loggingClient, spaceId, entityCache, FileHashIndex.inMemory());
+    }
+
+    public DefaultApplications(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> loggingClient, Mono<String> spaceId, EntityCache entityCache, FileHashIndex fileHashIndex) {
+        this(cloudFoundryClient, loggingClient, spaceId, entityCache, fileHashIndex, new WordListRandomWords());
     }
 
     DefaultApplications(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, Mono<String> spaceId, RandomWords randomWords) {
+        this(cloudFoundryClient, dopplerClient, spaceId, NoOpEntityCache.INSTANCE, FileHashIndex.inMemory(), randomWords);
+    }
+
+    DefaultApplications(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, Mono<String> spaceId, EntityCache entityCache, FileHashIndex fileHashIndex,
+                        RandomWords randomWords) {
         this.cloudFoundryClient = cloudFoundryClient;
         this.dopplerClient = dopplerClient;
+        this.entityCache = entityCache;
+        this.fileHashIndex = fileHashIndex;
         this.spaceId = spaceId;
         this.randomWords = randomWords;
     }
@@ -160,7 +207,8 @@ public final class DefaultApplications implements Applications {
                 )))
             .where(predicate((validRequest, targetApplicationId) -> Optional.ofNullable(validRequest.getRestart()).orElse(false)))
             .then(function((validRequest, targetApplicationId) ->
-                restartApplication(this.cloudFoundryClient, validRequest.getTargetName(), targetApplicationId, validRequest.getStagingTimeout(), validRequest.getStartupTimeout())));
+                restartApplication(this.cloudFoundryClient, this.dopplerClient, validRequest.getTargetName(), targetApplicationId, validRequest.getStagingTimeout(),
+                    validRequest.getStartupTimeout())));
     }
 
     @Override
@@ -197,7 +245,7 @@ public final class DefaultApplications implements Applications {
         return Mono
             .when(ValidationUtils.validate(request), this.spaceId)
             .then(function((validRequest, spaceId) -> getApplication(this.cloudFoundryClient, validRequest.getName(), spaceId)))
-            .then(applicationResource -> getAuxiliaryContent(this.cloudFoundryClient, applicationResource))
+            .then(applicationResource -> getAuxiliaryContent(this.cloudFoundryClient, this.entityCache, applicationResource))
             .map(function(DefaultApplications::toApplicationDetail));
     }
 
@@ -209,7 +257,7 @@ public final class DefaultApplications implements Applications {
             .then(applicationId -> requestApplicationSummary(this.cloudFoundryClient, applicationId))
             .then(response -> Mono
                 .just(response)
-                .and(getStackName(this.cloudFoundryClient, response.getStackId())))
+                .and(getStackName(this.cloudFoundryClient, this.entityCache, response.getStackId())))
             .then(function(DefaultApplications::toApplicationManifest));
     }
 
@@ -268,22 +316,37 @@ public final class DefaultApplications implements Applications {
             .then(validRequest -> Mono
                 .when(
                     Mono.just(validRequest),
-                    DefaultApplications.this.spaceId,
-                    getOptionalStackId(this.cloudFoundryClient, validRequest.getStack())
+                    DefaultApplications.this.spaceId
                 ))
-            .then(function((validRequest, spaceId, stackId) -> Mono
+            .then(function((validRequest, spaceId) -> Mono
                 .when(
-                    getApplicationId(this.cloudFoundryClient, validRequest, spaceId, stackId.orElse(null)),
-                    Mono.just(validRequest),
-                    Mono.just(spaceId)
+                    prepareApplication(this.cloudFoundryClient, new PushLookups(), this.randomWords, validRequest, spaceId),
+                    Mono.just(validRequest)
                 )))
-            .as(thenKeep(function((applicationId, validRequest, spaceId) -> prepareDomainsAndRoutes(this.cloudFoundryClient, validRequest, applicationId, spaceId, this.randomWords))))
-            .map(function((applicationId, validRequest, spaceId) -> Tuple2.of(applicationId, validRequest)))
-            .as(thenKeep(function((applicationId, validRequest) -> uploadApplicationAndWait(this.cloudFoundryClient, applicationId, validRequest.getApplication()))))
+            .as(thenKeep(function((applicationId, validRequest) -> uploadApplicationAndWait(this.cloudFoundryClient, this.fileHashIndex, applicationId, validRequest))))
             .as(thenKeep(function((applicationId, validRequest) -> stopApplication(this.cloudFoundryClient, applicationId))))
             .where(predicate((applicationId, validRequest) -> !Optional.ofNullable(validRequest.getNoStart()).orElse(false)))
-            .then(function((applicationId, validRequest) -> startApplicationAndWait(this.cloudFoundryClient, validRequest.getName(), applicationId, validRequest.getStagingTimeout(),
-                validRequest.getStartupTimeout())));
+            .then(function((applicationId, validRequest) -> startApplicationAndWait(this.cloudFoundryClient, this.dopplerClient, validRequest.getName(), applicationId,
+                validRequest.getStagingTimeout(), validRequest.getStartupTimeout())));
+    }
+
+    @Override
+    public Flux<PushApplicationProgress> pushAll(PushApplicationsRequest request) {
+        PushLookups pushLookups = new PushLookups();
+
+        return ValidationUtils
+            .validate(request)
+            .then(validRequest -> Mono
+                .when(
+                    Mono.just(validRequest),
+                    DefaultApplications.this.spaceId
+                ))
+            .flatMap(function((validRequest, spaceId) -> Flux
+                .fromIterable(validRequest.getApplications())
+                .flatMap(application -> prepareAndUploadApplication(this.cloudFoundryClient, this.fileHashIndex, pushLookups, this.randomWords, application, spaceId),
+                    Optional.ofNullable(validRequest.getUploadConcurrency()).orElse(DEFAULT_UPLOAD_CONCURRENCY), 1)
+                .flatMap(function((progress, application) -> startApplicationAndReport(this.cloudFoundryClient, this.dopplerClient, progress, application)),
+                    Optional.ofNullable(validRequest.getStagingConcurrency()).orElse(validRequest.getApplications().size()), 1)));
     }
 
     @Override
@@ -306,7 +369,7 @@ public final class DefaultApplications implements Applications {
             .then(function((validRequest, spaceId) -> Mono
                 .just(validRequest)
                 .and(getApplicationId(this.cloudFoundryClient, validRequest.getName(), spaceId))))
-            .then(function((validRequest, applicationId) -> restageApplication(this.cloudFoundryClient, validRequest.getName(), applicationId, validRequest.getStagingTimeout(),
+            .then(function((validRequest, applicationId) -> restageApplication(this.cloudFoundryClient, this.dopplerClient, validRequest.getName(), applicationId, validRequest.getStagingTimeout(),
                 validRequest.getStartupTimeout())));
     }
 
@@ -317,8 +380,8 @@ public final class DefaultApplications implements Applications {
             .then(function((validRequest, spaceId) -> getApplication(this.cloudFoundryClient, validRequest.getName(), spaceId)
                 .and(Mono.just(validRequest))))
             .then(function((resource, validRequest) -> stopApplicationIfNotStopped(cloudFoundryClient, resource)
-                .then(stoppedApplication -> startApplicationAndWait(this.cloudFoundryClient, validRequest.getName(), ResourceUtils.getId(stoppedApplication), validRequest.getStagingTimeout(),
-                    validRequest.getStartupTimeout()))));
+                .then(stoppedApplication -> startApplicationAndWait(this.cloudFoundryClient, this.dopplerClient, validRequest.getName(), ResourceUtils.getId(stoppedApplication),
+                    validRequest.getStagingTimeout(), validRequest.getStartupTimeout()))));
     }
 
     @Override
@@ -354,7 +417,8 @@ public final class DefaultApplications implements Applications {
                 )))
             .where(predicate(DefaultApplications::isRestartRequired))
             .then(function((validRequest, resource) ->
-                restartApplication(this.cloudFoundryClient, validRequest.getName(), ResourceUtils.getId(resource), validRequest.getStagingTimeout(), validRequest.getStartupTimeout())));
+                restartApplication(this.cloudFoundryClient, this.dopplerClient, validRequest.getName(), ResourceUtils.getId(resource), validRequest.getStagingTimeout(),
+                    validRequest.getStartupTimeout())));
     }
 
     @Override
@@ -403,7 +467,7 @@ public final class DefaultApplications implements Applications {
             .then(function((validRequest, spaceId) -> getApplicationIdWhere(this.cloudFoundryClient, validRequest.getName(), spaceId, isNotIn(STARTED_STATE))
                 .and(Mono.just(validRequest))))
             .then(function((applicationId, validRequest) ->
-                startApplicationAndWait(this.cloudFoundryClient, validRequest.getName(), applicationId, validRequest.getStagingTimeout(), validRequest.getStartupTimeout())));
+                startApplicationAndWait(this.cloudFoundryClient, this.dopplerClient, validRequest.getName(), applicationId, validRequest.getStagingTimeout(), validRequest.getStartupTimeout())));
     }
 
     @Override
@@ -471,6 +535,14 @@ public final class DefaultApplications implements Applications {
             .build();
     }
 
+    private static void close(InputStream application) {
+        try {
+            application.close();
+        } catch (IOException e) {
+            // nothing to do if the application cannot be closed
+        }
+    }
+
     private static Mono<Void> copyBits(CloudFoundryClient cloudFoundryClient, String sourceApplicationId, String targetApplicationId) {
         return requestCopyBits(cloudFoundryClient, sourceApplicationId, targetApplicationId)
             .then(job -> JobUtils.waitForCompletion(cloudFoundryClient, job));
@@ -543,12 +615,38 @@ public final class DefaultApplications implements Applications {
         return Flux.fromIterable(getSpaceSummaryResponse.getApplications());
     }
 
+    private static InputStream getApplication(PushApplicationRequest request) {
+        if (request.getApplication() != null) {
+            return request.getApplication();
+        }
+
+        Path path = Paths.get(request.getPath());
+        if (Files.isDirectory(path)) {
+            return new ApplicationPackager().pack(path);
+        }
+
+        return openArchive(path);
+    }
+
     private static Mono<AbstractApplicationResource> getApplication(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
         return requestApplications(cloudFoundryClient, application, spaceId)
             .single()
             .otherwise(ExceptionUtils.replace(NoSuchElementException.class, () -> ExceptionUtils.illegalArgument("Application %s does not exist", application)));
     }
 
+    private static ApplicationArchive getApplicationArchive(FileHashIndex fileHashIndex, PushApplicationRequest request) {
+        if (request.getApplication() != null) {
+            return ApplicationArchive.spool(request.getApplication());
+        }
+
+        Path path = Paths.get(request.getPath());
+        if (Files.isDirectory(path)) {
+            return ApplicationArchive.of(path, fileHashIndex);
+        }
+
+        return ApplicationArchive.spool(openArchive(path));
+    }
+
     private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
         return getApplication(cloudFoundryClient, application, spaceId)
             .map(ResourceUtils::getId);
@@ -590,8 +688,8 @@ public final class DefaultApplications implements Applications {
             .otherwise(ExceptionUtils.replace(CF_APP_STOPPED_STATS_ERROR, () -> Mono.just(ApplicationStatisticsResponse.builder().build())));
     }
 
-    private static Mono<Tuple6<ApplicationStatisticsResponse, SummaryApplicationResponse, GetStackResponse, ApplicationInstancesResponse, List<ApplicationDetail.InstanceDetail>, List<String>>>
-    getAuxiliaryContent(CloudFoundryClient cloudFoundryClient, AbstractApplicationResource applicationResource) {
+    private static Mono<Tuple6<ApplicationStatisticsResponse, SummaryApplicationResponse, StackEntity, ApplicationInstancesResponse, List<ApplicationDetail.InstanceDetail>, List<String>>>
+    getAuxiliaryContent(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, AbstractApplicationResource applicationResource) {
 
         String applicationId = ResourceUtils.getId(applicationResource);
         String stackId = ResourceUtils.getEntity(applicationResource).getStackId();
@@ -606,7 +704,7 @@ public final class DefaultApplications implements Applications {
                 .when(
                     Mono.just(applicationStatisticsResponse),
                     Mono.just(summaryApplicationResponse),
-                    requestStack(cloudFoundryClient, stackId),
+                    getStackEntity(cloudFoundryClient, entityCache, stackId),
                     Mono.just(applicationInstancesResponse),
                     toInstanceDetailList(applicationInstancesResponse, applicationStatisticsResponse),
                     toUrls(summaryApplicationResponse.getRoutes())
@@ -695,6 +793,14 @@ public final class DefaultApplications implements Applications {
             .otherwise(ExceptionUtils.replace(NoSuchElementException.class, () -> ExceptionUtils.illegalArgument("Space %s not found", space)));
     }
 
+    private static Function<Flux<Long>, Publisher<?>> getPollDelay(Mono<DopplerClient> dopplerClient, String applicationId, Predicate<LogMessage> signal, Duration timeout) {
+        Flux<Event> signals = requestLogsStream(dopplerClient, applicationId)
+            .filter(event -> event instanceof LogMessage && signal.test((LogMessage) event))
+            .onErrorResumeWith(throwable -> Flux.empty());
+
+        return jitteredBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), timeout, signals);
+    }
+
     private static Mono<String> getPrivateDomainId(CloudFoundryClient cloudFoundryClient, String domain, String organizationId) {
         return requestPrivateDomain(cloudFoundryClient, domain, organizationId)
             .map(ResourceUtils::getId)
@@ -756,9 +862,14 @@ public final class DefaultApplications implements Applications {
             .map(response -> ResourceUtils.getEntity(response).getOrganizationId());
     }
 
-    private static Mono<String> getStackName(CloudFoundryClient cloudFoundryClient, String stackId) {
-        return requestStack(cloudFoundryClient, stackId)
-            .map(getStackResponse -> getStackResponse.getEntity().getName());
+    private static Mono<StackEntity> getStackEntity(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, String stackId) {
+        return entityCache.get(StackEntity.class, stackId, id -> requestStack(cloudFoundryClient, id)
+            .map(ResourceUtils::getEntity));
+    }
+
+    private static Mono<String> getStackName(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, String stackId) {
+        return getStackEntity(cloudFoundryClient, entityCache, stackId)
+            .map(StackEntity::getName);
     }
 
     private static boolean isIdentical(String s, String t) {
@@ -769,6 +880,11 @@ public final class DefaultApplications implements Applications {
         return state -> "RUNNING".equals(state) || "FAILED".equals(state);
     }
 
+    private static Predicate<LogMessage> isInstanceSignal() {
+        return message -> INSTANCE_SOURCE_TYPE.equals(message.getSourceType())
+            || (API_SOURCE_TYPE.equals(message.getSourceType()) && message.getMessage() != null && message.getMessage().contains("exited"));
+    }
+
     private static Predicate<AbstractApplicationResource> isNotIn(String expectedState) {
         return resource -> isNotIn(resource, expectedState);
     }
@@ -794,13 +910,47 @@ public final class DefaultApplications implements Applications {
         return state -> "STAGED".equals(state) || "FAILED".equals(state);
     }
 
-    private static Mono<Void> prepareDomainsAndRoutes(CloudFoundryClient cloudFoundryClient, PushApplicationRequest validRequest, String applicationId, String spaceId, RandomWords randomWords) {
+    private static Predicate<LogMessage> isStagingSignal() {
+        return message -> STAGING_SOURCE_TYPE.equals(message.getSourceType()) && message.getMessage() != null && STAGING_SIGNAL.matcher(message.getMessage()).find();
+    }
+
+    private static InputStream openArchive(Path path) {
+        try {
+            return new FileInputStream(path.toFile());
+        } catch (FileNotFoundException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static Mono<Tuple2<PushApplicationProgress, PushApplicationRequest>> prepareAndUploadApplication(CloudFoundryClient cloudFoundryClient, FileHashIndex fileHashIndex,
+                                                                                                            PushLookups pushLookups, RandomWords randomWords,
+                                                                                                            PushApplicationRequest request, String spaceId) {
+        return ValidationUtils
+            .validate(request)
+            .then(validRequest -> prepareApplication(cloudFoundryClient, pushLookups, randomWords, validRequest, spaceId))
+            .as(thenKeep(applicationId -> uploadApplicationAndWait(cloudFoundryClient, fileHashIndex, applicationId, request)))
+            .as(thenKeep(applicationId -> stopApplication(cloudFoundryClient, applicationId)))
+            .map(applicationId -> toPushApplicationProgress(request, applicationId, PushApplicationState.UPLOADED))
+            .otherwise(throwable -> Mono.just(toPushApplicationProgress(request, throwable)))
+            .map(progress -> Tuple2.of(progress, request));
+    }
+
+    private static Mono<String> prepareApplication(CloudFoundryClient cloudFoundryClient, PushLookups pushLookups, RandomWords randomWords, PushApplicationRequest validRequest, String spaceId) {
+        return pushLookups
+            .getStackId(validRequest.getStack(), () -> getOptionalStackId(cloudFoundryClient, validRequest.getStack()))
+            .then(stackId -> getApplicationId(cloudFoundryClient, validRequest, spaceId, stackId.orElse(null)))
+            .as(thenKeep(applicationId -> prepareDomainsAndRoutes(cloudFoundryClient, pushLookups, validRequest, applicationId, spaceId, randomWords)));
+    }
+
+    private static Mono<Void> prepareDomainsAndRoutes(CloudFoundryClient cloudFoundryClient, PushLookups pushLookups, PushApplicationRequest validRequest, String applicationId, String spaceId,
+                                                      RandomWords randomWords) {
         if (Optional.ofNullable(validRequest.getNoRoute()).orElse(false)) {
             return Mono.empty();
         }
 
-        return getSpaceOrganizationId(cloudFoundryClient, spaceId)
-            .then(organizationId -> getDomainId(cloudFoundryClient, validRequest.getDomain(), organizationId))
+        return pushLookups
+            .getOrganizationId(spaceId, () -> getSpaceOrganizationId(cloudFoundryClient, spaceId))
+            .then(organizationId -> pushLookups.getDomainId(validRequest.getDomain(), organizationId, () -> getDomainId(cloudFoundryClient, validRequest.getDomain(), organizationId)))
             .then(domainId -> getPushRouteId(cloudFoundryClient, domainId, validRequest, spaceId, randomWords))
             .then(routeId -> requestAssociateRoute(cloudFoundryClient, applicationId, routeId))
             .then();
@@ -935,6 +1085,18 @@ public final class DefaultApplications implements Applications {
             .map(OperationUtils.<GetApplicationResponse, AbstractApplicationResource>cast());
     }
 
+    private static Mono<ListMatchingResourcesResponse> requestListMatchingResources(CloudFoundryClient cloudFoundryClient, List<UploadApplicationRequest.Resource> resources) {
+        return cloudFoundryClient.resourceMatch()
+            .list(ListMatchingResourcesRequest.builder()
+                .resources(resources.stream()
+                    .map(resource -> org.cloudfoundry.client.v2.resourcematch.Resource.builder()
+                        .hash(resource.getHash())
+                        .size(resource.getSize().longValue())
+                        .build())
+                    .collect(Collectors.toList()))
+                .build());
+    }
+
     private static Flux<ServiceBindingResource> requestListServiceBindings(CloudFoundryClient cloudFoundryClient, String applicationId) {
         return PaginationUtils
             .requestResources(page -> cloudFoundryClient.applicationsV2()
@@ -960,6 +1122,17 @@ public final class DefaultApplications implements Applications {
                     .build()));
     }
 
+    private static Mono<Set<String>> requestMatchedHashes(CloudFoundryClient cloudFoundryClient, List<UploadApplicationRequest.Resource> resources) {
+        if (resources.isEmpty()) {
+            return Mono.just(Collections.<String>emptySet());
+        }
+
+        return requestListMatchingResources(cloudFoundryClient, resources)
+            .map(response -> response.stream()
+                .map(org.cloudfoundry.client.v2.resourcematch.Resource::getHash)
+                .collect(Collectors.toSet()));
+    }
+
     private static Flux<SpaceResource> requestOrganizationSpacesByName(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
         return PaginationUtils
             .requestResources(page -> cloudFoundryClient.organizations()
@@ -1151,34 +1324,63 @@ public final class DefaultApplications implements Applications {
             .map(OperationUtils.<UpdateApplicationResponse, AbstractApplicationResource>cast());
     }
 
-    private static Mono<UploadApplicationResponse> requestUploadApplication(CloudFoundryClient cloudFoundryClient, String applicationId, InputStream application) {
+    private static Mono<UploadApplicationResponse> requestUploadApplication(CloudFoundryClient cloudFoundryClient, String applicationId, InputStream application,
+                                                                            List<UploadApplicationRequest.Resource> resources) {
         return cloudFoundryClient.applicationsV2()
             .upload(UploadApplicationRequest.builder()
                 .applicationId(applicationId)
                 .async(true)
                 .application(application)
-                .build());
+                .resources(resources)
+                .build())
+            .doOnError(t -> close(application))
+            .doOnCancel(() -> close(application));
     }
 
-    private static Mono<Void> restageApplication(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+    private static Mono<Void> restageApplication(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, String application, String applicationId, Duration stagingTimeout,
+                                                 Duration startupTimeout) {
         return requestRestageApplication(cloudFoundryClient, applicationId)
-            .then(response -> waitForStaging(cloudFoundryClient, application, applicationId, stagingTimeout))
-            .then(waitForRunning(cloudFoundryClient, application, applicationId, startupTimeout));
+            .then(response -> waitForStaging(cloudFoundryClient, dopplerClient, application, applicationId, stagingTimeout))
+            .then(waitForRunning(cloudFoundryClient, dopplerClient, application, applicationId, startupTimeout));
     }
 
-    private static Mono<Void> restartApplication(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+    private static Mono<Void> restartApplication(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, String application, String applicationId, Duration stagingTimeout,
+                                                 Duration startupTimeout) {
         return stopApplication(cloudFoundryClient, applicationId)
-            .then(startApplicationAndWait(cloudFoundryClient, application, applicationId, stagingTimeout, startupTimeout));
+            .then(startApplicationAndWait(cloudFoundryClient, dopplerClient, application, applicationId, stagingTimeout, startupTimeout));
     }
 
     private static Predicate<AbstractApplicationResource> sshEnabled(Boolean enabled) {
         return resource -> enabled.equals(ResourceUtils.getEntity(resource).getEnableSsh());
     }
 
-    private static Mono<Void> startApplicationAndWait(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+    private static Flux<PushApplicationProgress> startApplicationAndReport(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient,
+                                                                           PushApplicationProgress progress, PushApplicationRequest request) {
+        if (progress.getState() != PushApplicationState.UPLOADED || Optional.ofNullable(request.getNoStart()).orElse(false)) {
+            return Flux.just(progress);
+        }
+
+        String applicationId = progress.getApplicationId();
+
+        Mono<PushApplicationProgress> running = waitForRunning(cloudFoundryClient, dopplerClient, request.getName(), applicationId, request.getStartupTimeout())
+            .then(Mono.just(toPushApplicationProgress(request, applicationId, PushApplicationState.RUNNING)))
+            .otherwise(throwable -> Mono.just(toPushApplicationProgress(request, throwable)));
+
+        Mono<PushApplicationProgress> staged = requestUpdateApplicationState(cloudFoundryClient, applicationId, STARTED_STATE)
+            .then(response -> waitForStaging(cloudFoundryClient, dopplerClient, request.getName(), applicationId, request.getStagingTimeout()))
+            .then(Mono.just(toPushApplicationProgress(request, applicationId, PushApplicationState.STAGED)))
+            .otherwise(throwable -> Mono.just(toPushApplicationProgress(request, throwable)));
+
+        return Flux.just(progress)
+            .concatWith(staged
+                .flatMap(stagedProgress -> stagedProgress.getState() == PushApplicationState.FAILED ? Flux.just(stagedProgress) : Flux.just(stagedProgress).concatWith(running)));
+    }
+
+    private static Mono<Void> startApplicationAndWait(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, String application, String applicationId, Duration stagingTimeout,
+                                                      Duration startupTimeout) {
         return requestUpdateApplicationState(cloudFoundryClient, applicationId, STARTED_STATE)
-            .then(response -> waitForStaging(cloudFoundryClient, application, applicationId, stagingTimeout))
-            .then(waitForRunning(cloudFoundryClient, application, applicationId, startupTimeout));
+            .then(response -> waitForStaging(cloudFoundryClient, dopplerClient, application, applicationId, stagingTimeout))
+            .then(waitForRunning(cloudFoundryClient, dopplerClient, application, applicationId, startupTimeout));
     }
 
     private static Mono<AbstractApplicationResource> stopApplication(CloudFoundryClient cloudFoundryClient, String applicationId) {
@@ -1190,7 +1392,7 @@ public final class DefaultApplications implements Applications {
     }
 
     private static ApplicationDetail toApplicationDetail(ApplicationStatisticsResponse applicationStatisticsResponse, SummaryApplicationResponse summaryApplicationResponse,
-                                                         GetStackResponse getStackResponse, ApplicationInstancesResponse applicationInstancesResponse,
+                                                         StackEntity stackEntity, ApplicationInstancesResponse applicationInstancesResponse,
                                                          List<ApplicationDetail.InstanceDetail> instanceDetails, List<String> urls) {
         return ApplicationDetail.builder()
             .buildpack(getBuildpack(summaryApplicationResponse))
@@ -1203,7 +1405,7 @@ public final class DefaultApplications implements Applications {
             .name(summaryApplicationResponse.getName())
             .requestedState(summaryApplicationResponse.getState())
             .runningInstances(summaryApplicationResponse.getRunningInstances())
-            .stack(getStackResponse.getEntity().getName())
+            .stack(stackEntity.getName())
             .urls(urls)
             .build();
     }
@@ -1301,6 +1503,22 @@ public final class DefaultApplications implements Applications {
             .toList();
     }
 
+    private static PushApplicationProgress toPushApplicationProgress(PushApplicationRequest request, String applicationId, PushApplicationState state) {
+        return PushApplicationProgress.builder()
+            .applicationId(applicationId)
+            .name(request.getName())
+            .state(state)
+            .build();
+    }
+
+    private static PushApplicationProgress toPushApplicationProgress(PushApplicationRequest request, Throwable error) {
+        return PushApplicationProgress.builder()
+            .error(error)
+            .name(request.getName())
+            .state(PushApplicationState.FAILED)
+            .build();
+    }
+
     private static String toUrl(Route route) {
         String hostName = route.getHost();
         String domainName = route.getDomain().getName();
@@ -1323,33 +1541,55 @@ public final class DefaultApplications implements Applications {
                 .build());
     }
 
-    private static Mono<Void> uploadApplicationAndWait(CloudFoundryClient cloudFoundryClient, String applicationId, InputStream application) {
-        return requestUploadApplication(cloudFoundryClient, applicationId, application)
+    private static Mono<UploadApplicationResponse> uploadApplication(CloudFoundryClient cloudFoundryClient, FileHashIndex fileHashIndex, String applicationId, PushApplicationRequest request) {
+        if (!Optional.ofNullable(request.getResourceMatching()).orElse(false)) {
+            return Mono
+                .defer(() -> requestUploadApplication(cloudFoundryClient, applicationId, getApplication(request), Collections.emptyList()));
+        }
+
+        return Mono
+            .using(() -> getApplicationArchive(fileHashIndex, request),
+                archive -> requestMatchedHashes(cloudFoundryClient, archive.getResources())
+                    .map(archive::getMatchedResources)
+                    .then(matched -> Mono
+                        .fromCallable(() -> archive.getApplication(matched))
+                        .subscribeOn(SchedulerUtils.blockingIo())
+                        .then(application -> requestUploadApplication(cloudFoundryClient, applicationId, application, matched))),
+                ApplicationArchive::close)
+            .subscribeOn(SchedulerUtils.blockingIo());
+    }
+
+    private static Mono<Void> uploadApplicationAndWait(CloudFoundryClient cloudFoundryClient, FileHashIndex fileHashIndex, String applicationId, PushApplicationRequest request) {
+        return uploadApplication(cloudFoundryClient, fileHashIndex, applicationId, request)
             .then(job -> JobUtils.waitForCompletion(cloudFoundryClient, job));
     }
 
-    private static Mono<Void> waitForRunning(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration startupTimeout) {
+    private static Mono<Void> waitForRunning(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, String application, String applicationId, Duration startupTimeout) {
         Duration timeout = Optional.ofNullable(startupTimeout).orElse(Duration.ofMinutes(5));
 
-        return requestApplicationInstances(cloudFoundryClient, applicationId)
-            .flatMap(response -> Flux.fromIterable(response.values()))
-            .map(ApplicationInstanceInfo::getState)
-            .reduce("UNKNOWN", collectStates())
-            .where(isInstanceComplete())
-            .repeatWhenEmpty(exponentialBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), timeout))
+        return Flux
+            .defer(() -> requestApplicationInstances(cloudFoundryClient, applicationId)
+                .flatMap(response -> Flux.fromIterable(response.values()))
+                .map(ApplicationInstanceInfo::getState)
+                .reduce("UNKNOWN", collectStates()))
+            .repeatWhen(getPollDelay(dopplerClient, applicationId, isInstanceSignal(), timeout))
+            .filter(isInstanceComplete())
+            .next()
             .where(isRunning())
             .otherwiseIfEmpty(ExceptionUtils.illegalState("Application %s failed during start", application))
             .otherwise(ExceptionUtils.replace(DelayTimeoutException.class, () -> ExceptionUtils.illegalState("Application %s timed out during start", application)))
             .then();
     }
 
-    private static Mono<Void> waitForStaging(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout) {
+    private static Mono<Void> waitForStaging(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, String application, String applicationId, Duration stagingTimeout) {
         Duration timeout = Optional.ofNullable(stagingTimeout).orElse(Duration.ofMinutes(15));
 
-        return requestGetApplication(cloudFoundryClient, applicationId)
-            .map(response -> ResourceUtils.getEntity(response).getPackageState())
-            .where(isStagingComplete())
-            .repeatWhenEmpty(exponentialBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), timeout))
+        return Flux
+            .defer(() -> requestGetApplication(cloudFoundryClient, applicationId)
+                .map(response -> ResourceUtils.getEntity(response).getPackageState()))
+            .repeatWhen(getPollDelay(dopplerClient, applicationId, isStagingSignal(), timeout))
+            .filter(isStagingComplete())
+            .next()
             .where(isStaged())
             .otherwiseIfEmpty(ExceptionUtils.illegalState("Application %s failed during staging", application))
             .otherwise(ExceptionUtils.replace(DelayTimeoutException.class, () -> ExceptionUtils.illegalState("Application %s timed out during staging", application)))
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.cloudfoundry.client.v2.applications.UploadApplicationRequest;
+import reactor.core.util.Exceptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * An application directory whose files are fingerprinted through a {@link FileHashIndex}, so that unchanged files are not read again
+ */
+final class DirectoryApplicationArchive extends ApplicationArchive {
+
+    private final List<UploadApplicationRequest.Resource> resources;
+
+    private final Path root;
+
+    private DirectoryApplicationArchive(Path root, List<UploadApplicationRequest.Resource> resources) {
+        this.resources = resources;
+        this.root = root;
+    }
+
+    /**
+     * Fingerprints the files in an application directory.  Files are hashed in parallel, and files larger than {@link #MAXIMUM_RESOURCE_SIZE} are not fingerprinted.
+     *
+     * @param root          the application directory
+     * @param fileHashIndex the index used to avoid re-hashing unchanged files
+     * @return the application directory
+     */
+    static DirectoryApplicationArchive of(Path root, FileHashIndex fileHashIndex) {
+        try {
+            List<UploadApplicationRequest.Resource> resources = ApplicationPackager.getFiles(root).parallelStream()
+                .map(file -> getResource(root, file, fileHashIndex))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+
+            fileHashIndex.flush();
+            return new DirectoryApplicationArchive(root, Collections.unmodifiableList(resources));
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to release for a directory
+    }
+
+    @Override
+    InputStream getApplication(Collection<UploadApplicationRequest.Resource> matched) {
+        return new ApplicationPackager().pack(this.root, getPaths(matched));
+    }
+
+    @Override
+    List<UploadApplicationRequest.Resource> getResources() {
+        return this.resources;
+    }
+
+    private static Optional<UploadApplicationRequest.Resource> getResource(Path root, Path file, FileHashIndex fileHashIndex) {
+        try {
+            long size = Files.size(file);
+            if (size > MAXIMUM_RESOURCE_SIZE) {
+                return Optional.empty();
+            }
+
+            return Optional.of(UploadApplicationRequest.Resource.builder()
+                .hash(fileHashIndex.getHash(file))
+                .path(ApplicationPackager.getName(root, file))
+                .size((int) size)
+                .build());
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import reactor.core.util.Exceptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An index of the SHA-1 hashes of local files, keyed by path, size and modification time, so that files that have not changed since an earlier push are not read again.  A persistent index is
+ * stored in a single append-only file in its directory, which is memory-mapped when read and can be shared by concurrent pushes in this and other processes.  The file starts with a generation
+ * that changes whenever the file is compacted, so an index that finds a generation other than the one it last read re-reads the file from the start instead of appending at a stale offset.
+ */
+public final class FileHashIndex {
+
+    private static final long CLOCK_SKEW = 2_000;
+
+    private static final String FILE_NAME = "file-hashes.idx";
+
+    private static final int HASH_LENGTH = 20;
+
+    private static final int HEADER_LENGTH = 4 + 8;
+
+    private static final int HEADER_MAGIC = 0x46484948;
+
+    private static final ConcurrentMap<Path, FileHashIndex> INSTANCES = new ConcurrentHashMap<>();
+
+    private static final int MAGIC = 0x46484931;
+
+    private static final int MINIMUM_COMPACTION_RECORDS = 1_024;
+
+    private final Map<String, Record> entries = new ConcurrentHashMap<>();
+
+    private final Path file;
+
+    private long generation = -1;
+
+    private final ConcurrentLinkedQueue<Record> pending = new ConcurrentLinkedQueue<>();
+
+    private long position = HEADER_LENGTH;
+
+    private long records = 0;
+
+    private FileHashIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Creates an index that is held only in memory
+     *
+     * @return an index that is held only in memory
+     */
+    public static FileHashIndex inMemory() {
+        return new FileHashIndex(null);
+    }
+
+    /**
+     * Opens the persistent index stored in a directory.  Indexes opened for the same directory in the same process share an instance.
+     *
+     * @param directory the directory to store the index in
+     * @return the persistent index
+     */
+    public static FileHashIndex open(Path directory) {
+        return INSTANCES.computeIfAbsent(directory.toAbsolutePath().normalize(), FileHashIndex::create);
+    }
+
+    /**
+     * Returns the SHA-1 hash of a file, reading the file only if it has changed since it was last hashed
+     *
+     * @param file the file
+     * @return the hex-encoded SHA-1 hash of the file
+     */
+    public String getHash(Path file) {
+        try {
+            String key = file.toAbsolutePath().normalize().toString();
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+
+            Record record = this.entries.get(key);
+            if (record != null && record.size == size && record.lastModified == lastModified) {
+                return toHex(record.hash);
+            }
+
+            byte[] hash = hash(file);
+
+            if (System.currentTimeMillis() - lastModified > CLOCK_SKEW) {
+                Record updated = new Record(key, size, lastModified, hash);
+                this.entries.put(key, updated);
+                this.pending.add(updated);
+            }
+
+            return toHex(hash);
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    /**
+     * Writes hashes computed since the last flush to the persistent index.  Records written by other processes since the index was last read are picked up at the same time.
+     */
+    public synchronized void flush() {
+        if (this.file == null) {
+            this.pending.clear();
+            return;
+        }
+
+        List<Record> records = new ArrayList<>();
+        for (Record record = this.pending.poll(); record != null; record = this.pending.poll()) {
+            records.add(record);
+        }
+
+        if (records.isEmpty()) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(this.file.getParent());
+
+            try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+
+                read(channel);
+
+                if (this.generation == -1 || this.records + records.size() > Math.max(MINIMUM_COMPACTION_RECORDS, 2 * this.entries.size())) {
+                    channel.truncate(0);
+                    writeHeader(channel, nextGeneration(this.generation));
+                    records = new ArrayList<>(this.entries.values());
+                } else {
+                    channel.truncate(this.position);
+                }
+
+                ByteBuffer buffer = encode(records);
+                while (buffer.hasRemaining()) {
+                    this.position += channel.write(buffer, this.position);
+                }
+                this.records += records.size();
+            }
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    /**
+     * Returns the number of files in the index
+     *
+     * @return the number of files in the index
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    static FileHashIndex create(Path directory) {
+        FileHashIndex fileHashIndex = new FileHashIndex(directory.resolve(FILE_NAME));
+        fileHashIndex.load();
+        return fileHashIndex;
+    }
+
+    private static ByteBuffer encode(List<Record> records) {
+        List<byte[]> keys = new ArrayList<>(records.size());
+        int length = 0;
+
+        for (Record record : records) {
+            byte[] key = record.key.getBytes(StandardCharsets.UTF_8);
+            keys.add(key);
+            length += 4 + 2 + key.length + 8 + 8 + HASH_LENGTH;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (int i = 0; i < records.size(); i++) {
+            Record record = records.get(i);
+            byte[] key = keys.get(i);
+
+            buffer
+                .putInt(MAGIC)
+                .putShort((short) key.length)
+                .put(key)
+                .putLong(record.size)
+                .putLong(record.lastModified)
+                .put(record.hash);
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    private static long getGeneration(FileChannel channel, long size) throws IOException {
+        if (size < HEADER_LENGTH) {
+            return -1;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        while (header.hasRemaining() && channel.read(header, header.position()) != -1) {
+            // keep reading until the header is complete
+        }
+
+        header.flip();
+        return header.remaining() == HEADER_LENGTH && header.getInt() == HEADER_MAGIC ? header.getLong() : -1;
+    }
+
+    private static byte[] hash(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] buffer = new byte[8 * 1024];
+
+            for (int length = in.read(buffer); length != -1; length = in.read(buffer)) {
+                digest.update(buffer, 0, length);
+            }
+
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static long nextGeneration(long generation) {
+        for (; ; ) {
+            long next = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE);
+
+            if (next != generation) {
+                return next;
+            }
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private void load() {
+        if (!Files.exists(this.file)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ);
+             FileLock ignored = channel.lock(0, Long.MAX_VALUE, true)) {
+
+            read(channel);
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private void read(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long generation = getGeneration(channel, size);
+
+        if (generation != this.generation) {
+            this.generation = generation;
+            this.position = HEADER_LENGTH;
+            this.records = 0;
+        }
+
+        if (generation == -1 || size <= this.position) {
+            return;
+        }
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, this.position, size - this.position);
+
+        while (buffer.remaining() >= 6) {
+            int start = buffer.position();
+
+            if (buffer.getInt() != MAGIC) {
+                buffer.position(start);
+                break;
+            }
+
+            int keyLength = buffer.getShort() & 0xFFFF;
+            if (buffer.remaining() < keyLength + 8 + 8 + HASH_LENGTH) {
+                buffer.position(start);
+                break;
+            }
+
+            byte[] key = new byte[keyLength];
+            buffer.get(key);
+            long fileSize = buffer.getLong();
+            long lastModified = buffer.getLong();
+            byte[] hash = new byte[HASH_LENGTH];
+            buffer.get(hash);
+
+            String path = new String(key, StandardCharsets.UTF_8);
+            this.entries.put(path, new Record(path, fileSize, lastModified, hash));
+            this.records++;
+        }
+
+        this.position += buffer.position();
+    }
+
+    private void writeHeader(FileChannel channel, long generation) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH)
+            .putInt(HEADER_MAGIC)
+            .putLong(generation);
+
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+
+        this.generation = generation;
+        this.position = HEADER_LENGTH;
+        this.records = 0;
+    }
+
+    private static final class Record {
+
+        private final byte[] hash;
+
+        private final String key;
+
+        private final long lastModified;
+
+        private final long size;
+
+        private Record(String key, long size, long lastModified, byte[] hash) {
+            this.hash = hash;
+            this.key = key;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+    }
+
+}
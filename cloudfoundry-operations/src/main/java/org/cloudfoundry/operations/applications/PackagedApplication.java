@@ -0,0 +1,181 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import reactor.core.util.Exceptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An application archive produced by an {@link ApplicationPackager}.  The archive is read while it is still being produced, and the packaging throughput is available for comparison with the
+ * upload throughput.
+ */
+public final class PackagedApplication extends InputStream {
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    private final AtomicLong entries = new AtomicLong();
+
+    private volatile long finish = -1;
+
+    private volatile Throwable failure;
+
+    private final PipedOutputStream sink;
+
+    private final PipedInputStream source;
+
+    private final long start = System.nanoTime();
+
+    PackagedApplication(int bufferSize) {
+        this.sink = new PipedOutputStream();
+
+        try {
+            this.source = new PipedInputStream(this.sink, bufferSize);
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.source.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.source.close();
+    }
+
+    /**
+     * Returns the number of uncompressed bytes packaged so far
+     *
+     * @return the number of uncompressed bytes packaged so far
+     */
+    public long getBytes() {
+        return this.bytes.get();
+    }
+
+    /**
+     * Returns the number of uncompressed bytes packaged per second
+     *
+     * @return the number of uncompressed bytes packaged per second
+     */
+    public long getBytesPerSecond() {
+        return perSecond(this.bytes.get());
+    }
+
+    /**
+     * Returns the time spent packaging so far, or in total once packaging has completed
+     *
+     * @return the time spent packaging
+     */
+    public Duration getElapsed() {
+        long finish = this.finish;
+        return Duration.ofNanos((finish == -1 ? System.nanoTime() : finish) - this.start);
+    }
+
+    /**
+     * Returns the number of entries written to the archive so far
+     *
+     * @return the number of entries written to the archive so far
+     */
+    public long getEntries() {
+        return this.entries.get();
+    }
+
+    /**
+     * Returns the number of entries written to the archive per second
+     *
+     * @return the number of entries written to the archive per second
+     */
+    public long getEntriesPerSecond() {
+        return perSecond(this.entries.get());
+    }
+
+    /**
+     * Returns whether packaging has completed successfully
+     *
+     * @return {@code true} if packaging has completed successfully
+     */
+    public boolean isComplete() {
+        return this.finish != -1 && this.failure == null;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = this.source.read();
+        if (value == -1) {
+            checkFailure();
+        }
+
+        return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int count = this.source.read(b, off, len);
+        if (count == -1) {
+            checkFailure();
+        }
+
+        return count;
+    }
+
+    Throwable getFailure() {
+        return this.failure;
+    }
+
+    PipedOutputStream getSink() {
+        return this.sink;
+    }
+
+    void onComplete() {
+        this.finish = System.nanoTime();
+    }
+
+    void onEntryCompressed(long size) {
+        this.bytes.addAndGet(size);
+    }
+
+    void onEntryWritten() {
+        this.entries.incrementAndGet();
+    }
+
+    void onError(Throwable failure) {
+        this.failure = failure;
+        this.finish = System.nanoTime();
+    }
+
+    private void checkFailure() throws IOException {
+        Throwable failure = this.failure;
+
+        if (failure != null) {
+            throw new IOException("Unable to package application", failure);
+        }
+    }
+
+    private long perSecond(long count) {
+        long nanos = getElapsed().toNanos();
+        return nanos == 0 ? 0 : (long) (count * 1e9 / nanos);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * The lookups shared by the applications in a push, so that entities common to several applications are looked up only once.  Failed lookups are not cached.
+ */
+final class PushLookups {
+
+    private final ConcurrentMap<String, Mono<String>> domainIds = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Mono<String>> organizationIds = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Mono<Optional<String>>> stackIds = new ConcurrentHashMap<>();
+
+    Mono<String> getDomainId(String domain, String organizationId, Supplier<Mono<String>> loader) {
+        return get(this.domainIds, String.format("%s/%s", organizationId, Optional.ofNullable(domain).orElse("")), loader);
+    }
+
+    Mono<String> getOrganizationId(String spaceId, Supplier<Mono<String>> loader) {
+        return get(this.organizationIds, spaceId, loader);
+    }
+
+    Mono<Optional<String>> getStackId(String stack, Supplier<Mono<Optional<String>>> loader) {
+        return get(this.stackIds, Optional.ofNullable(stack).orElse(""), loader);
+    }
+
+    private static <T> Mono<T> get(ConcurrentMap<String, Mono<T>> cache, String key, Supplier<Mono<T>> loader) {
+        return cache.computeIfAbsent(key, k -> loader.get()
+            .doOnError(t -> cache.remove(k))
+            .cache());
+    }
+
+}
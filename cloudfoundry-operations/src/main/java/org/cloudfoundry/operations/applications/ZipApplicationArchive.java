@@ -0,0 +1,380 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.cloudfoundry.client.v2.applications.UploadApplicationRequest;
+import reactor.core.util.Exceptions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * An application archive that has been spooled to disk so that its files can be fingerprinted and a smaller archive of only some of its files can be created
+ */
+final class ZipApplicationArchive extends ApplicationArchive {
+
+    private static final int CENTRAL_DIRECTORY_RECORD_LENGTH = 46;
+
+    private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+
+    private static final int DATA_DESCRIPTOR_FLAG = 0x08;
+
+    private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+
+    private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final int LOCAL_HEADER_LENGTH = 30;
+
+    private static final int MAXIMUM_COMMENT_LENGTH = 0xFFFF;
+
+    private static final long MAXIMUM_OFFSET = 0xFFFFFFFEL;
+
+    private final Path path;
+
+    private final List<UploadApplicationRequest.Resource> resources;
+
+    private final ZipFile zipFile;
+
+    private ZipApplicationArchive(Path path) throws IOException {
+        this.path = path;
+        this.zipFile = new ZipFile(path.toFile());
+
+        try {
+            this.resources = Collections.unmodifiableList(getResources(this.zipFile));
+        } catch (RuntimeException e) {
+            this.zipFile.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Spools an application archive to disk and fingerprints its files.  Files are hashed in parallel.
+     *
+     * @param application the application archive
+     * @return the spooled archive
+     */
+    static ZipApplicationArchive spool(InputStream application) {
+        Path path = null;
+
+        try (InputStream in = application) {
+            path = Files.createTempFile("application-", ".zip");
+            Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+            return new ZipApplicationArchive(path);
+        } catch (IOException e) {
+            delete(path);
+            throw Exceptions.propagate(e);
+        } catch (RuntimeException e) {
+            delete(path);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.zipFile.close();
+        } catch (IOException e) {
+            // nothing to do if the archive cannot be closed
+        } finally {
+            delete(this.path);
+        }
+    }
+
+    /**
+     * Returns an archive of the entries that are not among the matched resources.  Entries are copied as they are, without being decompressed, so their compression and attributes, including
+     * Unix file modes, are preserved.
+     *
+     * @param matched the resources that do not need to be included
+     * @return an archive of the remaining entries
+     */
+    @Override
+    InputStream getApplication(Collection<UploadApplicationRequest.Resource> matched) {
+        Set<String> matchedPaths = getPaths(matched);
+
+        Path unmatched = null;
+
+        try (FileChannel in = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            unmatched = Files.createTempFile("application-", ".zip");
+
+            try (FileChannel out = FileChannel.open(unmatched, StandardOpenOption.WRITE)) {
+                ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+                int count = 0;
+
+                for (CentralDirectoryRecord record : CentralDirectoryRecord.readAll(in)) {
+                    if (matchedPaths.contains(record.name)) {
+                        continue;
+                    }
+
+                    long offset = out.position();
+                    if (offset > MAXIMUM_OFFSET) {
+                        throw new IOException(String.format("Archives larger than %d bytes are not supported", MAXIMUM_OFFSET));
+                    }
+
+                    transfer(in, record.localHeaderOffset, record.getLocalLength(in), out);
+                    record.writeTo(centralDirectory, offset);
+                    count++;
+                }
+
+                long centralDirectoryOffset = out.position();
+                if (centralDirectoryOffset > MAXIMUM_OFFSET) {
+                    throw new IOException(String.format("Archives larger than %d bytes are not supported", MAXIMUM_OFFSET));
+                }
+
+                ByteBuffer end = ByteBuffer.allocate(END_OF_CENTRAL_DIRECTORY_LENGTH).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+                    .putShort((short) 0)
+                    .putShort((short) 0)
+                    .putShort((short) count)
+                    .putShort((short) count)
+                    .putInt(centralDirectory.size())
+                    .putInt((int) centralDirectoryOffset)
+                    .putShort((short) 0);
+                end.flip();
+
+                write(out, ByteBuffer.wrap(centralDirectory.toByteArray()));
+                write(out, end);
+            }
+
+            return new DeletingFileInputStream(unmatched);
+        } catch (IOException e) {
+            delete(unmatched);
+            throw Exceptions.propagate(e);
+        } catch (RuntimeException e) {
+            delete(unmatched);
+            throw e;
+        }
+    }
+
+    @Override
+    List<UploadApplicationRequest.Resource> getResources() {
+        return this.resources;
+    }
+
+    private static void delete(Path path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // nothing to do if the file cannot be deleted
+        }
+    }
+
+    private static UploadApplicationRequest.Resource getResource(ZipFile zipFile, ZipEntry entry) {
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] buffer = new byte[8 * 1024];
+            long size = 0;
+
+            for (int length = in.read(buffer); length != -1; length = in.read(buffer)) {
+                digest.update(buffer, 0, length);
+                size += length;
+            }
+
+            return UploadApplicationRequest.Resource.builder()
+                .hash(toHex(digest.digest()))
+                .path(entry.getName())
+                .size(Math.toIntExact(size))
+                .build();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static List<UploadApplicationRequest.Resource> getResources(ZipFile zipFile) {
+        return Collections.list(zipFile.entries()).parallelStream()
+            .filter(entry -> !entry.isDirectory() && entry.getSize() <= MAXIMUM_RESOURCE_SIZE)
+            .map(entry -> getResource(zipFile, entry))
+            .collect(Collectors.toList());
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    private static void transfer(FileChannel in, long position, long count, FileChannel out) throws IOException {
+        for (long transferred = 0; transferred < count; ) {
+            long length = in.transferTo(position + transferred, count - transferred, out);
+            if (length <= 0) {
+                throw new IOException("Archive ended unexpectedly");
+            }
+
+            transferred += length;
+        }
+    }
+
+    private static ByteBuffer read(FileChannel in, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer, position + buffer.position()) == -1) {
+                throw new IOException("Archive ended unexpectedly");
+            }
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void write(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * An entry in the central directory of an archive, from which the entry can be copied without being decompressed
+     */
+    private static final class CentralDirectoryRecord {
+
+        private final long compressedSize;
+
+        private final int flags;
+
+        private final long localHeaderOffset;
+
+        private final String name;
+
+        private final byte[] record;
+
+        private CentralDirectoryRecord(byte[] record) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(record).order(ByteOrder.LITTLE_ENDIAN);
+
+            this.compressedSize = buffer.getInt(20) & 0xFFFFFFFFL;
+            this.flags = buffer.getShort(8) & 0xFFFF;
+            this.localHeaderOffset = buffer.getInt(42) & 0xFFFFFFFFL;
+            this.name = new String(record, CENTRAL_DIRECTORY_RECORD_LENGTH, buffer.getShort(28) & 0xFFFF, StandardCharsets.UTF_8);
+            this.record = record;
+
+            if (this.compressedSize == 0xFFFFFFFFL || this.localHeaderOffset == 0xFFFFFFFFL) {
+                throw new IOException("Zip64 archives are not supported");
+            }
+        }
+
+        private static List<CentralDirectoryRecord> readAll(FileChannel in) throws IOException {
+            long size = in.size();
+            int tailLength = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_LENGTH + MAXIMUM_COMMENT_LENGTH);
+            ByteBuffer tail = read(in, size - tailLength, tailLength);
+
+            int end = tailLength - END_OF_CENTRAL_DIRECTORY_LENGTH;
+            while (end >= 0 && tail.getInt(end) != END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                end--;
+            }
+
+            if (end < 0) {
+                throw new IOException("Archive has no central directory");
+            }
+
+            int count = tail.getShort(end + 10) & 0xFFFF;
+            long centralDirectorySize = tail.getInt(end + 12) & 0xFFFFFFFFL;
+            long centralDirectoryOffset = tail.getInt(end + 16) & 0xFFFFFFFFL;
+
+            if (count == 0xFFFF || centralDirectoryOffset == 0xFFFFFFFFL) {
+                throw new IOException("Zip64 archives are not supported");
+            }
+
+            ByteBuffer centralDirectory = read(in, centralDirectoryOffset, Math.toIntExact(centralDirectorySize));
+            List<CentralDirectoryRecord> records = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                int position = centralDirectory.position();
+                if (centralDirectory.remaining() < CENTRAL_DIRECTORY_RECORD_LENGTH || centralDirectory.getInt(position) != CENTRAL_DIRECTORY_SIGNATURE) {
+                    throw new IOException("Archive has a malformed central directory");
+                }
+
+                int length = CENTRAL_DIRECTORY_RECORD_LENGTH + (centralDirectory.getShort(position + 28) & 0xFFFF) + (centralDirectory.getShort(position + 30) & 0xFFFF)
+                    + (centralDirectory.getShort(position + 32) & 0xFFFF);
+
+                byte[] record = new byte[length];
+                centralDirectory.get(record);
+                records.add(new CentralDirectoryRecord(record));
+            }
+
+            return records;
+        }
+
+        private long getLocalLength(FileChannel in) throws IOException {
+            ByteBuffer header = read(in, this.localHeaderOffset, LOCAL_HEADER_LENGTH);
+            long length = LOCAL_HEADER_LENGTH + (header.getShort(26) & 0xFFFF) + (header.getShort(28) & 0xFFFF) + this.compressedSize;
+
+            if ((this.flags & DATA_DESCRIPTOR_FLAG) != 0) {
+                length += read(in, this.localHeaderOffset + length, 4).getInt(0) == DATA_DESCRIPTOR_SIGNATURE ? 16 : 12;
+            }
+
+            return length;
+        }
+
+        private void writeTo(ByteArrayOutputStream out, long localHeaderOffset) {
+            byte[] record = this.record.clone();
+            ByteBuffer.wrap(record).order(ByteOrder.LITTLE_ENDIAN).putInt(42, (int) localHeaderOffset);
+            out.write(record, 0, record.length);
+        }
+
+    }
+
+    private static final class DeletingFileInputStream extends FileInputStream {
+
+        private final Path path;
+
+        private DeletingFileInputStream(Path path) throws IOException {
+            super(path.toFile());
+            this.path = path;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                delete(this.path);
+            }
+        }
+
+    }
+
+}
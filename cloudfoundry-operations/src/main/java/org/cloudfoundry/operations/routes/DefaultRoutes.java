@@ -21,6 +21,7 @@ import org.cloudfoundry.client.v2.Resource;
 import org.cloudfoundry.client.v2.applications.ApplicationResource;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteRequest;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteResponse;
+import org.cloudfoundry.client.v2.domains.DomainEntity;
 import org.cloudfoundry.client.v2.domains.GetDomainRequest;
 import org.cloudfoundry.client.v2.domains.GetDomainResponse;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationPrivateDomainsRequest;
@@ -39,7 +40,10 @@ import org.cloudfoundry.client.v2.spaces.GetSpaceRequest;
 import org.cloudfoundry.client.v2.spaces.GetSpaceResponse;
 import org.cloudfoundry.client.v2.spaces.ListSpaceApplicationsRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpaceRoutesRequest;
+import org.cloudfoundry.client.v2.spaces.SpaceEntity;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.cloudfoundry.operations.EntityCache;
+import org.cloudfoundry.operations.NoOpEntityCache;
 import org.cloudfoundry.operations.routes.ListRoutesRequest.Level;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.JobUtils;
@@ -52,6 +56,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 import static org.cloudfoundry.util.tuple.TupleUtils.predicate;
@@ -60,12 +65,19 @@ public final class DefaultRoutes implements Routes {
 
     private final CloudFoundryClient cloudFoundryClient;
 
+    private final EntityCache entityCache;
+
     private final Mono<String> organizationId;
 
     private final Mono<String> spaceId;
 
     public DefaultRoutes(CloudFoundryClient cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId) {
+        this(cloudFoundryClient, organizationId, spaceId, NoOpEntityCache.INSTANCE);
+    }
+
+    public DefaultRoutes(CloudFoundryClient cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId, EntityCache entityCache) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.entityCache = entityCache;
         this.organizationId = organizationId;
         this.spaceId = spaceId;
     }
@@ -111,9 +123,8 @@ public final class DefaultRoutes implements Routes {
     public Mono<Void> deleteOrphanedRoutes() {
         return this.spaceId
             .flatMap(spaceId -> requestSpaceRoutes(this.cloudFoundryClient, spaceId))
-            .map(ResourceUtils::getId)
-            .flatMap(routeId -> getApplications(this.cloudFoundryClient, routeId)
-                .and(Mono.just(routeId)))
+            .flatMap(resource -> getApplications(this.cloudFoundryClient, resource)
+                .and(Mono.just(ResourceUtils.getId(resource))))
             .filter(predicate((applicationResources, routeId) -> isOrphan(applicationResources)))
             .flatMap(function((applicationResources, routeId) -> deleteRoute(this.cloudFoundryClient, routeId)))
             .then();
@@ -127,9 +138,9 @@ public final class DefaultRoutes implements Routes {
             .flatMap(resource -> Mono
                 .when(
                     getApplicationNames(this.cloudFoundryClient, resource),
-                    getDomainName(this.cloudFoundryClient, resource),
+                    getDomainName(this.cloudFoundryClient, this.entityCache, resource),
                     Mono.just(resource),
-                    getSpaceName(this.cloudFoundryClient, ResourceUtils.getEntity(resource).getSpaceId())
+                    getSpaceName(this.cloudFoundryClient, this.entityCache, resource)
                 ))
             .map(function(DefaultRoutes::toRoute));
     }
@@ -177,14 +188,18 @@ public final class DefaultRoutes implements Routes {
     }
 
     private static Mono<List<String>> getApplicationNames(CloudFoundryClient cloudFoundryClient, RouteResource routeResource) {
-        return requestApplications(cloudFoundryClient, ResourceUtils.getId(routeResource))
+        return getApplications(cloudFoundryClient, routeResource)
+            .flatMap(Flux::fromIterable)
             .map(resource -> ResourceUtils.getEntity(resource).getName())
             .toList();
     }
 
-    private static Mono<List<ApplicationResource>> getApplications(CloudFoundryClient cloudFoundryClient, String routeId) {
-        return requestApplications(cloudFoundryClient, routeId)
-            .toList();
+    private static Mono<List<ApplicationResource>> getApplications(CloudFoundryClient cloudFoundryClient, RouteResource routeResource) {
+        return Optional
+            .ofNullable(ResourceUtils.getEntity(routeResource).getApplications())
+            .map(Mono::just)
+            .orElseGet(() -> requestApplications(cloudFoundryClient, ResourceUtils.getId(routeResource))
+                .toList());
     }
 
     private static Mono<Resource<?>> getDomain(CloudFoundryClient cloudFoundryClient, String organizationId, String domain) {
@@ -193,14 +208,24 @@ public final class DefaultRoutes implements Routes {
             .otherwise(ExceptionUtils.replace(NoSuchElementException.class, () -> ExceptionUtils.illegalArgument("Domain %s does not exist", domain)));
     }
 
+    private static Mono<DomainEntity> getDomainEntity(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, String domainId) {
+        return entityCache.get(DomainEntity.class, domainId, id -> requestDomain(cloudFoundryClient, id)
+            .map(ResourceUtils::getEntity));
+    }
+
     private static Mono<String> getDomainId(CloudFoundryClient cloudFoundryClient, String organizationId, String domain) {
         return getDomain(cloudFoundryClient, organizationId, domain)
             .map(ResourceUtils::getId);
     }
 
-    private static Mono<String> getDomainName(CloudFoundryClient cloudFoundryClient, RouteResource resource) {
-        return requestDomain(cloudFoundryClient, ResourceUtils.getEntity(resource).getDomainId())
-            .map(response -> ResourceUtils.getEntity(response).getName());
+    private static Mono<String> getDomainName(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, RouteResource resource) {
+        RouteEntity entity = ResourceUtils.getEntity(resource);
+
+        return Optional
+            .ofNullable(entity.getDomain())
+            .map(domain -> Mono.just(ResourceUtils.getEntity(domain)))
+            .orElseGet(() -> getDomainEntity(cloudFoundryClient, entityCache, entity.getDomainId()))
+            .map(DomainEntity::getName);
     }
 
     private static Flux<Resource<?>> getDomains(CloudFoundryClient cloudFoundryClient, String organizationId, String domain) {
@@ -252,14 +277,24 @@ public final class DefaultRoutes implements Routes {
             .otherwise(ExceptionUtils.replace(NoSuchElementException.class, () -> ExceptionUtils.illegalArgument("Space %s does not exist", space)));
     }
 
+    private static Mono<SpaceEntity> getSpaceEntity(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, String spaceId) {
+        return entityCache.get(SpaceEntity.class, spaceId, id -> requestSpace(cloudFoundryClient, id)
+            .map(ResourceUtils::getEntity));
+    }
+
     private static Mono<String> getSpaceId(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
         return getSpace(cloudFoundryClient, organizationId, space)
             .map(ResourceUtils::getId);
     }
 
-    private static Mono<String> getSpaceName(CloudFoundryClient cloudFoundryClient, String spaceId) {
-        return requestSpace(cloudFoundryClient, spaceId)
-            .map(response -> ResourceUtils.getEntity(response).getName());
+    private static Mono<String> getSpaceName(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, RouteResource resource) {
+        RouteEntity entity = ResourceUtils.getEntity(resource);
+
+        return Optional
+            .ofNullable(entity.getSpace())
+            .map(space -> Mono.just(ResourceUtils.getEntity(space)))
+            .orElseGet(() -> getSpaceEntity(cloudFoundryClient, entityCache, entity.getSpaceId()))
+            .map(SpaceEntity::getName);
     }
 
     private static boolean isOrphan(List<ApplicationResource> applications) {
@@ -322,6 +357,10 @@ public final class DefaultRoutes implements Routes {
         return PaginationUtils
             .requestResources(page -> cloudFoundryClient.routes()
                 .list(org.cloudfoundry.client.v2.routes.ListRoutesRequest.builder()
+                    .includeRelation("apps")
+                    .includeRelation("domain")
+                    .includeRelation("space")
+                    .inlineRelationsDepth(1)
                     .organizationId(organizationId)
                     .page(page)
                     .build()));
@@ -385,6 +424,10 @@ public final class DefaultRoutes implements Routes {
         return PaginationUtils
             .requestResources(page -> cloudFoundryClient.spaces()
                 .listRoutes(ListSpaceRoutesRequest.builder()
+                    .includeRelation("apps")
+                    .includeRelation("domain")
+                    .includeRelation("space")
+                    .inlineRelationsDepth(1)
                     .spaceId(spaceId)
                     .page(page)
                     .build()));
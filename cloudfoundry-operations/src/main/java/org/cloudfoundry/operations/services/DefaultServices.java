@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.servicebindings.CreateServiceBindingResponse;
 import org.cloudfoundry.client.v2.servicebindings.DeleteServiceBindingRequest;
 import org.cloudfoundry.client.v2.servicebindings.DeleteServiceBindingResponse;
 import org.cloudfoundry.client.v2.servicebindings.ListServiceBindingsRequest;
+import org.cloudfoundry.client.v2.servicebindings.ServiceBindingEntity;
 import org.cloudfoundry.client.v2.servicebindings.ServiceBindingResource;
 import org.cloudfoundry.client.v2.serviceinstances.AbstractServiceInstanceResource;
 import org.cloudfoundry.client.v2.serviceinstances.BaseServiceInstanceEntity;
@@ -60,6 +61,8 @@ import org.cloudfoundry.client.v2.spaces.ListSpaceServicesRequest;
 import org.cloudfoundry.client.v2.userprovidedserviceinstances.DeleteUserProvidedServiceInstanceRequest;
 import org.cloudfoundry.client.v2.userprovidedserviceinstances.UpdateUserProvidedServiceInstanceRequest;
 import org.cloudfoundry.client.v2.userprovidedserviceinstances.UpdateUserProvidedServiceInstanceResponse;
+import org.cloudfoundry.operations.EntityCache;
+import org.cloudfoundry.operations.NoOpEntityCache;
 import org.cloudfoundry.util.DelayUtils;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.JobUtils;
@@ -88,12 +91,19 @@ public final class DefaultServices implements Services {
 
     private final CloudFoundryClient cloudFoundryClient;
 
+    private final EntityCache entityCache;
+
     private final Mono<String> organizationId;
 
     private final Mono<String> spaceId;
 
     public DefaultServices(CloudFoundryClient cloudFoundryClient, Mono<String> spaceId, Mono<String> organizationId) {
+        this(cloudFoundryClient, spaceId, organizationId, NoOpEntityCache.INSTANCE);
+    }
+
+    public DefaultServices(CloudFoundryClient cloudFoundryClient, Mono<String> spaceId, Mono<String> organizationId, EntityCache entityCache) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.entityCache = entityCache;
         this.spaceId = spaceId;
         this.organizationId = organizationId;
     }
@@ -190,14 +200,14 @@ public final class DefaultServices implements Services {
             .then(resource -> Mono
                 .when(
                     Mono.just(resource),
-                    getServicePlanEntity(this.cloudFoundryClient, ResourceUtils.getEntity(resource).getServicePlanId())
+                    getServicePlanEntity(this.cloudFoundryClient, this.entityCache, ResourceUtils.getEntity(resource).getServicePlanId())
                 ))
             .then(function((resource, servicePlanEntity) -> Mono
                 .when(
                     Mono.just(resource),
                     Mono.just(Optional.ofNullable(servicePlanEntity.getName())),
                     getBoundApplications(this.cloudFoundryClient, ResourceUtils.getId(resource)),
-                    getServiceEntity(this.cloudFoundryClient, Optional.ofNullable(servicePlanEntity.getServiceId()))
+                    getServiceEntity(this.cloudFoundryClient, this.entityCache, Optional.ofNullable(servicePlanEntity.getServiceId()))
                 )))
             .map(function(DefaultServices::toServiceInstance));
     }
@@ -222,14 +232,14 @@ public final class DefaultServices implements Services {
             .flatMap(resource -> Mono
                 .when(
                     Mono.just(resource),
-                    getServicePlanEntity(this.cloudFoundryClient, ResourceUtils.getEntity(resource).getServicePlanId())
+                    getServicePlanEntity(this.cloudFoundryClient, this.entityCache, ResourceUtils.getEntity(resource))
                 ))
             .flatMap(function((resource, servicePlanEntity) -> Mono
                 .when(
                     Mono.just(resource),
                     Mono.just(Optional.ofNullable(servicePlanEntity.getName())),
-                    getBoundApplications(this.cloudFoundryClient, ResourceUtils.getId(resource)),
-                    getServiceEntity(this.cloudFoundryClient, Optional.ofNullable(servicePlanEntity.getServiceId()))
+                    getBoundApplications(this.cloudFoundryClient, resource),
+                    getServiceEntity(this.cloudFoundryClient, this.entityCache, servicePlanEntity)
                 )))
             .map(function(DefaultServices::toServiceInstance));
     }
@@ -366,11 +376,34 @@ public final class DefaultServices implements Services {
             .otherwise(ExceptionUtils.replace(NoSuchElementException.class, () -> ExceptionUtils.illegalArgument("Application %s does not exist", applicationName)));
     }
 
+    private static Mono<ApplicationEntity> getApplicationEntity(CloudFoundryClient cloudFoundryClient, ServiceBindingEntity serviceBindingEntity) {
+        return Optional
+            .ofNullable(serviceBindingEntity.getApplication())
+            .map(resource -> Mono.just(ResourceUtils.getEntity(resource)))
+            .orElseGet(() -> requestGetApplication(cloudFoundryClient, serviceBindingEntity.getApplicationId())
+                .map(ResourceUtils::getEntity));
+    }
+
     private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, String applicationName, String spaceId) {
         return getApplication(cloudFoundryClient, applicationName, spaceId)
             .map(ResourceUtils::getId);
     }
 
+    private static Mono<List<String>> getBoundApplications(CloudFoundryClient cloudFoundryClient, UnionServiceInstanceResource resource) {
+        List<ServiceBindingResource> serviceBindings = ResourceUtils.getEntity(resource).getServiceBindings();
+
+        if (serviceBindings == null) {
+            return getBoundApplications(cloudFoundryClient, ResourceUtils.getId(resource));
+        }
+
+        return Flux
+            .fromIterable(serviceBindings)
+            .map(ResourceUtils::getEntity)
+            .flatMap(serviceBindingEntity -> getApplicationEntity(cloudFoundryClient, serviceBindingEntity))
+            .map(ApplicationEntity::getName)
+            .toList();
+    }
+
     private static Mono<List<String>> getBoundApplications(CloudFoundryClient cloudFoundryClient, String serviceInstanceId) {
         return requestListServiceBindings(cloudFoundryClient, serviceInstanceId)
             .map(resource -> ResourceUtils.getEntity(resource).getApplicationId())
@@ -400,14 +433,21 @@ public final class DefaultServices implements Services {
             .map(ResourceUtils::getId);
     }
 
-    private static Mono<ServiceEntity> getServiceEntity(CloudFoundryClient cloudFoundryClient, Optional<String> serviceId) {
+    private static Mono<ServiceEntity> getServiceEntity(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, Optional<String> serviceId) {
         return Mono
             .justOrEmpty(serviceId)
-            .then(serviceId1 -> requestGetService(cloudFoundryClient, serviceId1))
-            .map(ResourceUtils::getEntity)
+            .then(serviceId1 -> entityCache.get(ServiceEntity.class, serviceId1, id -> requestGetService(cloudFoundryClient, id)
+                .map(ResourceUtils::getEntity)))
             .otherwiseIfEmpty(Mono.just(ServiceEntity.builder().build()));
     }
 
+    private static Mono<ServiceEntity> getServiceEntity(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, ServicePlanEntity servicePlanEntity) {
+        return Optional
+            .ofNullable(servicePlanEntity.getService())
+            .map(resource -> Mono.just(ResourceUtils.getEntity(resource)))
+            .orElseGet(() -> getServiceEntity(cloudFoundryClient, entityCache, Optional.ofNullable(servicePlanEntity.getServiceId())));
+    }
+
     private static Mono<String> getServiceId(CloudFoundryClient cloudFoundryClient, String servicePlanId) {
         return requestGetServicePlan(cloudFoundryClient, servicePlanId)
             .map(response -> response.getEntity().getServiceId());
@@ -424,14 +464,21 @@ public final class DefaultServices implements Services {
             .otherwise(ExceptionUtils.replace(NoSuchElementException.class, () -> ExceptionUtils.illegalArgument("Service key %s does not exist", serviceKey)));
     }
 
-    private static Mono<ServicePlanEntity> getServicePlanEntity(CloudFoundryClient cloudFoundryClient, String servicePlanId) {
+    private static Mono<ServicePlanEntity> getServicePlanEntity(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, String servicePlanId) {
         return Mono
             .justOrEmpty(servicePlanId)
-            .then(servicePlanId1 -> requestGetServicePlan(cloudFoundryClient, servicePlanId1))
-            .map(ResourceUtils::getEntity)
+            .then(servicePlanId1 -> entityCache.get(ServicePlanEntity.class, servicePlanId1, id -> requestGetServicePlan(cloudFoundryClient, id)
+                .map(ResourceUtils::getEntity)))
             .otherwiseIfEmpty(Mono.just(ServicePlanEntity.builder().build()));
     }
 
+    private static Mono<ServicePlanEntity> getServicePlanEntity(CloudFoundryClient cloudFoundryClient, EntityCache entityCache, UnionServiceInstanceEntity serviceInstanceEntity) {
+        return Optional
+            .ofNullable(serviceInstanceEntity.getServicePlan())
+            .map(resource -> Mono.just(ResourceUtils.getEntity(resource)))
+            .orElseGet(() -> getServicePlanEntity(cloudFoundryClient, entityCache, serviceInstanceEntity.getServicePlanId()));
+    }
+
     private static Mono<String> getServicePlanIdByName(CloudFoundryClient cloudFoundryClient, String serviceId, String plan) {
         return requestListServicePlans(cloudFoundryClient, serviceId)
             .filter(resource -> plan.equals(ResourceUtils.getEntity(resource).getName()))
@@ -644,6 +691,11 @@ public final class DefaultServices implements Services {
         return PaginationUtils
             .requestResources(page -> cloudFoundryClient.spaces()
                 .listServiceInstances(ListSpaceServiceInstancesRequest.builder()
+                    .includeRelation("app")
+                    .includeRelation("service")
+                    .includeRelation("service_bindings")
+                    .includeRelation("service_plan")
+                    .inlineRelationsDepth(2)
                     .page(page)
                     .returnUserProvidedServiceInstances(true)
                     .spaceId(spaceId)
@@ -813,7 +865,7 @@ public final class DefaultServices implements Services {
         return requestGetServiceInstance(cloudFoundryClient, ResourceUtils.getId(serviceInstance))
             .map(DefaultServices::extractState)
             .where(DefaultServices::isNotInProgress)
-            .repeatWhenEmpty(DelayUtils.exponentialBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), Duration.ofMinutes(5)))
+            .repeatWhenEmpty(DelayUtils.jitteredBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), Duration.ofMinutes(5)))
             .then();
     }
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * The progress of an application in a push applications operation
+ */
+@Data
+public final class PushApplicationProgress {
+
+    /**
+     * The id of the application, once it has been created or updated
+     *
+     * @param applicationId the id of the application
+     * @return the id of the application
+     */
+    private final String applicationId;
+
+    /**
+     * The reason the push failed, if it has failed
+     *
+     * @param error the reason the push failed
+     * @return the reason the push failed
+     */
+    private final Throwable error;
+
+    /**
+     * The name of the application
+     *
+     * @param name the name of the application
+     * @return the name of the application
+     */
+    private final String name;
+
+    /**
+     * The state the application has reached
+     *
+     * @param state the state the application has reached
+     * @return the state the application has reached
+     */
+    private final PushApplicationState state;
+
+    @Builder
+    PushApplicationProgress(String applicationId,
+                            Throwable error,
+                            String name,
+                            PushApplicationState state) {
+        this.applicationId = applicationId;
+        this.error = error;
+        this.name = name;
+        this.state = state;
+    }
+
+}
@@ -143,7 +143,7 @@ public final class PushApplicationRequest implements Validatable {
     private final Boolean noStart;
 
     /**
-     * The path for the application
+     * The path for the application.  When no application bits are provided, the directory at this path is packaged and uploaded.
      *
      * @param path the path for the application
      * @return the path for the application
@@ -158,6 +158,14 @@ public final class PushApplicationRequest implements Validatable {
      */
     private final Boolean randomRoute;
 
+    /**
+     * Upload only the files that Cloud Foundry does not already have
+     *
+     * @param resourceMatching whether to upload only the files that Cloud Foundry does not already have
+     * @return whether to upload only the files that Cloud Foundry does not already have
+     */
+    private final Boolean resourceMatching;
+
     /**
      * The route path for the application
      *
@@ -215,6 +223,7 @@ public final class PushApplicationRequest implements Validatable {
                            Boolean noStart,
                            String path,
                            Boolean randomRoute,
+                           Boolean resourceMatching,
                            String routePath,
                            String stack,
                            Duration stagingTimeout,
@@ -236,6 +245,7 @@ public final class PushApplicationRequest implements Validatable {
         this.noStart = noStart;
         this.path = path;
         this.randomRoute = randomRoute;
+        this.resourceMatching = resourceMatching;
         this.routePath = routePath;
         this.stack = stack;
         this.stagingTimeout = stagingTimeout;
@@ -251,7 +261,7 @@ public final class PushApplicationRequest implements Validatable {
             builder.message("name must be specified");
         }
 
-        if (this.application == null) {
+        if (this.application == null && this.path == null) {
             builder.message("application bits must be specified");
         }
 
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+/**
+ * The states an application passes through in a push applications operation
+ */
+public enum PushApplicationState {
+
+    /**
+     * The application has been created or updated, its routes mapped and its bits uploaded.  This is the final state of an application that is not started.
+     */
+    UPLOADED,
+
+    /**
+     * The application has staged
+     */
+    STAGED,
+
+    /**
+     * The application's instances are running.  This is the final state of an application that is started.
+     */
+    RUNNING,
+
+    /**
+     * The push of the application has failed
+     */
+    FAILED
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.Singular;
+import org.cloudfoundry.Validatable;
+import org.cloudfoundry.ValidationResult;
+
+import java.util.List;
+
+/**
+ * The request options for the push applications operation
+ */
+@Data
+public final class PushApplicationsRequest implements Validatable {
+
+    /**
+     * The applications to push
+     *
+     * @param applications the applications to push
+     * @return the applications to push
+     */
+    private final List<PushApplicationRequest> applications;
+
+    /**
+     * The maximum number of applications staging and starting at once
+     *
+     * @param stagingConcurrency the maximum number of applications staging and starting at once
+     * @return the maximum number of applications staging and starting at once
+     */
+    private final Integer stagingConcurrency;
+
+    /**
+     * The maximum number of applications being created and uploaded at once
+     *
+     * @param uploadConcurrency the maximum number of applications being created and uploaded at once
+     * @return the maximum number of applications being created and uploaded at once
+     */
+    private final Integer uploadConcurrency;
+
+    @Builder
+    PushApplicationsRequest(@Singular List<PushApplicationRequest> applications,
+                            Integer stagingConcurrency,
+                            Integer uploadConcurrency) {
+        this.applications = applications;
+        this.stagingConcurrency = stagingConcurrency;
+        this.uploadConcurrency = uploadConcurrency;
+    }
+
+    @Override
+    public ValidationResult isValid() {
+        ValidationResult.ValidationResultBuilder builder = ValidationResult.builder();
+
+        if (this.applications.isEmpty()) {
+            builder.message("applications must be specified");
+        }
+
+        if (this.stagingConcurrency != null && this.stagingConcurrency < 1) {
+            builder.message("staging concurrency must be greater than zero");
+        }
+
+        if (this.uploadConcurrency != null && this.uploadConcurrency < 1) {
+            builder.message("upload concurrency must be greater than zero");
+        }
+
+        return builder.build();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.operations;
 
+import org.cloudfoundry.operations.applications.FileHashIndex;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 
@@ -23,8 +24,8 @@ import static org.junit.Assert.assertNotNull;
 
 public final class DefaultCloudFoundryOperationsTest extends AbstractOperationsTest {
 
-    private final DefaultCloudFoundryOperations operations = new DefaultCloudFoundryOperations(this.cloudFoundryClient, Mono.just(this.dopplerClient), MISSING_ID, MISSING_ID,
-        Mono.just(TEST_USERNAME));
+    private final DefaultCloudFoundryOperations operations = new DefaultCloudFoundryOperations(this.cloudFoundryClient, Mono.just(this.dopplerClient), NoOpEntityCache.INSTANCE,
+        FileHashIndex.inMemory(), MISSING_ID, MISSING_ID, Mono.just(TEST_USERNAME));
 
     @Test
     public void applications() {
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public final class TtlEntityCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final TtlEntityCache entityCache = new TtlEntityCache(Duration.ofNanos(10), 2, this.now::get);
+
+    private final Function<String, Mono<String>> loader = id -> Mono.defer(() -> Mono.just(String.format("%s-%d", id, this.loads.incrementAndGet())));
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        this.entityCache.get(String.class, "test-id-1", this.loader).get();
+        this.entityCache.get(String.class, "test-id-2", this.loader).get();
+        this.entityCache.get(String.class, "test-id-1", this.loader).get();
+        this.entityCache.get(String.class, "test-id-3", this.loader).get();
+
+        assertEquals(2, this.entityCache.size());
+        assertEquals("test-id-1-1", this.entityCache.get(String.class, "test-id-1", this.loader).get());
+        assertEquals("test-id-2-4", this.entityCache.get(String.class, "test-id-2", this.loader).get());
+    }
+
+    @Test
+    public void expires() {
+        assertEquals("test-id-1", this.entityCache.get(String.class, "test-id", this.loader).get());
+
+        this.now.set(9);
+        assertEquals("test-id-1", this.entityCache.get(String.class, "test-id", this.loader).get());
+
+        this.now.set(10);
+        assertEquals("test-id-2", this.entityCache.get(String.class, "test-id", this.loader).get());
+    }
+
+    @Test
+    public void failureNotCached() {
+        Function<String, Mono<String>> failingLoader = id -> Mono.defer(() -> this.loads.incrementAndGet() == 1 ? Mono.<String>error(new IllegalStateException("test-error")) : Mono.just(id));
+
+        try {
+            this.entityCache.get(String.class, "test-id", failingLoader).get();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertEquals("test-error", e.getMessage());
+        }
+
+        assertEquals("test-id", this.entityCache.get(String.class, "test-id", failingLoader).get());
+        assertEquals(2, this.loads.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaximumSize() {
+        new TtlEntityCache(Duration.ofSeconds(1), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidTimeToLive() {
+        new TtlEntityCache(Duration.ofSeconds(-1), 1);
+    }
+
+    @Test
+    public void sharesLoad() {
+        Mono<String> first = this.entityCache.get(String.class, "test-id", this.loader);
+        Mono<String> second = this.entityCache.get(String.class, "test-id", this.loader);
+
+        assertSame(first, second);
+        assertEquals("test-id-1", first.get());
+        assertEquals("test-id-1", second.get());
+        assertEquals(1, this.loads.get());
+    }
+
+    @Test
+    public void typesKeyedSeparately() {
+        this.entityCache.get(String.class, "test-id", this.loader).get();
+        this.entityCache.get(CharSequence.class, "test-id", id -> this.loader.apply(id).map(s -> (CharSequence) s)).get();
+
+        assertEquals(2, this.loads.get());
+    }
+
+}
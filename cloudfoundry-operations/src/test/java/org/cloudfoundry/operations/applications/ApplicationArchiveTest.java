@@ -0,0 +1,186 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.cloudfoundry.client.v2.applications.UploadApplicationRequest;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+
+public final class ApplicationArchiveTest {
+
+    private static final UploadApplicationRequest.Resource RESOURCE_1 = UploadApplicationRequest.Resource.builder()
+        .hash("5e749a1e6c7e612bd887fa8dd7924717f21ac0b9")
+        .path("test-path-1")
+        .size(14)
+        .build();
+
+    private static final UploadApplicationRequest.Resource RESOURCE_2 = UploadApplicationRequest.Resource.builder()
+        .hash("e5f3ec9a459b5cbef5b6548e170ce17b0903d3a0")
+        .path("test-directory/test-path-2")
+        .size(14)
+        .build();
+
+    @Test
+    public void directory() throws IOException {
+        Path root = Files.createTempDirectory("application-archive-");
+
+        try {
+            Files.createDirectories(root.resolve("test-directory"));
+            Files.write(root.resolve("test-directory/test-path-2"), "test-content-2".getBytes(StandardCharsets.UTF_8));
+            Files.write(root.resolve("test-path-1"), "test-content-1".getBytes(StandardCharsets.UTF_8));
+
+            try (ApplicationArchive archive = ApplicationArchive.of(root, FileHashIndex.inMemory())) {
+                assertEquals(Arrays.asList(RESOURCE_2, RESOURCE_1), archive.getResources());
+
+                try (InputStream in = archive.getApplication(Collections.singletonList(RESOURCE_1))) {
+                    assertEquals(Arrays.asList("test-directory/", "test-directory/test-path-2"), entryNames(in));
+                }
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    public void getApplication() throws IOException {
+        try (ApplicationArchive archive = ApplicationArchive.spool(archive())) {
+            try (InputStream in = archive.getApplication(Collections.singletonList(RESOURCE_1))) {
+                assertEquals(Arrays.asList("test-directory/", "test-directory/test-path-2"), entryNames(in));
+            }
+        }
+    }
+
+    @Test
+    public void getApplicationPreservesModes() throws IOException {
+        Path root = Files.createTempDirectory("application-archive-");
+
+        try {
+            Files.write(root.resolve("test-path-1"), "test-content-1".getBytes(StandardCharsets.UTF_8));
+            Files.write(root.resolve("test-script"), "test-content-3".getBytes(StandardCharsets.UTF_8));
+            Files.setPosixFilePermissions(root.resolve("test-script"), PosixFilePermissions.fromString("rwxr-xr-x"));
+
+            try (ApplicationArchive archive = ApplicationArchive.spool(new ApplicationPackager().pack(root))) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (InputStream in = archive.getApplication(Collections.singletonList(RESOURCE_1))) {
+                    copy(in, bytes);
+                }
+
+                assertEquals(Collections.singletonList("test-script"), entryNames(new ByteArrayInputStream(bytes.toByteArray())));
+                assertEquals(0100755, getMode(bytes.toByteArray(), "test-script"));
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    public void getMatchedResources() throws IOException {
+        try (ApplicationArchive archive = ApplicationArchive.spool(archive())) {
+            assertEquals(Collections.singletonList(RESOURCE_2), archive.getMatchedResources(Collections.singleton("e5f3ec9a459b5cbef5b6548e170ce17b0903d3a0")));
+        }
+    }
+
+    @Test
+    public void getResources() throws IOException {
+        try (ApplicationArchive archive = ApplicationArchive.spool(archive())) {
+            List<UploadApplicationRequest.Resource> resources = new ArrayList<>(archive.getResources());
+            resources.sort((a, b) -> a.getHash().compareTo(b.getHash()));
+
+            assertEquals(Arrays.asList(RESOURCE_1, RESOURCE_2), resources);
+        }
+    }
+
+    private static InputStream archive() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            out.putNextEntry(new ZipEntry("test-directory/"));
+            out.closeEntry();
+
+            out.putNextEntry(new ZipEntry("test-directory/test-path-2"));
+            out.write("test-content-2".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+
+            out.putNextEntry(new ZipEntry("test-path-1"));
+            out.write("test-content-1".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8 * 1024];
+        for (int length = in.read(buffer); length != -1; length = in.read(buffer)) {
+            out.write(buffer, 0, length);
+        }
+    }
+
+    private static List<String> entryNames(InputStream in) throws IOException {
+        List<String> names = new ArrayList<>();
+
+        try (ZipInputStream zip = new ZipInputStream(in)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+            }
+        }
+
+        return names;
+    }
+
+    private static int getMode(byte[] archive, String name) {
+        ByteBuffer buffer = ByteBuffer.wrap(archive).order(ByteOrder.LITTLE_ENDIAN);
+
+        for (int i = 0; i < archive.length - 46; i++) {
+            if (buffer.getInt(i) == 0x02014b50) {
+                int nameLength = buffer.getShort(i + 28) & 0xFFFF;
+                if (name.equals(new String(archive, i + 46, nameLength, StandardCharsets.UTF_8))) {
+                    return buffer.getInt(i + 38) >>> 16;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException(String.format("No entry %s", name));
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class ApplicationPackagerTest {
+
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+    private final ApplicationPackager packager = new ApplicationPackager(this.forkJoinPool);
+
+    private final Path root;
+
+    public ApplicationPackagerTest() throws IOException {
+        this.root = Files.createTempDirectory("application-packager-");
+    }
+
+    @Test
+    public void cfIgnore() throws IOException {
+        write(".cfignore", "# comment\n*.log\n/build/\n!keep.log\n");
+        write("application.log", "test-log");
+        write("build/output", "test-output");
+        write("keep.log", "test-keep");
+        write("src/build/source", "test-source");
+        write(".git/HEAD", "test-head");
+
+        Map<String, String> entries = read(this.packager.pack(this.root));
+
+        assertEquals(Arrays.asList("keep.log", "src/", "src/build/", "src/build/source"), Arrays.asList(entries.keySet().toArray()));
+    }
+
+    @Test
+    public void close() throws IOException, InterruptedException {
+        byte[] content = new byte[4 * 1024 * 1024];
+        new Random(0).nextBytes(content);
+        Files.write(this.root.resolve("large"), content);
+
+        PackagedApplication application = this.packager.pack(this.root);
+        assertTrue(application.read(new byte[1024]) > 0);
+        application.close();
+
+        for (int i = 0; i < 100 && application.getFailure() == null; i++) {
+            Thread.sleep(50);
+        }
+
+        assertNotNull(application.getFailure());
+    }
+
+    @Test
+    public void failure() throws IOException {
+        Files.delete(this.root);
+
+        try (PackagedApplication application = this.packager.pack(this.root)) {
+            read(application);
+            fail("Expected IOException");
+        } catch (IOException e) {
+            assertEquals("Unable to package application", e.getMessage());
+        }
+    }
+
+    @Test
+    public void pack() throws IOException {
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            large.append("test-content-").append(i % 10);
+        }
+
+        write("alpha", "test-alpha");
+        write("beta/gamma", large.toString());
+        for (int i = 0; i < 50; i++) {
+            write(String.format("delta/test-file-%02d", i), String.format("test-content-%d", i));
+        }
+
+        PackagedApplication application = this.packager.pack(this.root);
+        Map<String, String> entries = read(application);
+
+        assertEquals(53, entries.size());
+        assertEquals("test-alpha", entries.get("alpha"));
+        assertEquals(large.toString(), entries.get("beta/gamma"));
+        assertEquals("test-content-7", entries.get("delta/test-file-07"));
+
+        assertTrue(application.isComplete());
+        assertEquals(53, application.getEntries());
+        assertEquals(10 + large.length() + 50 * 14 + 40, application.getBytes());
+    }
+
+    @Test
+    public void packLargeEntry() throws IOException {
+        byte[] content = new byte[3 * 1024 * 1024];
+        new Random(0).nextBytes(content);
+        Files.write(this.root.resolve("large"), content);
+        write("small", "test-small");
+
+        PackagedApplication application = this.packager.pack(this.root);
+        Map<String, byte[]> entries = readBytes(application);
+
+        assertEquals(2, entries.size());
+        assertArrayEquals(content, entries.get("large"));
+        assertEquals("test-small", new String(entries.get("small"), StandardCharsets.UTF_8));
+
+        assertTrue(application.isComplete());
+        assertEquals(content.length + 10, application.getBytes());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.forkJoinPool.shutdown();
+
+        if (Files.exists(this.root)) {
+            try (Stream<Path> paths = Files.walk(this.root)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static Map<String, String> read(InputStream in) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        readBytes(in).forEach((name, content) -> entries.put(name, new String(content, StandardCharsets.UTF_8)));
+        return entries;
+    }
+
+    private static Map<String, byte[]> readBytes(InputStream in) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+
+        try (ZipInputStream zip = new ZipInputStream(in)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8 * 1024];
+                for (int length = zip.read(buffer); length != -1; length = zip.read(buffer)) {
+                    content.write(buffer, 0, length);
+                }
+
+                entries.put(entry.getName(), content.toByteArray());
+            }
+        }
+
+        return entries;
+    }
+
+    private void write(String name, String content) throws IOException {
+        Path path = this.root.resolve(name);
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -704,6 +704,34 @@ public final class DefaultApplicationsTest {
                     .build()));
     }
 
+    private static void requestLogsStreamStaging(DopplerClient dopplerClient, String applicationId) {
+        when(dopplerClient
+            .stream(StreamRequest.builder()
+                .applicationId(applicationId)
+                .build()))
+            .thenReturn(Flux
+                .just(fill(LogMessage.builder(), "log-message-")
+                    .message("Staging complete")
+                    .sourceType("STG")
+                    .build()));
+    }
+
+    private static void requestLogsStreamStagingNoMessage(DopplerClient dopplerClient, String applicationId) {
+        when(dopplerClient
+            .stream(StreamRequest.builder()
+                .applicationId(applicationId)
+                .build()))
+            .thenReturn(Flux
+                .just(fill(LogMessage.builder(), "log-message-")
+                        .message(null)
+                        .sourceType("STG")
+                        .build(),
+                    fill(LogMessage.builder(), "log-message-")
+                        .message("Staging complete")
+                        .sourceType("STG")
+                        .build()));
+    }
+
     private static void requestOrganizationSpacesByName(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
         when(cloudFoundryClient.organizations()
             .listSpaces(ListOrganizationSpacesRequest.builder()
@@ -2547,6 +2575,84 @@ public final class DefaultApplicationsTest {
 
     }
 
+    public static final class PushAll extends AbstractOperationsApiTest<PushApplicationProgress> {
+
+        private final InputStream applicationBits = new ByteArrayInputStream("test-application".getBytes());
+
+        private final DefaultApplications applications = new DefaultApplications(this.cloudFoundryClient, Mono.just(this.dopplerClient), Mono.just(TEST_SPACE_ID));
+
+        private final PushApplicationRequest pushApplicationRequest = PushApplicationRequest.builder()
+            .application(this.applicationBits)
+            .domain("test-domain")
+            .name("test-name")
+            .build();
+
+        @Before
+        public void setUp() throws Exception {
+            requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
+            requestCreateApplication(this.cloudFoundryClient, this.pushApplicationRequest, TEST_SPACE_ID, null, "test-application-id");
+            requestSpace(this.cloudFoundryClient, TEST_SPACE_ID, TEST_ORGANIZATION_ID);
+            requestPrivateDomain(this.cloudFoundryClient, "test-domain", TEST_ORGANIZATION_ID, "test-domain-id");
+            requestRoutesEmpty(this.cloudFoundryClient, "test-domain-id", "test-name", null);
+            requestCreateRoute(this.cloudFoundryClient, "test-domain-id", "test-name", null, TEST_SPACE_ID, "test-route-id");
+            requestAssociateRoute(this.cloudFoundryClient, "test-application-id", "test-route-id");
+            requestUpload(this.cloudFoundryClient, "test-application-id", this.applicationBits, "test-job-id");
+            requestJobSuccess(this.cloudFoundryClient, "test-job-id");
+            requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STOPPED");
+            requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STARTED");
+            requestGetApplication(this.cloudFoundryClient, "test-application-id");
+            requestApplicationInstancesRunning(this.cloudFoundryClient, "test-application-id");
+        }
+
+        @Override
+        protected void assertions(TestSubscriber<PushApplicationProgress> testSubscriber) {
+            testSubscriber
+                .assertEquals(PushApplicationProgress.builder()
+                    .applicationId("test-application-id")
+                    .name("test-name")
+                    .state(PushApplicationState.UPLOADED)
+                    .build())
+                .assertEquals(PushApplicationProgress.builder()
+                    .applicationId("test-application-id")
+                    .name("test-name")
+                    .state(PushApplicationState.STAGED)
+                    .build())
+                .assertEquals(PushApplicationProgress.builder()
+                    .applicationId("test-application-id")
+                    .name("test-name")
+                    .state(PushApplicationState.RUNNING)
+                    .build());
+        }
+
+        @Override
+        protected Publisher<PushApplicationProgress> invoke() {
+            return this.applications
+                .pushAll(PushApplicationsRequest.builder()
+                    .application(this.pushApplicationRequest)
+                    .build());
+        }
+
+    }
+
+    public static final class PushAllInvalid extends AbstractOperationsApiTest<PushApplicationProgress> {
+
+        private final DefaultApplications applications = new DefaultApplications(this.cloudFoundryClient, Mono.just(this.dopplerClient), Mono.just(TEST_SPACE_ID));
+
+        @Override
+        protected void assertions(TestSubscriber<PushApplicationProgress> testSubscriber) {
+            testSubscriber
+                .assertError(RequestValidationException.class, "Request is invalid: applications must be specified");
+        }
+
+        @Override
+        protected Publisher<PushApplicationProgress> invoke() {
+            return this.applications
+                .pushAll(PushApplicationsRequest.builder()
+                    .build());
+        }
+
+    }
+
     public static final class PushDomainNotFound extends AbstractOperationsApiTest<Void> {
 
         private final InputStream applicationBits = new ByteArrayInputStream("test-application".getBytes());
@@ -4148,6 +4254,60 @@ public final class DefaultApplicationsTest {
 
     }
 
+    public static final class StartStoppedApplicationStagingSignal extends AbstractOperationsApiTest<Void> {
+
+        private final DefaultApplications applications = new DefaultApplications(this.cloudFoundryClient, Mono.just(this.dopplerClient), Mono.just(TEST_SPACE_ID));
+
+        @Before
+        public void setUp() throws Exception {
+            requestApplicationsSpecificState(this.cloudFoundryClient, "test-application-name", TEST_SPACE_ID, "STOPPED");
+            requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STARTED");
+            requestGetApplication(this.cloudFoundryClient, "test-application-id");
+            requestLogsStreamStaging(this.dopplerClient, "test-application-id");
+            requestApplicationInstancesRunning(this.cloudFoundryClient, "test-application-id");
+        }
+
+        @Override
+        protected void assertions(TestSubscriber<Void> testSubscriber) {
+            // Expects onComplete() with no onNext()
+        }
+
+        @Override
+        protected Mono<Void> invoke() {
+            return this.applications
+                .start(fill(StartApplicationRequest.builder(), "application-")
+                    .build());
+        }
+
+    }
+
+    public static final class StartStoppedApplicationStagingSignalNoMessage extends AbstractOperationsApiTest<Void> {
+
+        private final DefaultApplications applications = new DefaultApplications(this.cloudFoundryClient, Mono.just(this.dopplerClient), Mono.just(TEST_SPACE_ID));
+
+        @Before
+        public void setUp() throws Exception {
+            requestApplicationsSpecificState(this.cloudFoundryClient, "test-application-name", TEST_SPACE_ID, "STOPPED");
+            requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STARTED");
+            requestGetApplication(this.cloudFoundryClient, "test-application-id");
+            requestLogsStreamStagingNoMessage(this.dopplerClient, "test-application-id");
+            requestApplicationInstancesRunning(this.cloudFoundryClient, "test-application-id");
+        }
+
+        @Override
+        protected void assertions(TestSubscriber<Void> testSubscriber) {
+            // Expects onComplete() with no onNext()
+        }
+
+        @Override
+        protected Mono<Void> invoke() {
+            return this.applications
+                .start(fill(StartApplicationRequest.builder(), "application-")
+                    .build());
+        }
+
+    }
+
     public static final class StopInvalidApplication extends AbstractOperationsApiTest<Void> {
 
         private final DefaultApplications applications = new DefaultApplications(this.cloudFoundryClient, Mono.just(this.dopplerClient), Mono.just(TEST_SPACE_ID));
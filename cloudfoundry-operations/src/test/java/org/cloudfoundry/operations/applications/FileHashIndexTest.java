@@ -0,0 +1,152 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+public final class FileHashIndexTest {
+
+    private static final String HASH_1 = "5e749a1e6c7e612bd887fa8dd7924717f21ac0b9";
+
+    private static final String HASH_2 = "e5f3ec9a459b5cbef5b6548e170ce17b0903d3a0";
+
+    private final Path directory;
+
+    private final Path file;
+
+    public FileHashIndexTest() throws IOException {
+        this.directory = Files.createTempDirectory("file-hash-index-");
+        this.file = this.directory.resolve("test-file");
+    }
+
+    @Test
+    public void changedFileRehashed() throws IOException {
+        FileHashIndex fileHashIndex = FileHashIndex.inMemory();
+
+        write("test-content-1", 1_000);
+        assertEquals(HASH_1, fileHashIndex.getHash(this.file));
+
+        write("test-content-2", 2_000);
+        assertEquals(HASH_2, fileHashIndex.getHash(this.file));
+    }
+
+    @Test
+    public void compactedByAnotherInstance() throws IOException {
+        Path first = this.directory.resolve("test-first-file-with-a-long-name");
+        Path second = this.directory.resolve("test-second");
+        Path third = this.directory.resolve("test-third-file");
+
+        FileHashIndex compactor = FileHashIndex.create(this.directory);
+        write(first, "test-content-1", 1_000);
+        compactor.getHash(first);
+        compactor.flush();
+
+        FileHashIndex other = FileHashIndex.create(this.directory);
+        assertEquals(1, other.size());
+
+        for (int i = 0; i < 2_000; i++) {
+            write(second, "test-content-2", 1_000 + i);
+            compactor.getHash(second);
+        }
+        compactor.flush();
+
+        write(third, "test-content-1", 1_000);
+        other.getHash(third);
+        other.flush();
+
+        FileHashIndex reader = FileHashIndex.create(this.directory);
+        assertEquals(3, reader.size());
+
+        write(second, "test-content-1", 2_999);
+        assertEquals(HASH_2, reader.getHash(second));
+    }
+
+    @Test
+    public void compacts() throws IOException {
+        FileHashIndex fileHashIndex = FileHashIndex.create(this.directory);
+
+        for (int i = 0; i < 2_000; i++) {
+            write(i % 2 == 0 ? "test-content-1" : "test-content-2", 1_000 + i);
+            fileHashIndex.getHash(this.file);
+            fileHashIndex.flush();
+        }
+
+        assertEquals(1, FileHashIndex.create(this.directory).size());
+        assertEquals(HASH_2, FileHashIndex.create(this.directory).getHash(this.file));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void persisted() throws IOException {
+        FileHashIndex fileHashIndex = FileHashIndex.create(this.directory);
+
+        write("test-content-1", 1_000);
+        assertEquals(HASH_1, fileHashIndex.getHash(this.file));
+        fileHashIndex.flush();
+
+        write("test-content-2", 1_000);
+        assertEquals(HASH_1, FileHashIndex.create(this.directory).getHash(this.file));
+    }
+
+    @Test
+    public void recentlyModifiedNotIndexed() throws IOException {
+        FileHashIndex fileHashIndex = FileHashIndex.inMemory();
+
+        Files.write(this.file, "test-content-1".getBytes(StandardCharsets.UTF_8));
+        assertEquals(HASH_1, fileHashIndex.getHash(this.file));
+        assertEquals(0, fileHashIndex.size());
+    }
+
+    @Test
+    public void unchangedFileNotRead() throws IOException {
+        FileHashIndex fileHashIndex = FileHashIndex.inMemory();
+
+        write("test-content-1", 1_000);
+        assertEquals(HASH_1, fileHashIndex.getHash(this.file));
+
+        write("test-content-2", 1_000);
+        assertEquals(HASH_1, fileHashIndex.getHash(this.file));
+    }
+
+    private static void write(Path file, String content, long lastModified) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.from(lastModified, TimeUnit.SECONDS));
+    }
+
+    private void write(String content, long lastModified) throws IOException {
+        write(this.file, content, lastModified);
+    }
+
+}
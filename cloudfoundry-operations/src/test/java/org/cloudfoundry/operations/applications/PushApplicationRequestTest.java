@@ -63,4 +63,15 @@ public final class PushApplicationRequestTest {
         assertEquals("name must be specified", result.getMessages().get(0));
     }
 
+    @Test
+    public void isValidPath() {
+        ValidationResult result = PushApplicationRequest.builder()
+            .name("test-name")
+            .path("test-path")
+            .build()
+            .isValid();
+
+        assertEquals(VALID, result.getStatus());
+    }
+
 }
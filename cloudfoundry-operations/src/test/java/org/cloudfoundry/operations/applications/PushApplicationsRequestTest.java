@@ -0,0 +1,81 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.cloudfoundry.ValidationResult;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static org.cloudfoundry.ValidationResult.Status.INVALID;
+import static org.cloudfoundry.ValidationResult.Status.VALID;
+import static org.junit.Assert.assertEquals;
+
+public final class PushApplicationsRequestTest {
+
+    private final PushApplicationRequest pushApplicationRequest = PushApplicationRequest.builder()
+        .application(new ByteArrayInputStream("test-application".getBytes()))
+        .name("test-name")
+        .build();
+
+    @Test
+    public void isValid() {
+        ValidationResult result = PushApplicationsRequest.builder()
+            .application(this.pushApplicationRequest)
+            .stagingConcurrency(2)
+            .uploadConcurrency(1)
+            .build()
+            .isValid();
+
+        assertEquals(VALID, result.getStatus());
+    }
+
+    @Test
+    public void isValidNoApplications() {
+        ValidationResult result = PushApplicationsRequest.builder()
+            .build()
+            .isValid();
+
+        assertEquals(INVALID, result.getStatus());
+        assertEquals("applications must be specified", result.getMessages().get(0));
+    }
+
+    @Test
+    public void isValidStagingConcurrency() {
+        ValidationResult result = PushApplicationsRequest.builder()
+            .application(this.pushApplicationRequest)
+            .stagingConcurrency(0)
+            .build()
+            .isValid();
+
+        assertEquals(INVALID, result.getStatus());
+        assertEquals("staging concurrency must be greater than zero", result.getMessages().get(0));
+    }
+
+    @Test
+    public void isValidUploadConcurrency() {
+        ValidationResult result = PushApplicationsRequest.builder()
+            .application(this.pushApplicationRequest)
+            .uploadConcurrency(0)
+            .build()
+            .isValid();
+
+        assertEquals(INVALID, result.getStatus());
+        assertEquals("upload concurrency must be greater than zero", result.getMessages().get(0));
+    }
+
+}
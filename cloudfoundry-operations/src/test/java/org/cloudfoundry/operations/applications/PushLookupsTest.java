@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.cloudfoundry.util.test.TestSubscriber;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public final class PushLookupsTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final PushLookups pushLookups = new PushLookups();
+
+    @Test
+    public void getOrganizationId() {
+        assertEquals("test-organization-id", this.pushLookups.getOrganizationId("test-space-id", this::load).get());
+        assertEquals("test-organization-id", this.pushLookups.getOrganizationId("test-space-id", this::load).get());
+        assertEquals(1, this.loads.get());
+    }
+
+    @Test
+    public void getOrganizationIdError() throws InterruptedException {
+        TestSubscriber<String> testSubscriber = new TestSubscriber<String>()
+            .assertError(IllegalStateException.class, "test-message");
+
+        this.pushLookups.getOrganizationId("test-space-id", () -> Mono.error(new IllegalStateException("test-message")))
+            .subscribe(testSubscriber);
+        testSubscriber.verify(Duration.ofSeconds(5));
+
+        assertEquals("test-organization-id", this.pushLookups.getOrganizationId("test-space-id", this::load).get());
+        assertEquals(1, this.loads.get());
+    }
+
+    private Mono<String> load() {
+        return Mono.defer(() -> {
+            this.loads.incrementAndGet();
+            return Mono.just("test-organization-id");
+        });
+    }
+
+}
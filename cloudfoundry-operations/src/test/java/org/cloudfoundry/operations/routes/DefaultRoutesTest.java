@@ -22,6 +22,7 @@ import org.cloudfoundry.client.v2.Resource;
 import org.cloudfoundry.client.v2.applications.ApplicationResource;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteRequest;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteResponse;
+import org.cloudfoundry.client.v2.domains.DomainResource;
 import org.cloudfoundry.client.v2.domains.GetDomainRequest;
 import org.cloudfoundry.client.v2.domains.GetDomainResponse;
 import org.cloudfoundry.client.v2.jobs.GetJobRequest;
@@ -60,6 +61,7 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.function.Supplier;
@@ -230,6 +232,10 @@ public final class DefaultRoutesTest {
     private static void requestOrganizationsRoutes(CloudFoundryClient cloudFoundryClient, String organizationId) {
         when(cloudFoundryClient.routes()
             .list(fillPage(org.cloudfoundry.client.v2.routes.ListRoutesRequest.builder())
+                .includeRelation("apps")
+                .includeRelation("domain")
+                .includeRelation("space")
+                .inlineRelationsDepth(1)
                 .organizationId(organizationId)
                 .build()))
             .thenReturn(Mono
@@ -243,6 +249,10 @@ public final class DefaultRoutesTest {
     private static void requestOrganizationsRoutesEmpty(CloudFoundryClient cloudFoundryClient, String organizationId) {
         when(cloudFoundryClient.routes()
             .list(fillPage(org.cloudfoundry.client.v2.routes.ListRoutesRequest.builder())
+                .includeRelation("apps")
+                .includeRelation("domain")
+                .includeRelation("space")
+                .inlineRelationsDepth(1)
                 .organizationId(organizationId)
                 .build()))
             .thenReturn(Mono
@@ -376,6 +386,10 @@ public final class DefaultRoutesTest {
     private static void requestSpaceRoutes(CloudFoundryClient cloudFoundryClient, String spaceId) {
         when(cloudFoundryClient.spaces()
             .listRoutes(fillPage(ListSpaceRoutesRequest.builder())
+                .includeRelation("apps")
+                .includeRelation("domain")
+                .includeRelation("space")
+                .inlineRelationsDepth(1)
                 .spaceId(spaceId)
                 .build()))
             .thenReturn(Mono
@@ -387,6 +401,10 @@ public final class DefaultRoutesTest {
     private static void requestSpaceRoutesEmpty(CloudFoundryClient cloudFoundryClient, String spaceId) {
         when(cloudFoundryClient.spaces()
             .listRoutes(fillPage(ListSpaceRoutesRequest.builder())
+                .includeRelation("apps")
+                .includeRelation("domain")
+                .includeRelation("space")
+                .inlineRelationsDepth(1)
                 .spaceId(spaceId)
                 .build()))
             .thenReturn(Mono
@@ -394,6 +412,30 @@ public final class DefaultRoutesTest {
                     .build()));
     }
 
+    private static void requestSpaceRoutesInlined(CloudFoundryClient cloudFoundryClient, String spaceId) {
+        when(cloudFoundryClient.spaces()
+            .listRoutes(fillPage(ListSpaceRoutesRequest.builder())
+                .includeRelation("apps")
+                .includeRelation("domain")
+                .includeRelation("space")
+                .inlineRelationsDepth(1)
+                .spaceId(spaceId)
+                .build()))
+            .thenReturn(Mono
+                .just(fillPage(ListSpaceRoutesResponse.builder())
+                    .resource(fill(RouteResource.builder(), "route-")
+                        .entity(fill(RouteEntity.builder(), "route-")
+                            .applications(Collections.singletonList(fill(ApplicationResource.builder(), "application-")
+                                .build()))
+                            .domain(fill(DomainResource.builder(), "domain-")
+                                .build())
+                            .space(fill(SpaceResource.builder(), "space-entity-")
+                                .build())
+                            .build())
+                        .build())
+                    .build()));
+    }
+
     private static void requestSpaces(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
         when(cloudFoundryClient.organizations()
             .listSpaces(fillPage(ListOrganizationSpacesRequest.builder())
@@ -1079,6 +1121,38 @@ public final class DefaultRoutesTest {
         }
     }
 
+    public static final class ListCurrentSpaceInlinedRelations extends AbstractOperationsApiTest<Route> {
+
+        private final DefaultRoutes routes = new DefaultRoutes(this.cloudFoundryClient, Mono.just(TEST_ORGANIZATION_ID), Mono.just(TEST_SPACE_ID));
+
+        @Before
+        public void setUp() throws Exception {
+            requestSpaceRoutesInlined(this.cloudFoundryClient, TEST_SPACE_ID);
+        }
+
+        @Override
+        protected void assertions(TestSubscriber<Route> testSubscriber) {
+            testSubscriber
+                .assertEquals(fill(Route.builder())
+                    .application("test-application-name")
+                    .domain("test-domain-name")
+                    .host("test-route-host")
+                    .id("test-route-id")
+                    .path("test-route-path")
+                    .routeId("test-route-id")
+                    .space("test-space-entity-name")
+                    .build());
+        }
+
+        @Override
+        protected Publisher<Route> invoke() {
+            return this.routes
+                .list(ListRoutesRequest.builder()
+                    .level(ListRoutesRequest.Level.SPACE)
+                    .build());
+        }
+    }
+
     public static final class ListCurrentSpaceNoOrganization extends AbstractOperationsApiTest<Route> {
 
         private final DefaultRoutes routes = new DefaultRoutes(this.cloudFoundryClient, MISSING_ORGANIZATION_ID, Mono.just(TEST_SPACE_ID));
@@ -499,6 +499,11 @@ public final class DefaultServicesTest {
     private static void requestListServiceInstancesEmpty(CloudFoundryClient cloudFoundryClient, String spaceId) {
         when(cloudFoundryClient.spaces()
             .listServiceInstances(ListSpaceServiceInstancesRequest.builder()
+                .includeRelation("app")
+                .includeRelation("service")
+                .includeRelation("service_bindings")
+                .includeRelation("service_plan")
+                .inlineRelationsDepth(2)
                 .page(1)
                 .spaceId(spaceId)
                 .returnUserProvidedServiceInstances(true)
@@ -553,6 +558,11 @@ public final class DefaultServicesTest {
     private static void requestListServiceInstancesTwo(CloudFoundryClient cloudFoundryClient, String spaceId, String instanceName1, String instanceName2) {
         when(cloudFoundryClient.spaces()
             .listServiceInstances(ListSpaceServiceInstancesRequest.builder()
+                .includeRelation("app")
+                .includeRelation("service")
+                .includeRelation("service_bindings")
+                .includeRelation("service_plan")
+                .inlineRelationsDepth(2)
                 .page(1)
                 .spaceId(spaceId)
                 .returnUserProvidedServiceInstances(true)
@@ -588,6 +598,73 @@ public final class DefaultServicesTest {
                     .build()));
     }
 
+    private static void requestListServiceInstancesTwoInlined(CloudFoundryClient cloudFoundryClient, String spaceId, String instanceName1, String instanceName2) {
+        when(cloudFoundryClient.spaces()
+            .listServiceInstances(ListSpaceServiceInstancesRequest.builder()
+                .includeRelation("app")
+                .includeRelation("service")
+                .includeRelation("service_bindings")
+                .includeRelation("service_plan")
+                .inlineRelationsDepth(2)
+                .page(1)
+                .spaceId(spaceId)
+                .returnUserProvidedServiceInstances(true)
+                .build()))
+            .thenReturn(Mono
+                .just(fillPage(ListSpaceServiceInstancesResponse.builder())
+                    .resource(UnionServiceInstanceResource.builder()
+                        .metadata(Resource.Metadata.builder().id(instanceName1 + "-id").build())
+                        .entity(fill(UnionServiceInstanceEntity.builder())
+                            .type("user_provided_service_instance")
+                            .dashboardUrl(null)
+                            .name(instanceName1)
+                            .serviceBindings(Collections.emptyList())
+                            .servicePlanId(null)
+                            .lastOperation(null)
+                            .build())
+                        .build())
+                    .resource(UnionServiceInstanceResource.builder()
+                        .metadata(Resource.Metadata.builder().id(instanceName2 + "-id").build())
+                        .entity(fill(UnionServiceInstanceEntity.builder())
+                            .type("managed_service_instance")
+                            .name(instanceName2)
+                            .tag("test-tag")
+                            .serviceBindings(Collections.singletonList(fill(ServiceBindingResource.builder(), "service-binding")
+                                .entity(ServiceBindingEntity.builder()
+                                    .application(ApplicationResource.builder()
+                                        .metadata(Resource.Metadata.builder().id("test-application-id").build())
+                                        .entity(ApplicationEntity.builder()
+                                            .name("test-application")
+                                            .build())
+                                        .build())
+                                    .applicationId("test-application-id")
+                                    .build())
+                                .build()))
+                            .servicePlan(fill(ServicePlanResource.builder())
+                                .entity(ServicePlanEntity.builder()
+                                    .name("test-service-plan")
+                                    .service(fill(ServiceResource.builder())
+                                        .entity(fill(ServiceEntity.builder())
+                                            .extra("{\"displayName\":\"test-value\",\"longDescription\":\"test-value\",\"documentationUrl\":\"test-documentation-url\",\"supportUrl\":\"test-value\"}")
+                                            .label("test-service")
+                                            .build())
+                                        .build())
+                                    .serviceId("test-service-id")
+                                    .build())
+                                .build())
+                            .servicePlanId(instanceName2 + "-plan-id")
+                            .lastOperation(LastOperation.builder()
+                                .createdAt("test-startedAt")
+                                .description("test-message")
+                                .state("test-status")
+                                .type("test-type")
+                                .updatedAt("test-updatedAt")
+                                .build())
+                            .build())
+                        .build())
+                    .build()));
+    }
+
     private static void requestListServiceInstancesUserProvided(CloudFoundryClient cloudFoundryClient, String serviceName, String spaceId) {
         when(cloudFoundryClient.spaces()
             .listServiceInstances(ListSpaceServiceInstancesRequest.builder()
@@ -1437,6 +1514,43 @@ public final class DefaultServicesTest {
 
     }
 
+    public static final class ListInstancesInlinedRelations extends AbstractOperationsApiTest<ServiceInstance> {
+
+        private final DefaultServices services = new DefaultServices(this.cloudFoundryClient, Mono.just(TEST_SPACE_ID), Mono.just(TEST_ORGANIZATION_ID));
+
+        @Before
+        public void setUp() throws Exception {
+            requestListServiceInstancesTwoInlined(this.cloudFoundryClient, TEST_SPACE_ID, "test-service-instance1", "test-service-instance2");
+        }
+
+        @Override
+        protected void assertions(TestSubscriber<ServiceInstance> testSubscriber) {
+            testSubscriber
+                .assertEquals(ServiceInstance.builder()
+                    .name("test-service-instance1")
+                    .id("test-service-instance1-id")
+                    .type(ServiceInstanceType.USER_PROVIDED)
+                    .build())
+                .assertEquals(fill(ServiceInstance.builder())
+                    .application("test-application")
+                    .documentationUrl("test-documentation-url")
+                    .id("test-service-instance2-id")
+                    .lastOperation("test-type")
+                    .plan("test-service-plan")
+                    .name("test-service-instance2")
+                    .tag("test-tag")
+                    .type(ServiceInstanceType.MANAGED)
+                    .build());
+        }
+
+        @Override
+        protected Publisher<ServiceInstance> invoke() {
+            return this.services
+                .listInstances();
+        }
+
+    }
+
     public static final class ListInstancesNoInstances extends AbstractOperationsApiTest<ServiceInstance> {
 
         private final DefaultServices services = new DefaultServices(this.cloudFoundryClient, Mono.just(TEST_SPACE_ID), Mono.just(TEST_ORGANIZATION_ID));
@@ -16,20 +16,29 @@
 
 package org.cloudfoundry.util;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
 import java.util.Date;
 
-import static java.util.concurrent.TimeUnit.SECONDS;
-
 /**
- * Utilities for dealing with {@link Date}s
+ * Utilities for dealing with {@link Date}s and {@link Instant}s
+ *
+ * <p> The formatters used are immutable, so these utilities may be called concurrently without locking. </p>
  */
 public final class DateUtils {
 
-    private static final SimpleDateFormat ISO8601 = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssX");
+    private static final DateTimeFormatter ISO8601_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssX").withZone(ZoneOffset.UTC);
 
-    private static final Object MONITOR = new Object();
+    private static final DateTimeFormatter ISO8601_PARSE = new DateTimeFormatterBuilder()
+        .parseCaseInsensitive()
+        .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+        .optionalStart().appendOffset("+HH:MM", "Z").optionalEnd()
+        .optionalStart().appendOffset("+HHMM", "Z").optionalEnd()
+        .optionalStart().appendOffset("+HH", "Z").optionalEnd()
+        .toFormatter();
 
     private DateUtils() {
     }
@@ -41,9 +50,17 @@ public final class DateUtils {
      * @return the formatted date
      */
     public static String formatToIso8601(Date d) {
-        synchronized (MONITOR) {
-            return ISO8601.format(d);
-        }
+        return formatToIso8601(d.toInstant());
+    }
+
+    /**
+     * Formats an {@link Instant} into a String in {@code ISO8601} format, in UTC
+     *
+     * @param instant the instant to format
+     * @return the formatted instant
+     */
+    public static String formatToIso8601(Instant instant) {
+        return ISO8601_FORMAT.format(instant);
     }
 
     /**
@@ -53,15 +70,33 @@ public final class DateUtils {
      * @return the parsed {@link Date}
      */
     public static Date parseFromIso8601(String s) {
-        synchronized (MONITOR) {
-            try {
-                return ISO8601.parse(s);
-            } catch (ParseException e) {
-                throw new IllegalArgumentException("Unable to parse date", e);
-            }
+        return Date.from(parseInstantFromIso8601(s));
+    }
+
+    /**
+     * Parses a string in {@code ISO8601} format to an {@link Instant}
+     *
+     * @param s the string to parse
+     * @return the parsed {@link Instant}
+     */
+    public static Instant parseInstantFromIso8601(String s) {
+        try {
+            return ISO8601_PARSE.parse(s, Instant::from);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Unable to parse date", e);
         }
     }
 
+    /**
+     * Parses a double representing seconds from the epoch to an {@link Instant}
+     *
+     * @param d the double to parse
+     * @return the parsed {@link Instant}
+     */
+    public static Instant parseInstantFromSecondsFromEpoch(Double d) {
+        return Instant.ofEpochSecond(d.longValue());
+    }
+
     /**
      * Parses a double representing seconds from the epoch to a {@link Date} object
      *
@@ -69,9 +104,7 @@ public final class DateUtils {
      * @return the parsed {@link Date}
      */
     public static Date parseSecondsFromEpoch(Double d) {
-        synchronized (MONITOR) {
-            return new Date(SECONDS.toMillis(d.longValue()));
-        }
+        return Date.from(parseInstantFromSecondsFromEpoch(d));
     }
 
 }
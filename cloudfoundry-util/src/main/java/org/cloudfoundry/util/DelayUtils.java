@@ -65,6 +65,33 @@ public final class DelayUtils {
         return errors -> getDelay(minimum, maximum, finish, errors.zipWith(Flux.range(0, Integer.MAX_VALUE), (error, iteration) -> iteration.longValue()));
     }
 
+    /**
+     * Emits a tick after each step of an exponential backoff delay, for use as a polling trigger that can be merged with other triggers.  The timeout starts when the {@link Flux} is subscribed
+     * to and signals a {@link DelayTimeoutException} when it has passed.
+     *
+     * @param minimum the minimum duration
+     * @param maximum the maximum duration
+     * @param timeout the maximum amount of time to delay for
+     * @return a {@link Flux} of delayed ticks
+     */
+    public static Flux<Long> exponentialBackOffTicks(Duration minimum, Duration maximum, Duration timeout) {
+        return Flux.defer(() -> {
+            Instant finish = Instant.now().plus(timeout);
+
+            return Flux.range(0, Integer.MAX_VALUE)
+                .concatMap(iteration -> {
+                    if (Instant.now().isAfter(finish)) {
+                        return Mono.error(new DelayTimeoutException());
+                    }
+
+                    Duration delay = calculateDuration(minimum, maximum, iteration.longValue());
+                    return Mono
+                        .delay(delay)
+                        .doOnSubscribe(logDelay(delay));
+                });
+        });
+    }
+
     /**
      * Implements an fixed delay for use with {@link Mono#repeatWhenEmpty(Function)}
      *
@@ -88,6 +115,32 @@ public final class DelayUtils {
             .doOnSubscribe(logDelay(Duration.ZERO));
     }
 
+    /**
+     * Implements a jittered exponential backoff delay for use with {@link Mono#repeatWhenEmpty(Function)}.  Delays are scheduled on, and polls limited by, {@link PollingScheduler#global()}.
+     *
+     * @param minimum the minimum duration
+     * @param maximum the maximum duration
+     * @param timeout the maximum amount of time to delay for
+     * @return a delayed {@link Publisher}
+     */
+    public static Function<Flux<Long>, Publisher<?>> jitteredBackOff(Duration minimum, Duration maximum, Duration timeout) {
+        return PollingScheduler.global().backOff(minimum, maximum, timeout);
+    }
+
+    /**
+     * Implements a jittered exponential backoff delay that can be woken early, for use with {@link Flux#repeatWhen(Function)}.  Delays are scheduled on, and polls limited by, {@link
+     * PollingScheduler#global()}.
+     *
+     * @param minimum the minimum duration
+     * @param maximum the maximum duration
+     * @param timeout the maximum amount of time to delay for
+     * @param wakeups a {@link Publisher} whose elements each end the current delay early
+     * @return a delayed {@link Publisher}
+     */
+    public static Function<Flux<Long>, Publisher<?>> jitteredBackOff(Duration minimum, Duration maximum, Duration timeout, Publisher<?> wakeups) {
+        return PollingScheduler.global().backOff(minimum, maximum, timeout, wakeups);
+    }
+
     private static Duration calculateDuration(Duration minimum, Duration maximum, Long iteration) {
         Duration candidate = minimum.multipliedBy((long) Math.pow(2, iteration));
         return min(candidate, maximum);
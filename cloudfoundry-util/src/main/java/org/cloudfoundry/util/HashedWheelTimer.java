@@ -0,0 +1,188 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A timer that buckets tasks into the slots of a wheel that is advanced by a single daemon thread.  Scheduling and cancelling are constant time, so a timer can hold many thousands of pending
+ * tasks, at the cost of firing each task up to one tick late.  Tasks run on the timer thread and should hand off anything more than a brief amount of work.
+ */
+final class HashedWheelTimer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.delay");
+
+    private final Queue<Timeout>[] buckets;
+
+    private final int mask;
+
+    private final String name;
+
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final long tickNanos;
+
+    private volatile long startTime;
+
+    @SuppressWarnings("unchecked")
+    HashedWheelTimer(String name, Duration tickDuration, int ticksPerWheel) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+
+        if (ticksPerWheel < 1) {
+            throw new IllegalArgumentException("ticksPerWheel must be at least 1");
+        }
+
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        size = size < 1 ? 1 : size;
+
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            this.buckets[i] = new ArrayDeque<>();
+        }
+
+        this.mask = size - 1;
+        this.name = name;
+        this.tickNanos = tickDuration.toNanos();
+    }
+
+    /**
+     * Schedules a task to run after a delay
+     *
+     * @param task  the task to run
+     * @param delay the delay before running the task
+     * @return a handle that can be used to cancel the task
+     */
+    Timeout schedule(Runnable task, Duration delay) {
+        start();
+
+        Timeout timeout = new Timeout(task, System.nanoTime() + delay.toNanos());
+        this.pending.add(timeout);
+        return timeout;
+    }
+
+    private void expire(Queue<Timeout> bucket, long now) {
+        for (Iterator<Timeout> i = bucket.iterator(); i.hasNext(); ) {
+            Timeout timeout = i.next();
+
+            if (timeout.isCancelled()) {
+                i.remove();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else if (timeout.deadline <= now) {
+                i.remove();
+
+                try {
+                    timeout.run();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Timer task failed", e);
+                }
+            }
+        }
+    }
+
+    private void run() {
+        long tick = 0;
+
+        while (true) {
+            long deadline = this.startTime + (tick + 1) * this.tickNanos;
+            long now;
+            while ((now = System.nanoTime()) < deadline) {
+                LockSupport.parkNanos(this, deadline - now);
+            }
+
+            transfer(tick);
+            expire(this.buckets[(int) (tick & this.mask)], now);
+            tick++;
+        }
+    }
+
+    private void start() {
+        if (this.started.compareAndSet(false, true)) {
+            this.startTime = System.nanoTime();
+
+            Thread worker = new Thread(this::run, this.name);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    private void transfer(long currentTick) {
+        Timeout timeout;
+        while ((timeout = this.pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            long calculated = Math.max((timeout.deadline - this.startTime + this.tickNanos - 1) / this.tickNanos - 1, currentTick);
+            timeout.remainingRounds = (calculated - currentTick) / this.buckets.length;
+            this.buckets[(int) (calculated & this.mask)].add(timeout);
+        }
+    }
+
+    /**
+     * A handle to a scheduled task
+     */
+    static final class Timeout {
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private final long deadline;
+
+        private final Runnable task;
+
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadline) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Cancels the task if it has not yet run
+         *
+         * @return {@code true} if the task was cancelled by this call
+         */
+        boolean cancel() {
+            return this.cancelled.compareAndSet(false, true);
+        }
+
+        private boolean isCancelled() {
+            return this.cancelled.get();
+        }
+
+        private void run() {
+            if (this.cancelled.compareAndSet(false, true)) {
+                this.task.run();
+            }
+        }
+
+    }
+
+}
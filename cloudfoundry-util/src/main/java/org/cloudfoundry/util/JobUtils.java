@@ -26,7 +26,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 
-import static org.cloudfoundry.util.DelayUtils.exponentialBackOff;
+import static org.cloudfoundry.util.DelayUtils.jitteredBackOff;
 
 /**
  * Utilities for Jobs
@@ -53,7 +53,7 @@ public final class JobUtils {
             job = requestJob(cloudFoundryClient, ResourceUtils.getId(resource))
                 .map(GetJobResponse::getEntity)
                 .where(JobUtils::isComplete)
-                .repeatWhenEmpty(exponentialBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), Duration.ofMinutes(5)));
+                .repeatWhenEmpty(jitteredBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), Duration.ofMinutes(5)));
         }
 
         return job
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.CloudFoundryException;
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.jobs.GetJobRequest;
+import org.cloudfoundry.client.v2.jobs.GetJobResponse;
+import org.cloudfoundry.client.v2.jobs.JobEntity;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A watcher that waits for many jobs from a single polling loop
+ *
+ * <p> Each interval the loop polls at most a fixed number of the registered jobs, oldest first, and never has more than a fixed number of polls in flight.  Jobs that are still running go to the
+ * back of the queue, so the rate of job status requests is fixed however many jobs are being waited for.  Callers waiting for the same job share a single registration.  The loop only runs while
+ * there are jobs registered. </p>
+ */
+public final class JobWatcher {
+
+    private final CloudFoundryClient cloudFoundryClient;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Duration interval;
+
+    private final int maximumInFlight;
+
+    private final LongAdder polls = new LongAdder();
+
+    private final int pollsPerInterval;
+
+    private final Queue<Watch> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Duration timeout;
+
+    private final ConcurrentMap<String, Watch> watches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance
+     *
+     * @param cloudFoundryClient the client to use to request job status
+     * @param interval           the interval between rounds of polling
+     * @param pollsPerInterval   the maximum number of jobs polled in each round
+     * @param maximumInFlight    the maximum number of polls in flight at once
+     * @param timeout            the maximum amount of time to wait for each job
+     * @throws IllegalArgumentException if {@code pollsPerInterval} or {@code maximumInFlight} is less than one
+     */
+    public JobWatcher(CloudFoundryClient cloudFoundryClient, Duration interval, int pollsPerInterval, int maximumInFlight, Duration timeout) {
+        if (pollsPerInterval < 1) {
+            throw new IllegalArgumentException("pollsPerInterval must be at least 1");
+        }
+
+        if (maximumInFlight < 1) {
+            throw new IllegalArgumentException("maximumInFlight must be at least 1");
+        }
+
+        this.cloudFoundryClient = cloudFoundryClient;
+        this.interval = interval;
+        this.maximumInFlight = maximumInFlight;
+        this.pollsPerInterval = pollsPerInterval;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the number of job status requests made
+     *
+     * @return the number of job status requests made
+     */
+    public long getPolls() {
+        return this.polls.sum();
+    }
+
+    /**
+     * Returns the number of jobs currently being waited for
+     *
+     * @return the number of jobs currently being waited for
+     */
+    public int getWatched() {
+        return this.watches.size();
+    }
+
+    /**
+     * Waits for a job to complete
+     *
+     * @param resource the resource representing the job
+     * @param <R>      the Job resource type
+     * @return {@code onComplete} once job has completed
+     */
+    public <R extends Resource<JobEntity>> Mono<Void> waitForCompletion(R resource) {
+        JobEntity entity = ResourceUtils.getEntity(resource);
+
+        Mono<JobEntity> job;
+        if (isComplete(entity)) {
+            job = Mono.just(entity);
+        } else {
+            // Each subscriber waits on its own dependent future so that cancelling one cannot cancel the registration shared with the others
+            job = Mono.defer(() -> Mono.fromCompletableFuture(register(ResourceUtils.getId(resource)).thenApply(jobEntity -> jobEntity)));
+        }
+
+        return job
+            .where(jobEntity -> "failed".equals(jobEntity.getStatus()))
+            .then(JobWatcher::getError);
+    }
+
+    private static Mono<Void> getError(JobEntity entity) {
+        JobEntity.ErrorDetails errorDetails = entity.getErrorDetails();
+        return Mono.error(new CloudFoundryException(errorDetails.getCode(), errorDetails.getDescription(), errorDetails.getErrorCode()));
+    }
+
+    private static boolean isComplete(JobEntity entity) {
+        String status = entity.getStatus();
+        return "finished".equals(status) || "failed".equals(status);
+    }
+
+    private static Mono<GetJobResponse> requestJob(CloudFoundryClient cloudFoundryClient, String jobId) {
+        return cloudFoundryClient.jobs()
+            .get(GetJobRequest.builder()
+                .jobId(jobId)
+                .build());
+    }
+
+    private void complete(Watch watch, JobEntity entity) {
+        this.watches.remove(watch.jobId, watch);
+        watch.result.complete(entity);
+    }
+
+    private void enqueue(Watch watch) {
+        this.queue.add(watch);
+
+        if (this.running.compareAndSet(false, true)) {
+            schedule();
+        }
+    }
+
+    private void fail(Watch watch, Throwable throwable) {
+        this.watches.remove(watch.jobId, watch);
+        watch.result.completeExceptionally(throwable);
+    }
+
+    private void onEntity(Watch watch, JobEntity entity) {
+        if (entity != null && isComplete(entity)) {
+            complete(watch, entity);
+        } else if (Instant.now().isAfter(watch.finish)) {
+            fail(watch, new DelayTimeoutException());
+        } else {
+            enqueue(watch);
+        }
+    }
+
+    private void poll(Watch watch) {
+        this.polls.increment();
+
+        requestJob(this.cloudFoundryClient, watch.jobId)
+            .map(GetJobResponse::getEntity)
+            .doOnSuccess(entity -> {
+                this.inFlight.decrementAndGet();
+                onEntity(watch, entity);
+            })
+            .doOnError(throwable -> {
+                this.inFlight.decrementAndGet();
+                fail(watch, throwable);
+            })
+            .otherwise(throwable -> Mono.empty())
+            .subscribe();
+    }
+
+    private CompletableFuture<JobEntity> register(String jobId) {
+        return this.watches.computeIfAbsent(jobId, key -> {
+            Watch watch = new Watch(key, Instant.now().plus(this.timeout));
+            enqueue(watch);
+            return watch;
+        }).result;
+    }
+
+    private void round() {
+        for (int i = 0; i < this.pollsPerInterval && this.inFlight.get() < this.maximumInFlight; i++) {
+            Watch watch = this.queue.poll();
+            if (watch == null) {
+                break;
+            }
+
+            this.inFlight.incrementAndGet();
+            poll(watch);
+        }
+
+        if (this.queue.isEmpty() && this.inFlight.get() == 0) {
+            this.running.set(false);
+
+            if (this.queue.isEmpty() || !this.running.compareAndSet(false, true)) {
+                return;
+            }
+        }
+
+        schedule();
+    }
+
+    private void schedule() {
+        PollingScheduler.global().getTimer().schedule(this::round, this.interval);
+    }
+
+    private static final class Watch {
+
+        private final Instant finish;
+
+        private final String jobId;
+
+        private final CompletableFuture<JobEntity> result = new CompletableFuture<>();
+
+        private Watch(String jobId, Instant finish) {
+            this.finish = finish;
+            this.jobId = jobId;
+        }
+
+    }
+
+}
@@ -18,34 +18,74 @@ package org.cloudfoundry.util;
 
 import org.cloudfoundry.client.v2.PaginatedResponse;
 import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v3.Link;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.tuple.Tuple;
+import reactor.core.tuple.Tuple2;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * A utility class to provide functions for handling {@link PaginatedResponse}s and those containing lists of {@link Resource}s.
+ * A utility class to provide functions for handling {@link PaginatedResponse}s and those containing lists of {@link Resource}s, and for handling V3
+ * {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
  */
 public final class PaginationUtils {
 
+    /**
+     * The default number of pages requested concurrently
+     */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    private static final Pattern PAGE = Pattern.compile("[?&]page=(\\d+)");
+
     private PaginationUtils() {
     }
 
     /**
-     * Generate the stream of responses starting from page 1 of an initial paginated response.
+     * Generate the stream of responses starting from page 1 of an initial paginated response.  At most {@link #DEFAULT_CONCURRENCY} additional pages are requested concurrently.
      *
      * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
      * @param <U>          the type of {@link PaginatedResponse}.
      * @return a stream of <code>U</code> objects.
      */
     public static <U extends PaginatedResponse<?>> Flux<U> requestPages(Function<Integer, Mono<U>> pageSupplier) {
+        return requestPages(pageSupplier, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Generate the stream of responses starting from page 1 of an initial paginated response.  Additional pages are requested through a window of {@code concurrency} pages that slides forward as
+     * soon as its earliest page has been received, so at most that many pages are in flight or held while waiting for an earlier page.  Responses are emitted in page order as soon as each page, and all of the pages before it, have been received.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param <U>          the type of {@link PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <U extends PaginatedResponse<?>> Flux<U> requestPages(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException(String.format("Concurrency must be at least 1, was %d", concurrency));
+        }
+
         return pageSupplier
             .apply(1)
-            .flatMap(requestAdditionalPages(pageSupplier));
+            .flatMap(requestAdditionalPages(pageSupplier, concurrency, PaginationUtils::getTotalPages));
     }
 
     /**
-     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.  At most {@link #DEFAULT_CONCURRENCY} additional pages are requested concurrently.
      *
      * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
      * @param <R>          the type of resource in the list on each {@link PaginatedResponse}.
@@ -53,24 +93,227 @@ public final class PaginationUtils {
      * @return a stream of <code>R</code> objects.
      */
     public static <R extends Resource<?>, U extends PaginatedResponse<R>> Flux<R> requestResources(Function<Integer, Mono<U>> pageSupplier) {
-        return requestPages(pageSupplier)
-            .flatMap(ResourceUtils::getResources);
+        return requestResources(pageSupplier, DEFAULT_CONCURRENCY);
     }
 
-    private static <U extends PaginatedResponse<?>> Function<U, Flux<U>> requestAdditionalPages(Function<Integer, Mono<U>> pageSupplier) {
-        return response -> {
-            Integer totalPages = response.getTotalPages();
-            if (totalPages == null) {
-                throw new IllegalStateException(String.format("Page response (class %s) has no total pages set", response.getClass().getCanonicalName()));
+    /**
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.  Resources are emitted in page order as soon as each page, and all of the pages before
+     * it, have been received.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param <R>          the type of resource in the list on each {@link PaginatedResponse}.
+     * @param <U>          the type of {@link PaginatedResponse}.
+     * @return a stream of <code>R</code> objects.
+     */
+    public static <R extends Resource<?>, U extends PaginatedResponse<R>> Flux<R> requestResources(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
+        return requestPages(pageSupplier, concurrency)
+            .concatMap(ResourceUtils::getResources);
+    }
+
+    /**
+     * Generate the stream of V3 responses starting from page 1 of an initial paginated response.  Once the first page has been received the remaining pages are requested by page number, with at
+     * most {@link #DEFAULT_CONCURRENCY} requested concurrently.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <U extends org.cloudfoundry.client.v3.PaginatedResponse<?>> Flux<U> requestV3Pages(Function<Integer, Mono<U>> pageSupplier) {
+        return requestV3Pages(pageSupplier, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Generate the stream of V3 responses starting from page 1 of an initial paginated response.  The number of pages is taken from {@code total_pages} of the first page, falling back to its
+     * {@code last} link, or calculated from {@code total_results} and the size of the first page if there is neither.  Additional pages are requested through a window of {@code concurrency} pages
+     * that slides forward as soon as its earliest page has been received, so at most that many pages are in flight or held while waiting for an earlier page.  Responses are emitted in page order as soon as each page, and all of the pages before it, have been received.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <U extends org.cloudfoundry.client.v3.PaginatedResponse<?>> Flux<U> requestV3Pages(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException(String.format("Concurrency must be at least 1, was %d", concurrency));
+        }
+
+        return pageSupplier
+            .apply(1)
+            .flatMap(requestAdditionalPages(pageSupplier, concurrency, PaginationUtils::getV3TotalPages));
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of V3 responses obtained from the page supplier.  At most {@link #DEFAULT_CONCURRENCY} additional pages are requested concurrently.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param <R>          the type of resource in the list on each {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>R</code> objects.
+     */
+    public static <R, U extends org.cloudfoundry.client.v3.PaginatedResponse<R>> Flux<R> requestV3Resources(Function<Integer, Mono<U>> pageSupplier) {
+        return requestV3Resources(pageSupplier, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of V3 responses obtained from the page supplier.  Resources are emitted in page order as soon as each page, and all of the pages
+     * before it, have been received.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param <R>          the type of resource in the list on each {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>R</code> objects.
+     */
+    public static <R, U extends org.cloudfoundry.client.v3.PaginatedResponse<R>> Flux<R> requestV3Resources(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
+        return requestV3Pages(pageSupplier, concurrency)
+            .concatMap(response -> Flux.fromIterable(response.getResources()));
+    }
+
+    private static Integer getTotalPages(PaginatedResponse<?> response) {
+        Integer totalPages = response.getTotalPages();
+        if (totalPages == null) {
+            throw new IllegalStateException(String.format("Page response (class %s) has no total pages set", response.getClass().getCanonicalName()));
+        }
+
+        return totalPages;
+    }
+
+    private static Integer getV3TotalPages(org.cloudfoundry.client.v3.PaginatedResponse<?> response) {
+        org.cloudfoundry.client.v3.PaginatedResponse.Pagination pagination = response.getPagination();
+        if (pagination == null) {
+            return 1;
+        }
+
+        if (pagination.getTotalPages() != null) {
+            return pagination.getTotalPages();
+        }
+
+        Optional<Integer> lastPage = Optional.ofNullable(pagination.getLast())
+            .map(Link::getHref)
+            .map(PAGE::matcher)
+            .filter(Matcher::find)
+            .map(matcher -> Integer.parseInt(matcher.group(1)));
+
+        if (lastPage.isPresent()) {
+            return lastPage.get();
+        }
+
+        Integer totalResults = pagination.getTotalResults();
+        int perPage = Optional.ofNullable(response.getResources()).map(List::size).orElse(0);
+        if (totalResults == null || perPage == 0) {
+            if (pagination.getNext() != null) {
+                throw new IllegalStateException(String.format("Page response (class %s) has no last page or total results set", response.getClass().getCanonicalName()));
             }
 
+            return 1;
+        }
+
+        return (totalResults + perPage - 1) / perPage;
+    }
+
+    private static <U> Function<U, Flux<U>> requestAdditionalPages(Function<Integer, Mono<U>> pageSupplier, int concurrency, Function<U, Integer> totalPagesExtractor) {
+        return response -> {
+            int totalPages = Math.max(totalPagesExtractor.apply(response), 1);
+
             return Flux
-                .range(2, totalPages - 1)
-                .flatMap(pageSupplier)
-                .startWith(response)
-                .buffer()
-                .flatMapIterable(d -> d);
+                .defer(() -> {
+                    PageWindow<U> window = new PageWindow<>(totalPages, concurrency);
+
+                    return Flux
+                        .from(window)
+                        .flatMap(page -> pageSupplier
+                            .apply(page)
+                            .map(additionalResponse -> Tuple.of(page, additionalResponse)), concurrency, 1)
+                        .flatMapIterable(window);
+                })
+                .startWith(response);
         };
     }
 
+    /**
+     * A sliding window over the additional pages.  As a {@link Publisher} it emits the numbers of the pages to request, never more than {@code size} ahead of the earliest page not yet received.  As a
+     * {@link Function} it puts received pages back into page order, sliding the window forward as the earliest page arrives.
+     */
+    private static final class PageWindow<U> implements Function<Tuple2<Integer, U>, Iterable<U>>, Publisher<Integer>, Subscription {
+
+        private final int last;
+
+        private final Map<Integer, U> pending = new HashMap<>();
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final int size;
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private boolean completed;
+
+        private volatile int next = 2;
+
+        private int page = 2;
+
+        private volatile Subscriber<? super Integer> subscriber;
+
+        private PageWindow(int last, int size) {
+            this.last = last;
+            this.size = size;
+        }
+
+        @Override
+        public Iterable<U> apply(Tuple2<Integer, U> received) {
+            this.pending.put(received.t1, received.t2);
+
+            List<U> ready = new ArrayList<>();
+            for (U response = this.pending.remove(this.next); response != null; response = this.pending.remove(this.next)) {
+                ready.add(response);
+                this.next++;
+            }
+
+            drain();
+            return ready;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                this.requested.accumulateAndGet(n, (current, additional) -> current + additional < 0 ? Long.MAX_VALUE : current + additional);
+                drain();
+            }
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Integer> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+            drain();
+        }
+
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            do {
+                while (!this.cancelled && this.page <= this.last && this.page < this.next + this.size && this.requested.get() > 0) {
+                    this.requested.decrementAndGet();
+                    this.subscriber.onNext(this.page++);
+                }
+
+                if (!this.cancelled && !this.completed && this.page > this.last) {
+                    this.completed = true;
+                    this.subscriber.onComplete();
+                }
+            } while (this.wip.decrementAndGet() != 0);
+        }
+
+    }
+
 }
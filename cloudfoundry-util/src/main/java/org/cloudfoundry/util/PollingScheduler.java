@@ -0,0 +1,390 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A scheduler for polling loops that spreads polls out in time and limits how many run at once
+ *
+ * <p> Delays follow a decorrelated jitter backoff: each delay is chosen at random between the minimum and three times the previous delay, capped at the maximum.  Waiters that start together
+ * therefore drift apart rather than polling in lockstep.  Delays are kept on a single shared timer wheel, so thousands of waiters cost one thread.  When a delay expires the waiter must also take
+ * one of a fixed number of in-flight permits before it polls.  The permit is held until the waiter asks for its next delay, finishes or is cancelled, and waiters that cannot get one queue in the
+ * order their delays expired.  Since a repeating {@link Mono} only asks for its next delay once the poll has completed, the permit covers the poll itself. </p>
+ *
+ * <p> A waiter may also be woken early, for example by an event that suggests the polled state has changed.  A wakeup ends the current delay at once, still subject to a permit.  Wakeups that
+ * arrive while a poll is in flight end the next delay as soon as it starts, so a burst of wakeups costs at most one extra poll. </p>
+ *
+ * <p> Counts of the polls made, the waits that completed, the waits that timed out and the polls that queued for a permit are kept across every waiter. </p>
+ */
+public final class PollingScheduler {
+
+    private static final PollingScheduler GLOBAL = new PollingScheduler(Duration.ofMillis(100), 512, 64);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.delay");
+
+    private final LongAdder completions = new LongAdder();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final int maximumInFlight;
+
+    private final LongAdder polls = new LongAdder();
+
+    private final LongAdder throttled = new LongAdder();
+
+    private final LongAdder timeouts = new LongAdder();
+
+    private final HashedWheelTimer timer;
+
+    private final Queue<Delay> waiting = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a new instance
+     *
+     * @param tickDuration    the resolution of the timer wheel
+     * @param ticksPerWheel   the number of slots in the timer wheel, rounded up to a power of two
+     * @param maximumInFlight the maximum number of polls that may be in flight at once
+     * @throws IllegalArgumentException if {@code tickDuration} is not positive or {@code ticksPerWheel} or {@code maximumInFlight} is less than one
+     */
+    public PollingScheduler(Duration tickDuration, int ticksPerWheel, int maximumInFlight) {
+        if (maximumInFlight < 1) {
+            throw new IllegalArgumentException("maximumInFlight must be at least 1");
+        }
+
+        this.maximumInFlight = maximumInFlight;
+        this.timer = new HashedWheelTimer("cloudfoundry-client-polling", tickDuration, ticksPerWheel);
+    }
+
+    /**
+     * Returns the scheduler shared by the utilities in this package
+     *
+     * @return the shared scheduler
+     */
+    public static PollingScheduler global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Implements a jittered exponential backoff delay for use with {@link Mono#repeatWhenEmpty(Function)}.  The timeout starts when the repeating {@link Mono} is subscribed to.
+     *
+     * @param minimum the minimum duration
+     * @param maximum the maximum duration
+     * @param timeout the maximum amount of time to delay for
+     * @return a delayed {@link Publisher}
+     */
+    public Function<Flux<Long>, Publisher<?>> backOff(Duration minimum, Duration maximum, Duration timeout) {
+        return backOff(minimum, maximum, timeout, Flux.empty());
+    }
+
+    /**
+     * Implements a jittered exponential backoff delay that can be woken early, for use with {@link Flux#repeatWhen(Function)} or {@link Mono#repeatWhenEmpty(Function)}.  The timeout starts when
+     * the repeating {@link Publisher} is subscribed to and signals a {@link DelayTimeoutException} when it has passed.  The wakeups are subscribed to alongside the delays and cancelled with them.
+     *
+     * @param minimum the minimum duration
+     * @param maximum the maximum duration
+     * @param timeout the maximum amount of time to delay for
+     * @param wakeups a {@link Publisher} whose elements each end the current delay early
+     * @return a delayed {@link Publisher}
+     */
+    public Function<Flux<Long>, Publisher<?>> backOff(Duration minimum, Duration maximum, Duration timeout, Publisher<?> wakeups) {
+        return iterations -> {
+            Waiter waiter = new Waiter(minimum, maximum, timeout);
+
+            return iterations
+                .concatMap(iteration -> waiter.next())
+                .mergeWith(Flux.from(wakeups)
+                    .flatMap(wakeup -> {
+                        waiter.wake();
+                        return Flux.<Long>empty();
+                    }))
+                .doOnCancel(waiter::complete);
+        };
+    }
+
+    /**
+     * Returns the number of waits that completed before timing out
+     *
+     * @return the number of completed waits
+     */
+    public long getCompletions() {
+        return this.completions.sum();
+    }
+
+    /**
+     * Returns the number of polls currently holding a permit
+     *
+     * @return the number of polls in flight
+     */
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    /**
+     * Returns the number of polls made.  Compared with {@link #getCompletions()}, this gives the number of polls made for each useful result.
+     *
+     * @return the number of polls
+     */
+    public long getPolls() {
+        return this.polls.sum();
+    }
+
+    /**
+     * Returns the number of polls that had to queue for a permit
+     *
+     * @return the number of throttled polls
+     */
+    public long getThrottled() {
+        return this.throttled.sum();
+    }
+
+    /**
+     * Returns the number of waits that timed out
+     *
+     * @return the number of timed out waits
+     */
+    public long getTimeouts() {
+        return this.timeouts.sum();
+    }
+
+    HashedWheelTimer getTimer() {
+        return this.timer;
+    }
+
+    private void acquire(Delay delay) {
+        if (tryAcquire()) {
+            grant(delay);
+            return;
+        }
+
+        this.throttled.increment();
+        this.waiting.add(delay);
+        drain();
+    }
+
+    private void drain() {
+        while (!this.waiting.isEmpty() && tryAcquire()) {
+            Delay delay = this.waiting.poll();
+
+            if (delay == null) {
+                this.inFlight.decrementAndGet();
+                continue;
+            }
+
+            grant(delay);
+        }
+    }
+
+    private void grant(Delay delay) {
+        if (!delay.emit()) {
+            release();
+        }
+    }
+
+    private void release() {
+        this.inFlight.decrementAndGet();
+        drain();
+    }
+
+    private boolean tryAcquire() {
+        for (; ; ) {
+            int current = this.inFlight.get();
+
+            if (current >= this.maximumInFlight) {
+                return false;
+            }
+
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private final class Delay implements Publisher<Long>, Subscription {
+
+        private static final int EMITTED = 4;
+
+        private static final int READY = 2;
+
+        private static final int REQUESTED = 1;
+
+        private final Duration duration;
+
+        private final AtomicInteger state = new AtomicInteger();
+
+        private final Waiter waiter;
+
+        private volatile boolean cancelled;
+
+        private volatile Subscriber<? super Long> subscriber;
+
+        private volatile HashedWheelTimer.Timeout timeout;
+
+        private Delay(Waiter waiter, Duration duration) {
+            this.duration = duration;
+            this.waiter = waiter;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+
+            HashedWheelTimer.Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0 && (this.state.getAndUpdate(state -> state | REQUESTED) & (REQUESTED | READY)) == READY) {
+                deliver();
+            }
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Long> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+
+            if (!this.cancelled) {
+                this.timeout = PollingScheduler.this.timer.schedule(() -> acquire(this), this.duration);
+            }
+        }
+
+        private void deliver() {
+            if (this.state.getAndUpdate(state -> state | EMITTED) < EMITTED) {
+                this.subscriber.onNext(0L);
+                this.subscriber.onComplete();
+            }
+        }
+
+        private boolean emit() {
+            if (this.cancelled || !this.waiter.hold()) {
+                return false;
+            }
+
+            PollingScheduler.this.polls.increment();
+
+            if ((this.state.getAndUpdate(state -> state | READY) & (REQUESTED | READY)) == REQUESTED) {
+                deliver();
+            }
+
+            return true;
+        }
+
+        private boolean wake() {
+            HashedWheelTimer.Timeout timeout = this.timeout;
+
+            if (timeout == null || !timeout.cancel()) {
+                return false;
+            }
+
+            acquire(this);
+            return true;
+        }
+
+    }
+
+    private final class Waiter {
+
+        private volatile Delay current;
+
+        private final Instant finish;
+
+        private final AtomicBoolean holding = new AtomicBoolean();
+
+        private final Duration maximum;
+
+        private final Duration minimum;
+
+        private Duration previous;
+
+        private final AtomicBoolean woken = new AtomicBoolean();
+
+        private Waiter(Duration minimum, Duration maximum, Duration timeout) {
+            this.finish = Instant.now().plus(timeout);
+            this.maximum = maximum;
+            this.minimum = minimum;
+            this.previous = minimum;
+        }
+
+        private void complete() {
+            PollingScheduler.this.completions.increment();
+            unhold();
+        }
+
+        private boolean hold() {
+            return this.holding.compareAndSet(false, true);
+        }
+
+        private Duration jitter() {
+            long lower = this.minimum.toNanos();
+            long upper = Math.max(lower, Math.min(this.maximum.toNanos(), this.previous.toNanos() * 3));
+
+            this.previous = Duration.ofNanos(lower == upper ? lower : ThreadLocalRandom.current().nextLong(lower, upper + 1));
+            return this.previous;
+        }
+
+        private Publisher<Long> next() {
+            unhold();
+
+            if (Instant.now().isAfter(this.finish)) {
+                PollingScheduler.this.timeouts.increment();
+                return Mono.error(new DelayTimeoutException());
+            }
+
+            Duration delay = this.woken.getAndSet(false) ? Duration.ZERO : jitter();
+            LOGGER.debug("Delaying {} milliseconds", delay.toMillis());
+
+            this.current = new Delay(this, delay);
+            return this.current;
+        }
+
+        private void unhold() {
+            if (this.holding.compareAndSet(true, false)) {
+                release();
+            }
+        }
+
+        private void wake() {
+            Delay current = this.current;
+
+            if (current == null || !current.wake()) {
+                this.woken.set(true);
+            }
+        }
+
+    }
+
+}
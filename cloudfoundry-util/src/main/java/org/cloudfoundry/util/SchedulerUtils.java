@@ -0,0 +1,42 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import reactor.core.publisher.Computations;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.util.PlatformDependent;
+
+/**
+ * Utilities for scheduling work off the event loop
+ */
+public final class SchedulerUtils {
+
+    private static final Scheduler BLOCKING_IO = Computations.concurrent("cloudfoundry-client-io", PlatformDependent.MEDIUM_BUFFER_SIZE, Computations.DEFAULT_POOL_SIZE, false);
+
+    private SchedulerUtils() {
+    }
+
+    /**
+     * Returns the scheduler shared by work that may block on file or stream I/O, such as reading, fingerprinting and packaging application files
+     *
+     * @return the scheduler for blocking I/O
+     */
+    public static Scheduler blockingIo() {
+        return BLOCKING_IO;
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.doppler.DopplerClient;
+import org.cloudfoundry.doppler.Event;
+import org.cloudfoundry.doppler.FirehoseRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A consumer of the firehose that spreads a single subscription across several connections
+ *
+ * <p> Loggregator balances the envelopes of a subscription across every connection made with that subscription's id.  This consumer opens a number of connections with the same id and merges
+ * their events onto a {@link Scheduler}.  Each connection buffers at most a fixed number of events that the subscriber has not yet requested, and events arriving while that buffer is full are
+ * dropped rather than slowing the connection.  The hand-off to the {@link Scheduler} prefetches its own batch of events on top of these buffers, so a stalled subscriber may leave up to that batch
+ * (256 events with Reactor's defaults) plus {@code connections * queueSize} events in memory. </p>
+ *
+ * <p> Connections fail independently: a connection that terminates with an error is reopened after a short delay, while the others keep delivering events.  Counts of the events received,
+ * dropped and delivered, and of the connections reopened, are kept across all subscriptions to {@link #events()}. </p>
+ */
+public final class ShardedFirehose {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.firehose");
+
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(1);
+
+    private final int connections;
+
+    private final LongAdder delivered = new LongAdder();
+
+    private final DopplerClient dopplerClient;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final int queueSize;
+
+    private final LongAdder received = new LongAdder();
+
+    private final LongAdder reconnects = new LongAdder();
+
+    private final Scheduler scheduler;
+
+    private final String subscriptionId;
+
+    /**
+     * Creates a new instance
+     *
+     * @param dopplerClient  the client to use to connect to the firehose
+     * @param subscriptionId the subscription id shared by every connection
+     * @param connections    the number of connections to open
+     * @param queueSize      the maximum number of events buffered for each connection before events are dropped
+     * @param scheduler      the scheduler that events are delivered on
+     * @throws IllegalArgumentException if {@code connections} or {@code queueSize} is less than one
+     */
+    public ShardedFirehose(DopplerClient dopplerClient, String subscriptionId, int connections, int queueSize, Scheduler scheduler) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must be at least 1");
+        }
+
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("queueSize must be at least 1");
+        }
+
+        this.connections = connections;
+        this.dopplerClient = dopplerClient;
+        this.queueSize = queueSize;
+        this.scheduler = scheduler;
+        this.subscriptionId = subscriptionId;
+    }
+
+    /**
+     * Returns a stream of the events from every connection.  Each subscription opens its own set of connections, which are reopened when they fail until the subscription is cancelled.
+     *
+     * @return a stream of the events from every connection
+     */
+    public Flux<Event> events() {
+        FirehoseRequest request = FirehoseRequest.builder()
+            .subscriptionId(this.subscriptionId)
+            .build();
+
+        return Flux
+            .range(0, this.connections)
+            .flatMap(connection -> Flux.defer(() -> this.dopplerClient.firehose(request))
+                .doOnNext(event -> this.received.increment())
+                .retryWhen(errors -> errors
+                    .flatMap(error -> {
+                        LOGGER.warn("Firehose connection {} failed, reconnecting", connection, error);
+                        this.reconnects.increment();
+                        return Mono.delay(RECONNECT_DELAY);
+                    }))
+                .onBackpressureDrop(event -> this.dropped.increment()), this.connections, this.queueSize)
+            .publishOn(this.scheduler)
+            .doOnNext(event -> this.delivered.increment());
+    }
+
+    /**
+     * Returns the number of events delivered to subscribers
+     *
+     * @return the number of events delivered to subscribers
+     */
+    public long getDelivered() {
+        return this.delivered.sum();
+    }
+
+    /**
+     * Returns the number of events dropped because a subscriber had fallen behind
+     *
+     * @return the number of events dropped
+     */
+    public long getDropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Returns the number of connections reopened after failing
+     *
+     * @return the number of connections reopened
+     */
+    public long getReconnects() {
+        return this.reconnects.sum();
+    }
+
+    /**
+     * Returns the number of events received and decoded from every connection, including those later dropped
+     *
+     * @return the number of events received
+     */
+    public long getReceived() {
+        return this.received.sum();
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A store for the id of the last usage event that has been consumed from a {@link UsageEventStreams} stream
+ */
+public interface UsageEventCheckpointStore {
+
+    /**
+     * Loads the id of the last consumed usage event
+     *
+     * @return the id of the last consumed usage event or empty if no events have been consumed
+     */
+    Mono<String> load();
+
+    /**
+     * Saves the id of the last consumed usage event
+     *
+     * @param eventId the id of the last consumed usage event
+     * @return {@code onComplete} once the id has been saved
+     */
+    Mono<Void> save(String eventId);
+
+}
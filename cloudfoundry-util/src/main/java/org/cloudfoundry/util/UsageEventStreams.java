@@ -0,0 +1,197 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.PaginatedRequest;
+import org.cloudfoundry.client.v2.PaginatedResponse;
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.applicationusageevents.ApplicationUsageEventResource;
+import org.cloudfoundry.client.v2.applicationusageevents.ListApplicationUsageEventsRequest;
+import org.cloudfoundry.client.v2.serviceusageevents.ListServiceUsageEventsRequest;
+import org.cloudfoundry.client.v2.serviceusageevents.ServiceUsageEventResource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Utilities for continuously consuming usage events
+ *
+ * <p> Each stream polls for the events after the last one it has emitted using the {@code after_guid} query parameter.  A full page of events is followed immediately by another request, while
+ * an empty poll doubles the delay before the next one, up to the configured maximum.  Once every event in a page has been emitted the cursor advances and the id of the last event is saved to a
+ * {@link UsageEventCheckpointStore}; the next poll is not made until that save completes, and a new subscription resumes from the saved id.  Events are therefore delivered at least once across restarts. </p>
+ *
+ * <p> A failed poll is retried from the same cursor with an exponential backoff between the configured minimum and maximum delays.  The stream only terminates once a poll has
+ * kept failing for five minutes, when it signals a {@link DelayTimeoutException}. </p>
+ */
+public final class UsageEventStreams {
+
+    private static final int RECENT_EVENT_IDS = 1_000;
+
+    private static final int RESULTS_PER_PAGE = 100;
+
+    private static final Duration RETRY_TIMEOUT = Duration.ofMinutes(5);
+
+    private UsageEventStreams() {
+    }
+
+    /**
+     * Returns an infinite stream of application usage events
+     *
+     * @param cloudFoundryClient the client to use to request usage events
+     * @param checkpointStore    the store used to resume the stream and to record the last event emitted
+     * @param minimum            the delay between polls after new events have been received
+     * @param maximum            the maximum delay between polls when no new events are being received
+     * @return a stream of application usage events, starting after the last checkpointed event
+     */
+    public static Flux<ApplicationUsageEventResource> applicationUsageEvents(CloudFoundryClient cloudFoundryClient, UsageEventCheckpointStore checkpointStore, Duration minimum,
+                                                                             Duration maximum) {
+        return stream(cursor -> cloudFoundryClient.applicationUsageEvents()
+            .list(ListApplicationUsageEventsRequest.builder()
+                .afterApplicationUsageEventId(cursor.orElse(null))
+                .orderDirection(PaginatedRequest.OrderDirection.ASC)
+                .page(1)
+                .resultsPerPage(RESULTS_PER_PAGE)
+                .build()), checkpointStore, minimum, maximum);
+    }
+
+    /**
+     * Returns an infinite stream of service usage events
+     *
+     * @param cloudFoundryClient the client to use to request usage events
+     * @param checkpointStore    the store used to resume the stream and to record the last event emitted
+     * @param minimum            the delay between polls after new events have been received
+     * @param maximum            the maximum delay between polls when no new events are being received
+     * @return a stream of service usage events, starting after the last checkpointed event
+     */
+    public static Flux<ServiceUsageEventResource> serviceUsageEvents(CloudFoundryClient cloudFoundryClient, UsageEventCheckpointStore checkpointStore, Duration minimum, Duration maximum) {
+        return stream(cursor -> cloudFoundryClient.serviceUsageEvents()
+            .list(ListServiceUsageEventsRequest.builder()
+                .afterServiceUsageEventId(cursor.orElse(null))
+                .orderDirection(PaginatedRequest.OrderDirection.ASC)
+                .page(1)
+                .resultsPerPage(RESULTS_PER_PAGE)
+                .build()), checkpointStore, minimum, maximum);
+    }
+
+    static <R extends Resource<?>, U extends PaginatedResponse<R>> Flux<R> stream(Function<Optional<String>, Mono<U>> pageSupplier, UsageEventCheckpointStore checkpointStore, Duration minimum,
+                                                                                 Duration maximum) {
+        return checkpointStore.load()
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .flatMap(checkpoint -> {
+                Cursor cursor = new Cursor(checkpoint, minimum, maximum);
+
+                return Flux
+                    .defer(() -> pageSupplier.apply(cursor.getEventId())
+                        .retryWhen(DelayUtils.exponentialBackOffError(minimum, maximum, RETRY_TIMEOUT))
+                        .flatMap(response -> emit(response.getResources(), cursor, checkpointStore)))
+                    .repeatWhen(iterations -> iterations
+                        .flatMap(iteration -> Mono.delay(cursor.getDelay())));
+            });
+    }
+
+    private static <R extends Resource<?>> Flux<R> emit(List<R> resources, Cursor cursor, UsageEventCheckpointStore checkpointStore) {
+        List<R> events = cursor.getNewEvents(resources);
+
+        return Flux.fromIterable(events)
+            .concatWith(Mono
+                .defer(() -> {
+                    cursor.advance(resources, events);
+                    return events.isEmpty() ? Mono.<Void>empty() : checkpointStore.save(ResourceUtils.getId(events.get(events.size() - 1)));
+                })
+                .then(Mono.<R>empty()));
+    }
+
+    static final class Cursor {
+
+        private final Duration maximum;
+
+        private final Duration minimum;
+
+        private final Map<String, Boolean> recentEventIds = new LinkedHashMap<String, Boolean>() {
+
+            private static final long serialVersionUID = 5166006924937436282L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > RECENT_EVENT_IDS;
+            }
+
+        };
+
+        private volatile Duration delay;
+
+        private volatile Optional<String> eventId;
+
+        Cursor(Optional<String> eventId, Duration minimum, Duration maximum) {
+            this.delay = minimum;
+            this.eventId = eventId;
+            this.maximum = maximum;
+            this.minimum = minimum;
+
+            eventId.ifPresent(id -> this.recentEventIds.put(id, true));
+        }
+
+        <R extends Resource<?>> void advance(List<R> resources, List<R> events) {
+            events.forEach(event -> this.recentEventIds.put(ResourceUtils.getId(event), true));
+
+            if (!resources.isEmpty()) {
+                this.eventId = Optional.of(ResourceUtils.getId(resources.get(resources.size() - 1)));
+            }
+
+            if (resources.size() >= RESULTS_PER_PAGE) {
+                this.delay = Duration.ZERO;
+            } else if (!events.isEmpty()) {
+                this.delay = this.minimum;
+            } else {
+                Duration candidate = this.delay.isZero() ? this.minimum : this.delay.multipliedBy(2);
+                this.delay = candidate.compareTo(this.maximum) <= 0 ? candidate : this.maximum;
+            }
+        }
+
+        Duration getDelay() {
+            return this.delay;
+        }
+
+        Optional<String> getEventId() {
+            return this.eventId;
+        }
+
+        <R extends Resource<?>> List<R> getNewEvents(List<R> resources) {
+            Set<String> pageEventIds = new HashSet<>();
+
+            return resources.stream()
+                .filter(resource -> {
+                    String id = ResourceUtils.getId(resource);
+                    return !this.recentEventIds.containsKey(id) && pageEventIds.add(id);
+                })
+                .collect(Collectors.toList());
+        }
+
+    }
+
+}
@@ -21,6 +21,8 @@ import org.cloudfoundry.client.v2.PaginatedResponse;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -50,13 +52,15 @@ import static org.junit.Assert.fail;
  *
  * <li>Types with names ending in {@code Entity} or {@code Metadata}<sup>1</sup> are recursively filled, using {@link #fill fill(builder-of-type, modifier)}, if their builder types can be found.</li>
  *
+ * <li>Types with names ending in {@code Resource}, and lists of them, are not set. These represent inlined relations<sup>1</sup> which are absent unless explicitly requested.</li>
+ *
  * </ul>
  *
  * <h1>Paginated Types</h1>
  *
  * <p>Paginated builder objects<sup>1</sup> (built type subclassing {@link PaginatedRequest} or {@link PaginatedResponse}) can only be filled with {@link #fillPage} (which will call {@link
  * org.junit.Assert#fail Assert.fail()} if the builder does <i>not</i> build a paginated type). The setters are treated specially, to set page request fields consistently with the operations
- * implementations. In particular the setters {@code resultsPerPage} and {@code orderDirection} are <i>not set</i>.</p>
+ * implementations. In particular the setters {@code inlineRelationsDepth}, {@code resultsPerPage} and {@code orderDirection} are <i>not set</i>.</p>
  *
  * <p>{@link #fill} will call {@link org.junit.Assert#fail Assert.fail()} if the builder object builds an object of paginated type.</p>
  *
@@ -146,14 +150,15 @@ public abstract class TestObjects {
     }
 
     @SuppressWarnings("unchecked")
-    private static <O> O buildTestValue(Method m, Class<O> clazz, String modifier, boolean isPaginated, boolean hasGetterOnBuiltType) {
+    private static <O> O buildTestValue(Method m, Class<O> clazz, Type type, String modifier, boolean isPaginated, boolean hasGetterOnBuiltType) {
 
         if (clazz.getSimpleName().endsWith("Entity")) {
             return buildFilled(clazz, modifier);
         } else if (clazz.getSimpleName().endsWith("Metadata")) {
             return buildFilled(clazz, modifier);
         } else if (isPaginated
-            && (m.getName().equals("resultsPerPage")
+            && (m.getName().equals("inlineRelationsDepth")
+            || m.getName().equals("resultsPerPage")
             || m.getName().equals("orderDirection"))) {
             return null;
         } else if (!hasGetterOnBuiltType) {
@@ -172,6 +177,8 @@ public abstract class TestObjects {
             return (O) String.valueOf("test-" + modifier + m.getName());
         } else if (clazz == Map.class) {
             return (O) Collections.emptyMap();
+        } else if (clazz == List.class && isResourceList(type)) {
+            return null;
         } else if (clazz == List.class) {
             return (O) Collections.emptyList();
         } else if (clazz == Collection.class) {
@@ -187,7 +194,7 @@ public abstract class TestObjects {
                 Class<?>[] parmTypes = m.getParameterTypes();
                 Class<?> returnType = m.getReturnType();
                 if (parmTypes.length == 1 && returnType == builderClass) { // single-value, chainable, setter
-                    Object parmValue = buildTestValue(m, parmTypes[0], modifier, isPaginated, hasGetterFor(m.getName(), builtType));
+                    Object parmValue = buildTestValue(m, parmTypes[0], m.getGenericParameterTypes()[0], modifier, isPaginated, hasGetterFor(m.getName(), builtType));
                     if (parmValue != null) {
                         invokeSetter(builder, m, parmValue);
                     }
@@ -240,4 +247,13 @@ public abstract class TestObjects {
             PaginatedResponse.class.isAssignableFrom(builtType);
     }
 
+    private static boolean isResourceList(Type type) {
+        if (!(type instanceof ParameterizedType)) {
+            return false;
+        }
+
+        Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+        return elementType instanceof Class && ((Class<?>) elementType).getSimpleName().endsWith("Resource");
+    }
+
 }
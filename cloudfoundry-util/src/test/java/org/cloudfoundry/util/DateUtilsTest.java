@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+
+public final class DateUtilsTest {
+
+    @Test
+    public void formatToIso8601() {
+        assertEquals("1970-01-01T00:00:00Z", DateUtils.formatToIso8601(new Date(0)));
+        assertEquals("2016-02-08T15:45:59Z", DateUtils.formatToIso8601(Instant.parse("2016-02-08T15:45:59Z")));
+    }
+
+    @Test
+    public void parseFromIso8601() {
+        assertEquals(new Date(1454946359000L), DateUtils.parseFromIso8601("2016-02-08T15:45:59Z"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseFromIso8601Invalid() {
+        DateUtils.parseFromIso8601("test-date");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseFromIso8601NoOffset() {
+        DateUtils.parseFromIso8601("2016-02-08T15:45:59");
+    }
+
+    @Test
+    public void parseInstantFromIso8601Offsets() {
+        Instant expected = Instant.parse("2016-02-08T14:45:59Z");
+
+        assertEquals(expected, DateUtils.parseInstantFromIso8601("2016-02-08T15:45:59+01"));
+        assertEquals(expected, DateUtils.parseInstantFromIso8601("2016-02-08T15:45:59+0100"));
+        assertEquals(expected, DateUtils.parseInstantFromIso8601("2016-02-08T15:45:59+01:00"));
+    }
+
+    @Test
+    public void parseSecondsFromEpoch() {
+        assertEquals(new Date(1500000000000L), DateUtils.parseSecondsFromEpoch(1500000000.5));
+        assertEquals(Instant.ofEpochSecond(1500000000L), DateUtils.parseInstantFromSecondsFromEpoch(1500000000.5));
+    }
+
+}
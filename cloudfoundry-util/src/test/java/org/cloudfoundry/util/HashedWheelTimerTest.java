@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(5), 8);
+
+    @Test
+    public void cancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        HashedWheelTimer.Timeout timeout = this.timer.schedule(count::incrementAndGet, Duration.ofMillis(20));
+
+        assertTrue(timeout.cancel());
+        Thread.sleep(100);
+
+        assertEquals(0, count.get());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    public void schedule() throws InterruptedException {
+        int size = 1000;
+        CountDownLatch latch = new CountDownLatch(size);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            this.timer.schedule(latch::countDown, Duration.ofMillis(i % 100));
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(99));
+    }
+
+    @Test
+    public void scheduleBeyondWheel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        this.timer.schedule(latch::countDown, Duration.ofMillis(200));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.CloudFoundryException;
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.jobs.GetJobRequest;
+import org.cloudfoundry.client.v2.jobs.GetJobResponse;
+import org.cloudfoundry.client.v2.jobs.JobEntity;
+import org.cloudfoundry.client.v2.jobs.Jobs;
+import org.cloudfoundry.util.test.TestSubscriber;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.stubbing.OngoingStubbing;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JobWatcherTest {
+
+    private final CloudFoundryClient cloudFoundryClient = mock(CloudFoundryClient.class, RETURNS_SMART_NULLS);
+
+    private final Jobs jobs = mock(Jobs.class, RETURNS_SMART_NULLS);
+
+    private final JobWatcher jobWatcher = new JobWatcher(this.cloudFoundryClient, Duration.ofMillis(10), 2, 2, Duration.ofSeconds(5));
+
+    @Test
+    public void cancel() {
+        requestJob(this.jobs, "test-job-id-1", "running", "running", "finished");
+        requestJob(this.jobs, "test-job-id-2", "running", "finished");
+
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        this.jobWatcher.waitForCompletion(testJob("test-job-id-1", "queued"))
+            .subscribe(new Subscriber<Void>() {
+
+                @Override
+                public void onComplete() {
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onNext(Void v) {
+                }
+
+                @Override
+                public void onSubscribe(Subscription s) {
+                    subscription.set(s);
+                }
+
+            });
+        subscription.get().cancel();
+
+        Flux.just(testJob("test-job-id-1", "queued"), testJob("test-job-id-2", "queued"))
+            .flatMap(this.jobWatcher::waitForCompletion)
+            .then()
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(0, this.jobWatcher.getWatched());
+        assertEquals(5, this.jobWatcher.getPolls());
+    }
+
+    @Test
+    public void complete() {
+        this.jobWatcher.waitForCompletion(testJob("test-job-id", "finished"))
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(0, this.jobWatcher.getWatched());
+        assertEquals(0, this.jobWatcher.getPolls());
+    }
+
+    @Test
+    public void failed() throws InterruptedException {
+        requestJob(this.jobs, "test-job-id", "running", "failed");
+
+        TestSubscriber<Void> testSubscriber = new TestSubscriber<Void>()
+            .assertError(CloudFoundryException.class, null);
+
+        this.jobWatcher.waitForCompletion(testJob("test-job-id", "queued"))
+            .subscribe(testSubscriber);
+
+        testSubscriber.verify(Duration.ofSeconds(5));
+        assertEquals(0, this.jobWatcher.getWatched());
+        assertEquals(2, this.jobWatcher.getPolls());
+    }
+
+    @Test
+    public void finished() {
+        requestJob(this.jobs, "test-job-id", "running", "running", "finished");
+
+        this.jobWatcher.waitForCompletion(testJob("test-job-id", "queued"))
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(0, this.jobWatcher.getWatched());
+        assertEquals(3, this.jobWatcher.getPolls());
+    }
+
+    @Before
+    public void mockClient() {
+        when(this.cloudFoundryClient.jobs()).thenReturn(this.jobs);
+    }
+
+    @Test
+    public void sharedPollLoop() {
+        IntStream.range(0, 20)
+            .forEach(i -> requestJob(this.jobs, "test-job-id-" + i, "running", "finished"));
+
+        long start = System.currentTimeMillis();
+        Flux.fromIterable(IntStream.range(0, 20)
+            .mapToObj(i -> testJob("test-job-id-" + i, "queued"))
+            .collect(Collectors.toList()))
+            .concatWith(Flux.just(testJob("test-job-id-0", "queued")))
+            .flatMap(this.jobWatcher::waitForCompletion)
+            .then()
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(0, this.jobWatcher.getWatched());
+        assertEquals(40, this.jobWatcher.getPolls());
+        assertTrue(System.currentTimeMillis() - start >= 150);
+    }
+
+    @Test
+    public void timeout() throws InterruptedException {
+        requestJob(this.jobs, "test-job-id", "running");
+
+        JobWatcher jobWatcher = new JobWatcher(this.cloudFoundryClient, Duration.ofMillis(10), 2, 2, Duration.ofMillis(50));
+        TestSubscriber<Void> testSubscriber = new TestSubscriber<Void>()
+            .assertError(DelayTimeoutException.class, null);
+
+        jobWatcher.waitForCompletion(testJob("test-job-id", "queued"))
+            .subscribe(testSubscriber);
+
+        testSubscriber.verify(Duration.ofSeconds(5));
+        assertEquals(0, jobWatcher.getWatched());
+    }
+
+    private static void requestJob(Jobs jobs, String jobId, String... statuses) {
+        OngoingStubbing<Mono<GetJobResponse>> stubbing = when(jobs
+            .get(GetJobRequest.builder()
+                .jobId(jobId)
+                .build()));
+
+        for (String status : statuses) {
+            stubbing = stubbing.thenReturn(Mono.just(testJob(jobId, status)));
+        }
+    }
+
+    private static GetJobResponse testJob(String jobId, String status) {
+        return GetJobResponse.builder()
+            .metadata(Resource.Metadata.builder()
+                .id(jobId)
+                .build())
+            .entity(JobEntity.builder()
+                .errorDetails(JobEntity.ErrorDetails.builder()
+                    .code(1)
+                    .description("test-description")
+                    .errorCode("test-error-code")
+                    .build())
+                .id(jobId)
+                .status(status)
+                .build())
+            .build();
+    }
+
+}
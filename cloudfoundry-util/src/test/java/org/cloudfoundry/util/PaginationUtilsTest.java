@@ -19,14 +19,22 @@ package org.cloudfoundry.util;
 import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
 import org.cloudfoundry.client.v2.spaces.SpaceEntity;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.cloudfoundry.client.v3.Link;
+import org.cloudfoundry.client.v3.PaginatedResponse.Pagination;
+import org.cloudfoundry.client.v3.tasks.ListTasksResponse;
+import org.cloudfoundry.client.v3.tasks.TaskResource;
 import org.junit.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public final class PaginationUtilsTest {
 
@@ -54,6 +62,80 @@ public final class PaginationUtilsTest {
             .get();
     }
 
+    @Test
+    public void pageStreamBoundedConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        List<ListSpacesResponse> actual = PaginationUtils
+            .requestPages(i -> testPaginatedResponsePublisher(i, 10)
+                .doOnSubscribe(s -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doOnSuccess(r -> inFlight.decrementAndGet()), 2)
+            .toList()
+            .get();
+
+        assertEquals(10, actual.size());
+        assertTrue(String.format("Expected at most 2 concurrent requests, was %d", maxInFlight.get()), maxInFlight.get() <= 2);
+    }
+
+    @Test
+    public void pageStreamBoundedBuffer() {
+        AtomicInteger received = new AtomicInteger();
+        AtomicInteger emitted = new AtomicInteger();
+        AtomicInteger maxBuffered = new AtomicInteger();
+
+        List<ListSpacesResponse> actual = PaginationUtils
+            .requestPages(i -> Mono
+                .delay(Duration.ofMillis(i == 2 ? 200 : 1))
+                .then(ignore -> testPaginatedResponsePublisher(i, 10))
+                .doOnSuccess(r -> maxBuffered.accumulateAndGet(received.incrementAndGet() - emitted.get(), Math::max)), 3)
+            .doOnNext(r -> emitted.incrementAndGet())
+            .toList()
+            .get();
+
+        assertEquals(10, actual.size());
+        assertTrue(String.format("Expected at most 3 buffered pages, was %d", maxBuffered.get()), maxBuffered.get() <= 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pageStreamInvalidConcurrency() {
+        PaginationUtils
+            .requestPages(i -> testPaginatedResponsePublisher(i, 3), 0);
+    }
+
+    @Test
+    public void pageStreamOutOfOrder() {
+        List<SpaceResource> expected = Arrays.asList(testSpaceResource(1), testSpaceResource(2), testSpaceResource(3), testSpaceResource(4), testSpaceResource(5));
+
+        List<SpaceResource> actual = PaginationUtils
+            .requestPages(i -> Mono
+                .delay(Duration.ofMillis(50 * (5 - i)))
+                .then(ignore -> testPaginatedResponsePublisher(i, 5)), 4)
+            .flatMap(response -> Flux.fromIterable(response.getResources()))
+            .toList()
+            .get();
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void pageStreamSlidingWindow() {
+        List<String> actions = new CopyOnWriteArrayList<>();
+
+        List<ListSpacesResponse> actual = PaginationUtils
+            .requestPages(i -> Mono
+                .delay(Duration.ofMillis(i == 3 ? 200 : 1))
+                .then(ignore -> testPaginatedResponsePublisher(i, 5))
+                .doOnSubscribe(s -> actions.add("request:" + i))
+                .doOnSuccess(r -> actions.add("receive:" + i)), 2)
+            .toList()
+            .get();
+
+        assertEquals(5, actual.size());
+        assertTrue(String.format("Expected page 4 to be requested before page 3 was received, was %s", actions), actions.indexOf("request:4") < actions.indexOf("receive:3"));
+        assertTrue(String.format("Expected page 5 to be requested after page 3 was received, was %s", actions), actions.indexOf("request:5") > actions.indexOf("receive:3"));
+    }
+
     @Test
     public void resourceStream() {
         List<SpaceResource> expected = Arrays.asList(testSpaceResource(0), testSpaceResource(1), testSpaceResource(2));
@@ -66,6 +148,59 @@ public final class PaginationUtilsTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void v3ResourceStreamLastLink() {
+        List<TaskResource> actual = PaginationUtils
+            .requestV3Resources(i -> testV3PaginatedResponsePublisher(i, Pagination.builder()
+                .last(Link.builder()
+                    .href("https://api.run.pivotal.io/v3/tasks?page=4&per_page=1")
+                    .build())
+                .build()), 2)
+            .toList()
+            .get();
+
+        assertEquals(Arrays.asList(testTaskResource(1), testTaskResource(2), testTaskResource(3), testTaskResource(4)), actual);
+    }
+
+    @Test
+    public void v3ResourceStreamSinglePage() {
+        List<TaskResource> actual = PaginationUtils
+            .requestV3Resources(i -> testV3PaginatedResponsePublisher(i, Pagination.builder()
+                .totalResults(1)
+                .build()))
+            .toList()
+            .get();
+
+        assertEquals(Arrays.asList(testTaskResource(1)), actual);
+    }
+
+    @Test
+    public void v3ResourceStreamTotalPages() {
+        List<TaskResource> actual = PaginationUtils
+            .requestV3Resources(i -> testV3PaginatedResponsePublisher(i, Pagination.builder()
+                .last(Link.builder()
+                    .href("https://api.run.pivotal.io/v3/tasks?per_page=1")
+                    .build())
+                .totalPages(3)
+                .build()))
+            .toList()
+            .get();
+
+        assertEquals(Arrays.asList(testTaskResource(1), testTaskResource(2), testTaskResource(3)), actual);
+    }
+
+    @Test
+    public void v3ResourceStreamTotalResults() {
+        List<TaskResource> actual = PaginationUtils
+            .requestV3Resources(i -> testV3PaginatedResponsePublisher(i, Pagination.builder()
+                .totalResults(3)
+                .build()))
+            .toList()
+            .get();
+
+        assertEquals(Arrays.asList(testTaskResource(1), testTaskResource(2), testTaskResource(3)), actual);
+    }
+
     private static Mono<ListSpacesResponse> testPaginatedResponsePublisher(int i, int totalNumber) {
         ListSpacesResponse response = ListSpacesResponse.builder()
             .totalPages(totalNumber)
@@ -86,4 +221,17 @@ public final class PaginationUtilsTest {
             .build();
     }
 
+    private static TaskResource testTaskResource(int i) {
+        return TaskResource.builder()
+            .id("test-id-" + i)
+            .build();
+    }
+
+    private static Mono<ListTasksResponse> testV3PaginatedResponsePublisher(int i, Pagination pagination) {
+        return Mono.just(ListTasksResponse.builder()
+            .pagination(pagination)
+            .resource(testTaskResource(i))
+            .build());
+    }
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class PollingSchedulerTest {
+
+    private final PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(5), 64, 2);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaximumInFlight() {
+        new PollingScheduler(Duration.ofMillis(5), 64, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidTickDuration() {
+        new PollingScheduler(Duration.ZERO, 64, 1);
+    }
+
+    @Test
+    public void permitHeldWhilePolling() throws InterruptedException {
+        PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(5), 64, 1);
+
+        Flux.defer(() -> Mono.delay(Duration.ofMillis(300)))
+            .repeatWhen(scheduler.backOff(Duration.ofMillis(10), Duration.ofMillis(10), Duration.ofSeconds(5)))
+            .take(2)
+            .subscribe();
+
+        Thread.sleep(400);
+        assertEquals(1, scheduler.getInFlight());
+
+        long start = System.nanoTime();
+        List<Long> polls = Flux.defer(() -> Mono.just(1L))
+            .repeatWhen(scheduler.backOff(Duration.ofMillis(10), Duration.ofMillis(10), Duration.ofSeconds(5)))
+            .take(2)
+            .toList()
+            .get();
+
+        assertEquals(2, polls.size());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 100);
+        assertTrue(scheduler.getThrottled() > 0);
+    }
+
+    @Test
+    public void repeat() {
+        List<Long> polls = Flux.defer(() -> Mono.just(1L))
+            .repeatWhen(this.scheduler.backOff(Duration.ofMillis(10), Duration.ofMillis(40), Duration.ofSeconds(5)))
+            .take(3)
+            .toList()
+            .get();
+
+        assertEquals(3, polls.size());
+        assertEquals(2, this.scheduler.getPolls());
+        assertEquals(1, this.scheduler.getCompletions());
+        assertEquals(0, this.scheduler.getInFlight());
+        assertEquals(0, this.scheduler.getTimeouts());
+    }
+
+    @Test
+    public void timeout() {
+        try {
+            Flux.defer(() -> Mono.just(1L))
+                .repeatWhen(this.scheduler.backOff(Duration.ofMillis(10), Duration.ofMillis(20), Duration.ofMillis(50)))
+                .toList()
+                .get();
+        } catch (DelayTimeoutException e) {
+            assertEquals(1, this.scheduler.getTimeouts());
+            assertEquals(0, this.scheduler.getInFlight());
+            assertTrue(this.scheduler.getPolls() > 0);
+            return;
+        }
+
+        throw new AssertionError("Expected DelayTimeoutException");
+    }
+
+    @Test
+    public void wakeups() {
+        AtomicInteger polls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        try {
+            Flux.defer(() -> Mono.delay(Duration.ofMillis(50)).map(i -> polls.incrementAndGet()))
+                .repeatWhen(this.scheduler.backOff(Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofSeconds(1), Mono.delay(Duration.ofMillis(100))
+                    .flatMap(i -> Flux.range(0, 10))))
+                .toList()
+                .get();
+        } catch (DelayTimeoutException e) {
+            assertEquals(4, polls.get());
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5_000);
+            return;
+        }
+
+        throw new AssertionError("Expected DelayTimeoutException");
+    }
+
+    @Test
+    public void wakeupsCoalesced() {
+        AtomicInteger polls = new AtomicInteger();
+
+        try {
+            Flux.defer(() -> Mono.delay(Duration.ofMillis(200)).map(i -> polls.incrementAndGet()))
+                .repeatWhen(this.scheduler.backOff(Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofSeconds(1), Mono.delay(Duration.ofMillis(50))
+                    .flatMap(i -> Flux.range(0, 1_000))))
+                .toList()
+                .get();
+        } catch (DelayTimeoutException e) {
+            assertEquals(3, polls.get());
+            assertEquals(2, this.scheduler.getPolls());
+            assertEquals(0, this.scheduler.getInFlight());
+            return;
+        }
+
+        throw new AssertionError("Expected DelayTimeoutException");
+    }
+
+}
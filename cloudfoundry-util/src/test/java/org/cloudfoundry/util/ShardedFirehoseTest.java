@@ -0,0 +1,151 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.doppler.ContainerMetric;
+import org.cloudfoundry.doppler.ContainerMetricsRequest;
+import org.cloudfoundry.doppler.CounterEvent;
+import org.cloudfoundry.doppler.DopplerClient;
+import org.cloudfoundry.doppler.Event;
+import org.cloudfoundry.doppler.FirehoseRequest;
+import org.cloudfoundry.doppler.LogMessage;
+import org.cloudfoundry.doppler.RecentLogsRequest;
+import org.cloudfoundry.doppler.StreamRequest;
+import org.junit.Test;
+import reactor.core.publisher.Computations;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardedFirehoseTest {
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final List<FirehoseRequest> requests = new CopyOnWriteArrayList<>();
+
+    private volatile int eventsPerConnection = 2;
+
+    private final DopplerClient dopplerClient = new DopplerClient() {
+
+        @Override
+        public Flux<ContainerMetric> containerMetrics(ContainerMetricsRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<Event> firehose(FirehoseRequest request) {
+            return Flux.defer(() -> {
+                ShardedFirehoseTest.this.requests.add(request);
+
+                if (ShardedFirehoseTest.this.failures.getAndDecrement() > 0) {
+                    return Flux.error(new IllegalStateException("test-failure"));
+                }
+
+                return Flux.range(0, ShardedFirehoseTest.this.eventsPerConnection)
+                    .map(i -> testEvent());
+            });
+        }
+
+        @Override
+        public Flux<LogMessage> recentLogs(RecentLogsRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<Event> stream(StreamRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+    };
+
+    @Test
+    public void events() {
+        ShardedFirehose firehose = new ShardedFirehose(this.dopplerClient, "test-subscription-id", 3, 16, Computations.concurrent("test", 256, 1, true));
+
+        List<Event> events = firehose.events()
+            .toList()
+            .get();
+
+        assertEquals(6, events.size());
+        assertEquals(3, this.requests.size());
+        this.requests.forEach(request -> assertEquals("test-subscription-id", request.getSubscriptionId()));
+        assertEquals(6, firehose.getReceived());
+        assertEquals(6, firehose.getDelivered());
+        assertEquals(0, firehose.getDropped());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidConnections() {
+        new ShardedFirehose(this.dopplerClient, "test-subscription-id", 0, 16, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidQueueSize() {
+        new ShardedFirehose(this.dopplerClient, "test-subscription-id", 1, 0, null);
+    }
+
+    @Test
+    public void reconnect() {
+        this.failures.set(1);
+        ShardedFirehose firehose = new ShardedFirehose(this.dopplerClient, "test-subscription-id", 2, 16, Computations.concurrent("test", 256, 1, true));
+
+        List<Event> events = firehose.events()
+            .toList()
+            .get(Duration.ofSeconds(10));
+
+        assertEquals(4, events.size());
+        assertEquals(3, this.requests.size());
+        assertEquals(1, firehose.getReconnects());
+    }
+
+    @Test
+    public void slowSubscriber() {
+        this.eventsPerConnection = 1_000;
+        ShardedFirehose firehose = new ShardedFirehose(this.dopplerClient, "test-subscription-id", 3, 16, Computations.concurrent("test", 256, 1, true));
+
+        List<Event> events = firehose.events()
+            .doOnNext(event -> {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            })
+            .toList()
+            .get(Duration.ofSeconds(30));
+
+        assertEquals(3_000, firehose.getReceived());
+        assertTrue(firehose.getDropped() > 0);
+        assertEquals(events.size(), firehose.getDelivered());
+        assertEquals(firehose.getReceived(), firehose.getDelivered() + firehose.getDropped());
+    }
+
+    private static Event testEvent() {
+        return CounterEvent.builder()
+            .delta(1L)
+            .name("test-name")
+            .total(1L)
+            .build();
+    }
+
+}
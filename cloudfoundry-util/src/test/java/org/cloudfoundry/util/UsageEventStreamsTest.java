@@ -0,0 +1,204 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.applicationusageevents.ApplicationUsageEventResource;
+import org.cloudfoundry.client.v2.applicationusageevents.ListApplicationUsageEventsResponse;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+public final class UsageEventStreamsTest {
+
+    private final List<String> actions = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final Queue<List<String>> pages = new ConcurrentLinkedQueue<>();
+
+    private final Function<Optional<String>, Mono<ListApplicationUsageEventsResponse>> pageSupplier = cursor -> Mono.defer(() -> {
+        this.actions.add("poll:" + cursor.orElse(""));
+
+        if (this.failures.getAndDecrement() > 0) {
+            return Mono.error(new IllegalStateException("test-failure"));
+        }
+
+        List<String> ids = Optional.ofNullable(this.pages.poll()).orElse(Collections.emptyList());
+        return Mono.just(ListApplicationUsageEventsResponse.builder()
+            .resources(ids.stream()
+                .map(UsageEventStreamsTest::testEvent)
+                .collect(Collectors.toList()))
+            .build());
+    });
+
+    @Test
+    public void checkpointAfterEmission() {
+        this.pages.add(Arrays.asList("test-id-1", "test-id-2"));
+        this.pages.add(Collections.singletonList("test-id-3"));
+
+        UsageEventStreams.stream(this.pageSupplier, new TestCheckpointStore(null), Duration.ofMillis(1), Duration.ofMillis(1))
+            .doOnNext(event -> this.actions.add("emit:" + ResourceUtils.getId(event)))
+            .take(3)
+            .toList()
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(Arrays.asList("poll:", "emit:test-id-1", "emit:test-id-2", "save:test-id-2", "poll:test-id-2", "emit:test-id-3"), this.actions);
+    }
+
+    @Test
+    public void delay() {
+        UsageEventStreams.Cursor cursor = new UsageEventStreams.Cursor(Optional.empty(), Duration.ofSeconds(1), Duration.ofSeconds(3));
+        List<Resource<?>> empty = Collections.emptyList();
+
+        assertEquals(Duration.ofSeconds(1), cursor.getDelay());
+
+        cursor.advance(empty, empty);
+        assertEquals(Duration.ofSeconds(2), cursor.getDelay());
+
+        cursor.advance(empty, empty);
+        assertEquals(Duration.ofSeconds(3), cursor.getDelay());
+
+        cursor.advance(empty, empty);
+        assertEquals(Duration.ofSeconds(3), cursor.getDelay());
+
+        List<Resource<?>> events = Collections.singletonList(testEvent("test-id-1"));
+        cursor.advance(events, events);
+        assertEquals(Duration.ofSeconds(1), cursor.getDelay());
+        assertEquals(Optional.of("test-id-1"), cursor.getEventId());
+
+        List<Resource<?>> full = testEvents(2, 100).stream()
+            .<Resource<?>>map(UsageEventStreamsTest::testEvent)
+            .collect(Collectors.toList());
+        cursor.advance(full, full);
+        assertEquals(Duration.ZERO, cursor.getDelay());
+
+        cursor.advance(empty, empty);
+        assertEquals(Duration.ofSeconds(1), cursor.getDelay());
+    }
+
+    @Test
+    public void duplicates() {
+        this.pages.add(Arrays.asList("test-id-0", "test-id-1", "test-id-1"));
+        this.pages.add(Arrays.asList("test-id-1", "test-id-2"));
+
+        List<String> ids = UsageEventStreams.stream(this.pageSupplier, new TestCheckpointStore("test-id-0"), Duration.ofMillis(1), Duration.ofMillis(1))
+            .take(2)
+            .map(ResourceUtils::getId)
+            .toList()
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(Arrays.asList("test-id-1", "test-id-2"), ids);
+    }
+
+    @Test
+    public void fullPage() {
+        this.pages.add(testEvents(1, 100));
+        this.pages.add(Collections.singletonList("test-id-101"));
+
+        List<String> ids = UsageEventStreams.stream(this.pageSupplier, new TestCheckpointStore(null), Duration.ofHours(1), Duration.ofHours(1))
+            .take(101)
+            .map(ResourceUtils::getId)
+            .toList()
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(101, ids.size());
+        assertEquals("test-id-101", ids.get(100));
+        assertEquals(Arrays.asList("poll:", "poll:test-id-100"), this.actions);
+    }
+
+    @Test
+    public void resume() {
+        this.pages.add(Collections.singletonList("test-id-2"));
+
+        List<String> ids = UsageEventStreams.stream(this.pageSupplier, new TestCheckpointStore("test-id-1"), Duration.ofMillis(1), Duration.ofMillis(1))
+            .take(1)
+            .map(ResourceUtils::getId)
+            .toList()
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(Collections.singletonList("test-id-2"), ids);
+        assertEquals("poll:test-id-1", this.actions.get(0));
+    }
+
+    @Test
+    public void retry() {
+        this.failures.set(2);
+        this.pages.add(Collections.singletonList("test-id-2"));
+
+        List<String> ids = UsageEventStreams.stream(this.pageSupplier, new TestCheckpointStore("test-id-1"), Duration.ofMillis(1), Duration.ofMillis(10))
+            .take(1)
+            .map(ResourceUtils::getId)
+            .toList()
+            .get(Duration.ofSeconds(5));
+
+        assertEquals(Collections.singletonList("test-id-2"), ids);
+        assertEquals(Arrays.asList("poll:test-id-1", "poll:test-id-1", "poll:test-id-1"), this.actions.subList(0, 3));
+    }
+
+    private static ApplicationUsageEventResource testEvent(String id) {
+        return ApplicationUsageEventResource.builder()
+            .metadata(Resource.Metadata.builder()
+                .id(id)
+                .build())
+            .build();
+    }
+
+    private static List<String> testEvents(int first, int count) {
+        return IntStream.range(first, first + count)
+            .mapToObj(i -> "test-id-" + i)
+            .collect(Collectors.toList());
+    }
+
+    private final class TestCheckpointStore implements UsageEventCheckpointStore {
+
+        private final String eventId;
+
+        private TestCheckpointStore(String eventId) {
+            this.eventId = eventId;
+        }
+
+        @Override
+        public Mono<String> load() {
+            return Mono.justOrEmpty(this.eventId);
+        }
+
+        @Override
+        public Mono<Void> save(String eventId) {
+            return Mono.defer(() -> {
+                UsageEventStreamsTest.this.actions.add("save:" + eventId);
+                return Mono.empty();
+            });
+        }
+
+    }
+
+}
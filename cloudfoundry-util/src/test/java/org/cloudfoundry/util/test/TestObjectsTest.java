@@ -22,11 +22,13 @@ import org.cloudfoundry.client.v2.applications.ApplicationResource;
 import org.cloudfoundry.client.v2.applications.CreateApplicationRequest;
 import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
 import org.cloudfoundry.client.v2.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v2.routes.RouteEntity;
 import org.junit.Test;
 
 import static org.cloudfoundry.util.test.TestObjects.fill;
 import static org.cloudfoundry.util.test.TestObjects.fillPage;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public final class TestObjectsTest {
 
@@ -102,6 +104,17 @@ public final class TestObjectsTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void fillEntityWithoutInlinedRelations() {
+
+        RouteEntity actual = fill(RouteEntity.builder()).build();
+
+        assertEquals("test-domainId", actual.getDomainId());
+        assertNull(actual.getApplications());
+        assertNull(actual.getDomain());
+        assertNull(actual.getSpace());
+    }
+
     @Test(expected = AssertionError.class)
     public void fillOfPaginated() {
         fill(ListApplicationsResponse.builder());